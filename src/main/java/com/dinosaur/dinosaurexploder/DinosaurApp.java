@@ -5,8 +5,10 @@ import com.almasb.fxgl.app.GameSettings;
 import com.almasb.fxgl.dsl.FXGL;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.controller.DinosaurController;
-import com.dinosaur.dinosaurexploder.model.GameEntityFactory;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import com.dinosaur.dinosaurexploder.utils.LanguageIndex;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
+import com.dinosaur.dinosaurexploder.utils.SessionTicker;
 import com.dinosaur.dinosaurexploder.view.DinosaurGUI;
 
 /**
@@ -15,8 +17,27 @@ import com.dinosaur.dinosaurexploder.view.DinosaurGUI;
  * entities in the game
  */
 public class DinosaurApp extends GameApplication {
-    DinosaurGUI gui = new DinosaurGUI();
-    DinosaurController controller = new DinosaurController();
+    private final GameContext context;
+    DinosaurGUI gui;
+    DinosaurController controller;
+
+    /**
+     * Summary :
+     * Desktop game, using the default context
+     */
+    public DinosaurApp() {
+        this(GameContext.getDefault());
+    }
+
+    /**
+     * Summary :
+     * Game running in its own session, the web app creates one per browser
+     */
+    public DinosaurApp(GameContext context) {
+        this.context = context;
+        this.gui = new DinosaurGUI(context);
+        this.controller = new DinosaurController(context);
+    }
 
     /**
      * Summary :
@@ -49,7 +70,12 @@ public class DinosaurApp extends GameApplication {
      */
     @Override
     protected void initGame() {
-        FXGL.getGameWorld().addEntityFactory(new GameEntityFactory());
+        SessionTicker ticker = context.getSessionTicker();
+        if (ticker != null) {
+            // First timer action, so that the tick also covers the spawners and the world update
+            ticker.beginTicksOn(FXGL.getGameTimer());
+        }
+        FXGL.getGameWorld().addEntityFactory(context.getEntityFactory());
         controller.initGame();
     }
 
@@ -63,6 +89,21 @@ public class DinosaurApp extends GameApplication {
         controller.initPhysics();
     }
 
+    /**
+     * Summary :
+     * This method is overriding the superclass method to run the per frame game logic.
+     * It runs after the world update, on the web server it ends the tick the session ticker began
+     * from the scene timer.
+     */
+    @Override
+    protected void onUpdate(double tpf) {
+        controller.onUpdate(tpf);
+        SessionTicker ticker = context.getSessionTicker();
+        if (ticker != null) {
+            ticker.endTick();
+        }
+    }
+
     /**
      * Summary :
      * This method launches the game as it is the main method of the class
@@ -70,6 +111,8 @@ public class DinosaurApp extends GameApplication {
      * Strings[]
      */
     public static void main(String[] args) {
+        // Parse the languages in the background while the window opens
+        LanguageIndex.ready();
         launch(args);
     }
 
@@ -1,24 +1,126 @@
 package com.dinosaur.dinosaurexploder;
 
 import com.almasb.fxgl.app.GameApplication;
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.constants.AdmissionResult;
+import com.dinosaur.dinosaurexploder.utils.AssetRegistry;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import com.dinosaur.dinosaurexploder.utils.DataProvider;
+import com.dinosaur.dinosaurexploder.utils.GameSession;
+import com.dinosaur.dinosaurexploder.utils.LanguageIndex;
+import com.dinosaur.dinosaurexploder.utils.LeaderboardService;
+import com.dinosaur.dinosaurexploder.utils.MemoryDataProvider;
+import com.dinosaur.dinosaurexploder.utils.ProfileDataProvider;
+import com.dinosaur.dinosaurexploder.utils.ProfileStore;
+import com.dinosaur.dinosaurexploder.utils.SessionManager;
+import com.dinosaur.dinosaurexploder.utils.SessionTickScheduler;
+import com.dinosaur.dinosaurexploder.utils.SessionTicker;
 import com.jpro.webapi.JProApplication;
+import com.jpro.webapi.WebAPI;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import javafx.scene.Scene;
 import javafx.scene.layout.StackPane;
 
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.regex.Pattern;
+
 public class DinosaurWebApp extends JProApplication {
+    // Cookie naming the profile of the browser, so a player keeps their progress between visits
+    private static final String PLAYER_COOKIE = "dinosaurPlayer";
+    private static final Pattern PLAYER_ID = Pattern.compile("[0-9a-f]{16}");
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    static {
+        // Decode the shared assets once, concurrently, when the server loads the app
+        AssetRegistry.getInstance().preload();
+        LanguageIndex.ready();
+    }
 
     @Override
     public void start(Stage stage) {
         System.setProperty("fxgl.isBrowser", "true");
 
-        GameApplication app = new DinosaurApp();
+        WebAPI webAPI = getWebAPI();
+        StackPane root = new StackPane();
+        root.setStyle("-fx-background-color: black;");
+        stage.setScene(new Scene(root));
+
+        // Every browser session gets its own context so players do not share state
+        String playerId = getPlayerId(webAPI);
+        GameContext context = new GameContext(createDataProvider(playerId));
+        context.setRemoteRendering(true);
+        // Players are not asked for a name yet, the id of their browser identifies them on the leaderboard
+        context.setPlayerId(playerId);
+        SessionManager sessionManager = SessionManager.getInstance();
+        GameSession session = sessionManager.createSession(webAPI.getInstanceID(), context,
+                admitted -> startGame(root, admitted), webAPI::closeInstance);
+        webAPI.addInstanceCloseListener(() -> sessionManager.release(session));
+
+        // Any key or click counts as activity, idle sessions are closed to make room
+        stage.getScene().addEventFilter(KeyEvent.KEY_PRESSED, event -> session.markActive());
+        stage.getScene().addEventFilter(MouseEvent.MOUSE_PRESSED, event -> session.markActive());
+
+        AdmissionResult admission = sessionManager.admit(session);
+        if (admission == AdmissionResult.QUEUED) {
+            showMessage(root, context.getLanguageManager().getTranslation(TranslationKey.SERVER_QUEUED));
+        } else if (admission == AdmissionResult.REJECTED) {
+            showMessage(root, context.getLanguageManager().getTranslation(TranslationKey.SERVER_FULL));
+        }
+    }
+
+    private void startGame(StackPane root, GameSession session) {
+        GameContext context = session.getContext();
+
+        // All sessions share the JavaFX thread, the scheduler keeps one busy session from slowing the others
+        SessionTicker ticker = SessionTickScheduler.getInstance()
+                .register(session.getId(), context.getQualityGovernor());
+        context.setSessionTicker(ticker);
+        session.addReleaseAction(ticker::close);
+        session.addReleaseAction(context.getAudioManager()::release);
+
+        try {
+            context.setLeaderboard(LeaderboardService.getShared());
+        } catch (IOException e) {
+            System.err.println("Leaderboard unavailable: " + e.getMessage());
+        }
+
+        GameApplication app = new DinosaurApp(context);
         var fxglRoot = GameApplication.embeddedLaunch(app);
+        root.getChildren().setAll(fxglRoot);
+    }
+
+    // Id stored in a cookie of the browser, a new browser gets a new random id
+    private static String getPlayerId(WebAPI webAPI) {
+        String playerId = webAPI.getWebsocketCookies().get(PLAYER_COOKIE);
+        if (playerId == null || !PLAYER_ID.matcher(playerId).matches()) {
+            playerId = String.format("%016x", RANDOM.nextLong());
+            webAPI.setCookie(PLAYER_COOKIE, playerId);
+        }
+        return playerId;
+    }
+
+    // The profile of the player in the shared store, or a session that saves nothing when the store cannot be opened
+    private static DataProvider createDataProvider(String playerId) {
+        try {
+            return new ProfileDataProvider(ProfileStore.getShared(), playerId);
+        } catch (IOException e) {
+            System.err.println("Player profiles unavailable: " + e.getMessage());
+            return new MemoryDataProvider();
+        }
+    }
 
-        stage.setScene(new Scene(new StackPane(fxglRoot)));
+    private void showMessage(StackPane root, String message) {
+        Text text = new Text(message);
+        text.setFill(Color.WHITE);
+        root.getChildren().setAll(text);
     }
 
     public static void main(String[] args) {
         launch(args);
     }
-}
\ No newline at end of file
+}
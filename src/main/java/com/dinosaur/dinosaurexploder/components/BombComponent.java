@@ -2,12 +2,18 @@ package com.dinosaur.dinosaurexploder.components;
 
 import com.almasb.fxgl.core.math.Vec2;
 import com.almasb.fxgl.entity.Entity;
-import com.almasb.fxgl.entity.SpawnData;
 import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.utils.AssetRegistry;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.interfaces.Bomb;
+import com.dinosaur.dinosaurexploder.utils.HudTextFormatter;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
-import com.dinosaur.dinosaurexploder.model.GameData;
+import com.dinosaur.dinosaurexploder.utils.LanguageSubscription;
+import com.dinosaur.dinosaurexploder.utils.SceneMutationCounter;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import com.dinosaur.dinosaurexploder.model.GlyphAtlas;
+import com.dinosaur.dinosaurexploder.view.BitmapText;
 
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
@@ -15,10 +21,8 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 
-import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
 
 public class BombComponent extends Component implements Bomb {
     private int bombCount = 3;
@@ -30,10 +34,23 @@ public class BombComponent extends Component implements Bomb {
     private int lastLevel = 1;
     private int coinCounter = 0;
     private static final int COINS_NEEDED_FOR_BOMB = 15; // Number of coins needed to regenerate a bomb
+    // Projectiles on each side of the straight one, 10 degrees apart
+    private static final int VOLLEY_SIDE_COUNT = 5;
+
+    private final GameContext context;
 
     public BombComponent() {
-        // Selected spaceship from GameData
-        this.selectedShip = GameData.getSelectedShip();
+        this(GameContext.getDefault());
+    }
+
+    public BombComponent(GameContext context) {
+        this.context = context;
+        // Selected spaceship from the session
+        this.selectedShip = context.getSelectedShip();
+        this.languageManager = context.getLanguageManager();
+        this.mutations = context.getSceneMutations();
+        this.bombFormatter = new HudTextFormatter(languageManager, TranslationKey.BOMBS_LEFT, mutations);
+        this.bitmapHud = context.isBitmapHud();
 
         //  Set the image of SelectedShip using the spaceship number
 
@@ -45,43 +62,75 @@ public class BombComponent extends Component implements Bomb {
     ImageView bomb3;
     // Declaring Bomb Text
     Text bombText;
+    // Used instead of bombText when the context draws the HUD from a glyph atlas
+    BitmapText bombBitmap;
 
 
     private Node bombUI;
 
-    private final LanguageManager languageManager = LanguageManager.getInstance();
+    private final LanguageManager languageManager;
+    private LanguageSubscription languageSubscription;
+    private final SceneMutationCounter mutations;
+    private final HudTextFormatter bombFormatter;
+    private final boolean bitmapHud;
+    // Bomb count currently shown, the UI is only touched when it differs
+    private int displayedBombCount = -1;
 
     @Override
     public void onAdded() {
-        Image bomb = new Image(GameConstants.BOMB_IMAGE_PATH);
+        Image bomb = AssetRegistry.getInstance().getImage(GameConstants.BOMB_IMAGE_PATH);
         bomb1 = new ImageView(bomb);
         bomb2 = new ImageView(bomb);
         bomb3 = new ImageView(bomb);
 
-        // Initialize bombText with the translated string
-        bombText = new Text(languageManager.getTranslation("bombs_left") + ": " + bombCount);
-
-        // Style the text
-        bombText.setFill(Color.ORANGE);
-        bombText.setFont(Font.font(GameConstants.ARCADE_CLASSIC_FONTNAME, 20));
-        bombText.setLayoutX(0);
-        bombText.setLayoutY(0);
+        if (bitmapHud) {
+            GlyphAtlas atlas = AssetRegistry.getInstance().getGlyphAtlas(GameConstants.ARCADE_CLASSIC_FONTNAME, 20, Color.ORANGE);
+            bombBitmap = new BitmapText(atlas);
+            // Same place as the text, which is drawn above its baseline
+            bombBitmap.setLayoutY(-atlas.getAscent());
+            bombFormatter.update(bombBitmap, bombCount);
+        } else {
+            // Initialize bombText with the translated string
+            bombText = new Text(bombFormatter.format(bombCount));
+
+            // Style the text
+            bombText.setFill(Color.ORANGE);
+            bombText.setFont(AssetRegistry.getInstance().getFont(GameConstants.ARCADE_CLASSIC_FONTNAME, 20));
+            bombText.setLayoutX(0);
+            bombText.setLayoutY(0);
+        }
 
         // Listen for language changes and update UI automatically
-        languageManager.selectedLanguageProperty().addListener((obs, oldVal, newVal) -> updateTexts());
+        languageSubscription = languageManager.onLanguageChange(this::updateTexts);
 
         // Initial bomb UI setup
         bombUI = createBombUI();
         entity.getViewComponent().addChild(bombUI);
     }
 
+    @Override
+    public void onRemoved() {
+        if (languageSubscription != null) {
+            languageSubscription.dispose();
+            languageSubscription = null;
+        }
+    }
+
     @Override
     public void onUpdate(double tpf) {
-        updateBombUI(); // Update the bomb UI every frame based on bombCount
+        // Update the bomb UI once per frame, only when bombCount changed
+        if (bombCount != displayedBombCount) {
+            updateBombUI();
+            displayedBombCount = bombCount;
+        }
     }
 
     private void updateTexts() {
-        bombText.setText(languageManager.getTranslation("bombs_left") + ": " + bombCount);
+        if (bombBitmap != null) {
+            bombFormatter.update(bombBitmap, bombCount);
+        } else {
+            bombFormatter.update(bombText, bombCount);
+        }
     }
 
     /**
@@ -99,7 +148,7 @@ public class BombComponent extends Component implements Bomb {
         bomb3.setLayoutX(60);
 
         container.getChildren().addAll(bomb1, bomb2, bomb3);
-        container.getChildren().add(bombText);
+        container.getChildren().add(bombBitmap != null ? bombBitmap : bombText);
 
         return container;
     }
@@ -108,11 +157,11 @@ public class BombComponent extends Component implements Bomb {
      * Updates the bomb UI based on the current bomb count.
      */
     protected void updateBombUI() {
-        bomb1.setVisible(bombCount >= 1);
-        bomb2.setVisible(bombCount >= 2);
-        bomb3.setVisible(bombCount >= 3);
+        mutations.setVisible(bomb1, bombCount >= 1);
+        mutations.setVisible(bomb2, bombCount >= 2);
+        mutations.setVisible(bomb3, bombCount >= 3);
         // Update bomb text with the remaining bombs
-        bombText.setText(languageManager.getTranslation("bombs_left") + ": " + bombCount);
+        updateTexts();
     }
 
     /**
@@ -149,20 +198,26 @@ public class BombComponent extends Component implements Bomb {
      */
     protected void spawnBombBullets(Entity player) {
         Point2D center = player.getCenter();
-        Image projImg = new Image(GameConstants.BASE_PROJECTILE_IMAGE_PATH);
+        Image projImg = AssetRegistry.getInstance().getImage(GameConstants.BASE_PROJECTILE_IMAGE_PATH);
 
         if (selectedShip != 0) {
             String shipImagePath = "/assets/textures/spaceship" + selectedShip + ".png";
             System.out.println("Selected spaceship: " + selectedShip);
-            this.spcshpImg = new Image(shipImagePath);
+            this.spcshpImg = AssetRegistry.getInstance().getImage(shipImagePath);
         }
 
-        for (int i = -5; i <= 5; i++) {
-            double angle = entity.getRotation() - 90 + i * 10;
-            Vec2 direction = Vec2.fromAngle(angle);
-            spawn("basicProjectile", new SpawnData(center.getX() - (projImg.getWidth() / 2) + 3, center.getY() - spcshpImg.getHeight() / 2)
-                    .put("direction", direction.toPoint2D()));
+        int count = 2 * VOLLEY_SIDE_COUNT + 1;
+        double[] x = new double[count];
+        double[] y = new double[count];
+        Point2D[] directions = new Point2D[count];
+        for (int i = 0; i < count; i++) {
+            double angle = entity.getRotation() - 90 + (i - VOLLEY_SIDE_COUNT) * 10;
+            x[i] = center.getX() - (projImg.getWidth() / 2) + 3;
+            y[i] = center.getY() - spcshpImg.getHeight() / 2;
+            directions[i] = Vec2.fromAngle(angle).toPoint2D();
         }
+        // The whole volley is built in one pass
+        context.getEntityFactory().spawnBatch("bombProjectile", x, y, directions, null);
         System.out.println("Bomb used! " + getBombCount() + " bombs left!");
     }
 
@@ -186,11 +241,20 @@ public class BombComponent extends Component implements Bomb {
      * Call this method whenever the player collects a coin.
      */
     public void trackCoinForBombRegeneration() {
-        coinCounter++;
+        trackCoinsForBombRegeneration(1);
+    }
+
+    /**
+     * Tracks a coin worth several coins, regenerates one bomb for every time the counter fills up.
+     *
+     * @param coins The number of coins collected at once
+     */
+    public void trackCoinsForBombRegeneration(int coins) {
+        coinCounter += coins;
         if (coinCounter >= COINS_NEEDED_FOR_BOMB) {
-            // Player has collected enough coins, regenerate one bomb
-            regenerateBomb(1);
-            coinCounter = 0; // Reset counter
+            // Player has collected enough coins, regenerate one bomb per full counter
+            regenerateBomb(coinCounter / COINS_NEEDED_FOR_BOMB);
+            coinCounter %= COINS_NEEDED_FOR_BOMB;
             System.out.println("Collected " + COINS_NEEDED_FOR_BOMB + " coins! Regenerated a bomb. Current bombs: " + bombCount);
         }
     }
@@ -1,14 +1,88 @@
 package com.dinosaur.dinosaurexploder.components;
 
+import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.component.Component;
 import com.dinosaur.dinosaurexploder.interfaces.Coin;
+import com.dinosaur.dinosaurexploder.model.CoinDenominations;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import com.dinosaur.dinosaurexploder.model.SpatialGrid;
+import javafx.scene.effect.ColorAdjust;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary :
+ * Falling coin worth one or more coins. Coins overlapping another coin are merged into it,
+ * the merged coin is worth both and takes the color of its denomination.
+ */
 public class CoinComponent extends Component implements Coin {
     private static final double COIN_SPEED = 100.0;
+    // Centers closer than this overlap enough to be merged
+    private static final double MERGE_DISTANCE = 20;
+    private static final double HUE_PER_TIER = 0.3;
+
+    private final SpatialGrid<Entity> coins;
+    // Coins found around this one, reused every frame
+    private final List<Entity> overlapping = new ArrayList<>();
+    private int value;
+    private int shownTier = 0;
+
+    public CoinComponent() {
+        this(GameContext.getDefault().getCoinGrid(), 1);
+    }
+
+    public CoinComponent(SpatialGrid<Entity> coins, int value) {
+        this.coins = coins;
+        this.value = value;
+    }
+
+    @Override
+    public void onAdded() {
+        updateLook();
+    }
 
     @Override
     public void onUpdate(double tpf) {
         // Move coin downward
         entity.translateY(COIN_SPEED * tpf);
+        if (value > 0) {
+            mergeOverlappingCoins();
+        }
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    private void mergeOverlappingCoins() {
+        overlapping.clear();
+        coins.queryRadius(entity.getX() + entity.getWidth() / 2, entity.getY() + entity.getHeight() / 2,
+                MERGE_DISTANCE, overlapping);
+        for (Entity other : overlapping) {
+            if (other == entity || !other.hasComponent(CoinComponent.class)) {
+                continue;
+            }
+            CoinComponent otherCoin = other.getComponent(CoinComponent.class);
+            // A coin already merged this frame may still be in the grid until it is removed
+            if (otherCoin.value == 0) {
+                continue;
+            }
+            value += otherCoin.value;
+            otherCoin.value = 0;
+            other.removeFromWorld();
+        }
+        overlapping.clear();
+        updateLook();
+    }
+
+    private void updateLook() {
+        int tier = CoinDenominations.tierOf(value);
+        if (tier == shownTier) {
+            return;
+        }
+        shownTier = tier;
+        entity.getViewComponent().getParent().setEffect(
+                new ColorAdjust(Math.min(1, tier * HUE_PER_TIER), 0, 0, 0));
     }
-}
\ No newline at end of file
+}
@@ -1,82 +1,115 @@
 package com.dinosaur.dinosaurexploder.components;
 
 import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.utils.AssetRegistry;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.interfaces.CollectedCoins;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import com.dinosaur.dinosaurexploder.utils.HudTextFormatter;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
+import com.dinosaur.dinosaurexploder.utils.SceneMutationCounter;
 import com.dinosaur.dinosaurexploder.model.TotalCoins;
+import com.dinosaur.dinosaurexploder.view.BitmapText;
 import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.scene.text.Text;
-import java.io.*;
 
 public class CollectedCoinsComponent extends Component implements CollectedCoins {
     private int coin = 0;
     private final int COIN_VALUE = 1;
 
-    private static TotalCoins totalCoins = new TotalCoins();
+    private final GameContext context;
+    private final LanguageManager languageManager;
 
-    private final LanguageManager languageManager = LanguageManager.getInstance();
+    private final SceneMutationCounter mutations;
+    private final HudTextFormatter coinFormatter;
 
     private Text coinText;
+    // Used instead of coinText when the context draws the HUD from a glyph atlas
+    private BitmapText coinBitmap;
+    // Coins currently shown, the text is only touched when it differs
+    private int displayedCoin = -1;
     private Node coinUI;
 
+    public CollectedCoinsComponent() {
+        this(GameContext.getDefault());
+    }
+
+    public CollectedCoinsComponent(GameContext context) {
+        this.context = context;
+        this.languageManager = context.getLanguageManager();
+        this.mutations = context.getSceneMutations();
+        this.coinFormatter = new HudTextFormatter(languageManager, TranslationKey.COIN, mutations);
+    }
+
     @Override
     public void onAdded() {
         loadTotalCoins(); // Deserialize once when the component is added
 
         // Create UI elements
-        coinText = new Text();
-        coinText.setFill(Color.PURPLE);
-        coinText.setFont(Font.font(GameConstants.ARCADE_CLASSIC_FONTNAME, 20));
-        coinText.setLayoutX(0);
-        coinText.setLayoutY(0);
+        if (context.isBitmapHud()) {
+            coinBitmap = new BitmapText(AssetRegistry.getInstance().getGlyphAtlas(
+                    GameConstants.ARCADE_CLASSIC_FONTNAME, 20, Color.PURPLE));
+        } else {
+            coinText = new Text();
+            coinText.setFill(Color.PURPLE);
+            coinText.setFont(AssetRegistry.getInstance().getFont(GameConstants.ARCADE_CLASSIC_FONTNAME, 20));
+            coinText.setLayoutX(0);
+            coinText.setLayoutY(0);
+        }
 
         coinUI = createCoinUI();
         entity.getViewComponent().addChild(coinUI);
     }
 
     protected void updateText() {
-        coinText.setText(languageManager.getTranslation("coin") + ": " + coin);
+        if (coinBitmap != null) {
+            coinFormatter.update(coinBitmap, coin);
+        } else {
+            coinFormatter.update(coinText, coin);
+        }
+        displayedCoin = coin;
     }
 
     private Node createCoinUI() {
         var container = new HBox(5);
-        Image image = new Image(GameConstants.COIN_IMAGE_PATH, 25, 20, false, false);
+        Image image = AssetRegistry.getInstance().getImage(GameConstants.COIN_IMAGE_PATH, 25, 20);
         ImageView imageView = new ImageView(image);
-        container.getChildren().addAll(coinText, imageView);
+        container.getChildren().addAll(coinBitmap != null ? coinBitmap : coinText, imageView);
         return container;
     }
 
     private void loadTotalCoins() {
-        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(GameConstants.TOTAL_COINS_FILE))) {
-            totalCoins = (TotalCoins) in.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            totalCoins = new TotalCoins(); // Defaults to 0 if file is missing or corrupted
-        }
+        context.setTotalCoins(context.getDataProvider().getTotalCoins());
     }
 
     private void saveTotalCoins() {
-        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(GameConstants.TOTAL_COINS_FILE))) {
-            out.writeObject(totalCoins);
-        } catch (IOException e) {
-            System.err.println("Error saving coins: " + e.getMessage());
-        }
+        context.getDataProvider().saveTotalCoins(context.getTotalCoins());
     }
 
     @Override
     public void onUpdate(double tpf) {
-        updateText();
+        if (coin != displayedCoin) {
+            updateText();
+        }
     }
 
     public void incrementCoin() {
-        coin += COIN_VALUE;
-        totalCoins.setTotal(totalCoins.getTotal() + COIN_VALUE);
-        updateText();
+        addCoins(COIN_VALUE);
+    }
+
+    /**
+     * Summary :
+     * Adds the coins of a coin worth several coins, the total is recorded once for all of them
+     */
+    public void addCoins(int amount) {
+        coin += amount;
+        TotalCoins totalCoins = context.getTotalCoins();
+        totalCoins.setTotal(totalCoins.getTotal() + amount);
         saveTotalCoins();
     }
 
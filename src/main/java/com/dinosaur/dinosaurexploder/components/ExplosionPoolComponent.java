@@ -0,0 +1,180 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.entity.component.Component;
+import com.almasb.fxgl.texture.AnimatedTexture;
+import com.almasb.fxgl.texture.AnimationChannel;
+import com.dinosaur.dinosaurexploder.utils.AssetRegistry;
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.constants.ParticleEffect;
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+import javafx.util.Duration;
+
+/**
+ * Summary :
+ * Plays every explosion of the game from a fixed ring of reusable animated textures.
+ * All of them share a single AnimationChannel, so a kill allocates nothing.
+ * When every slot is busy, an explosion close to a running one is merged into it,
+ * otherwise it is skipped.
+ */
+public class ExplosionPoolComponent extends Component {
+    public static final int DEFAULT_POOL_SIZE = 10;
+    public static final double MERGE_DISTANCE = 60;
+    private static final Duration EXPLOSION_DURATION = Duration.seconds(0.4);
+    private static final int EXPLOSION_FRAMES = 16;
+    private static final double EXPLOSION_CENTER = 64;
+    private static final int DEBRIS_PER_EXPLOSION = 24;
+
+    private static AnimationChannel sharedChannel;
+
+    private final int poolSize;
+    private final boolean[] active;
+    private final double[] slotX;
+    private final double[] slotY;
+    private AnimatedTexture[] textures;
+    private int cursor = 0;
+    private int activeCount = 0;
+    private int activeLimit;
+    private ParticleSystemComponent particleSystem;
+
+    private int mergedCount = 0;
+    private int skippedCount = 0;
+
+    public ExplosionPoolComponent() {
+        this(DEFAULT_POOL_SIZE);
+    }
+
+    public ExplosionPoolComponent(int poolSize) {
+        this.poolSize = poolSize;
+        this.active = new boolean[poolSize];
+        this.slotX = new double[poolSize];
+        this.slotY = new double[poolSize];
+        this.activeLimit = poolSize;
+    }
+
+    @Override
+    public void onAdded() {
+        AnimationChannel channel = getSharedChannel();
+        textures = new AnimatedTexture[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            AnimatedTexture texture = new AnimatedTexture(channel);
+            texture.setVisible(false);
+            int slot = i;
+            texture.setOnCycleFinished(() -> release(slot));
+            textures[i] = texture;
+            entity.getViewComponent().addChild(texture);
+        }
+    }
+
+    /**
+     * Summary :
+     * Plays an explosion with its top left corner at the given position.
+     * Returns false when the pool was exhausted and the explosion got merged or skipped.
+     */
+    public boolean spawnExplosion(double x, double y) {
+        if (particleSystem != null) {
+            particleSystem.burst(ParticleEffect.DEBRIS, x + EXPLOSION_CENTER, y + EXPLOSION_CENTER, DEBRIS_PER_EXPLOSION);
+        }
+
+        for (int i = 0; i < poolSize && activeCount < activeLimit; i++) {
+            int slot = (cursor + i) % poolSize;
+            if (!active[slot]) {
+                active[slot] = true;
+                activeCount++;
+                slotX[slot] = x;
+                slotY[slot] = y;
+                cursor = (slot + 1) % poolSize;
+                playSlot(slot, x, y);
+                return true;
+            }
+        }
+
+        // Pool exhausted: a nearby running explosion already covers this one
+        double mergeDistanceSq = MERGE_DISTANCE * MERGE_DISTANCE;
+        for (int slot = 0; slot < poolSize; slot++) {
+            if (!active[slot]) continue;
+            double dx = slotX[slot] - x;
+            double dy = slotY[slot] - y;
+            if (dx * dx + dy * dy <= mergeDistanceSq) {
+                mergedCount++;
+                return false;
+            }
+        }
+        skippedCount++;
+        return false;
+    }
+
+    /**
+     * Summary :
+     * Restarts the animated texture of a slot at the given position
+     */
+    protected void playSlot(int slot, double x, double y) {
+        AnimatedTexture texture = textures[slot];
+        texture.setTranslateX(x);
+        texture.setTranslateY(y);
+        texture.setVisible(true);
+        texture.play();
+    }
+
+    /**
+     * Summary :
+     * Gives a slot back to the pool once its animation is over
+     */
+    protected void release(int slot) {
+        if (active[slot]) {
+            active[slot] = false;
+            activeCount--;
+        }
+        if (textures != null) {
+            textures[slot].stop();
+            textures[slot].setVisible(false);
+        }
+    }
+
+    /**
+     * Summary :
+     * Sets the particle system receiving the debris thrown by every explosion
+     */
+    public void setParticleSystem(ParticleSystemComponent particleSystem) {
+        this.particleSystem = particleSystem;
+    }
+
+    /**
+     * Summary :
+     * Throttles how many explosions may play at once, every slot on high quality,
+     * half of them on medium and a couple on low
+     */
+    public void setQuality(QualityLevel quality) {
+        switch (quality) {
+            case LOW -> activeLimit = Math.min(poolSize, 2);
+            case MEDIUM -> activeLimit = Math.max(1, poolSize / 2);
+            default -> activeLimit = poolSize;
+        }
+    }
+
+    public int getActiveLimit() {
+        return activeLimit;
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public int getMergedCount() {
+        return mergedCount;
+    }
+
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    private static synchronized AnimationChannel getSharedChannel() {
+        if (sharedChannel == null) {
+            sharedChannel = new AnimationChannel(AssetRegistry.getInstance().getImage(GameConstants.EXPLOSION_IMAGE_PATH), EXPLOSION_DURATION, EXPLOSION_FRAMES);
+        }
+        return sharedChannel;
+    }
+}
@@ -0,0 +1,120 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+import com.dinosaur.dinosaurexploder.model.PositionHistory;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary :
+ * Afterimage trail of the spaceship. The last positions of the ship are kept in a ring buffer
+ * and shown by a fixed set of preallocated ghost images sharing the ship image,
+ * so moving the ship allocates nothing.
+ */
+public class GhostTrailComponent extends Component {
+    public static final int DEFAULT_GHOST_COUNT = 4;
+    // Frames between two ghosts
+    private static final int GHOST_SPACING = 2;
+    private static final double FIRST_GHOST_OPACITY = 0.45;
+    // Ghosts closer than this to the ship are hidden behind it
+    private static final double MIN_GHOST_DISTANCE = 1.0;
+
+    private final Image shipImage;
+    private final int ghostCount;
+    private final PositionHistory history;
+    private ImageView[] ghosts;
+    private int visibleGhosts;
+
+    public GhostTrailComponent(Image shipImage) {
+        this(shipImage, DEFAULT_GHOST_COUNT);
+    }
+
+    public GhostTrailComponent(Image shipImage, int ghostCount) {
+        this.shipImage = shipImage;
+        this.ghostCount = ghostCount;
+        this.visibleGhosts = ghostCount;
+        this.history = new PositionHistory(ghostCount * GHOST_SPACING + 1);
+    }
+
+    @Override
+    public void onAdded() {
+        ghosts = new ImageView[ghostCount];
+        for (int i = 0; i < ghostCount; i++) {
+            ImageView ghost = new ImageView(shipImage);
+            ghost.setVisible(false);
+            ghost.setMouseTransparent(true);
+            ghosts[i] = ghost;
+        }
+
+        // The ghosts go under the ship image, so the view is rebuilt with them first
+        List<Node> shipNodes = new ArrayList<>(entity.getViewComponent().getChildren());
+        entity.getViewComponent().clearChildren();
+        for (int i = ghostCount - 1; i >= 0; i--) {
+            entity.getViewComponent().addChild(ghosts[i]);
+        }
+        for (Node node : shipNodes) {
+            entity.getViewComponent().addChild(node);
+        }
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        double shipX = entity.getX();
+        double shipY = entity.getY();
+        history.record(shipX, shipY);
+
+        for (int i = 0; i < ghostCount; i++) {
+            ImageView ghost = ghosts[i];
+            int stepsBack = (i + 1) * GHOST_SPACING;
+            if (i >= visibleGhosts || !history.has(stepsBack)) {
+                ghost.setVisible(false);
+                continue;
+            }
+
+            // The ghosts live in the ship's view, so they are placed relative to the ship
+            double dx = history.getX(stepsBack) - shipX;
+            double dy = history.getY(stepsBack) - shipY;
+            if (Math.abs(dx) + Math.abs(dy) < MIN_GHOST_DISTANCE) {
+                ghost.setVisible(false);
+                continue;
+            }
+            ghost.setTranslateX(dx);
+            ghost.setTranslateY(dy);
+            ghost.setOpacity(FIRST_GHOST_OPACITY * (ghostCount - i) / ghostCount);
+            ghost.setVisible(true);
+        }
+    }
+
+    /**
+     * Summary :
+     * Limits how many ghosts are drawn, the others stay allocated but hidden
+     */
+    public void setVisibleGhosts(int visibleGhosts) {
+        this.visibleGhosts = Math.max(0, Math.min(ghostCount, visibleGhosts));
+    }
+
+    /**
+     * Summary :
+     * Full trail on high quality, half of it on medium and none on low
+     */
+    public void setQuality(QualityLevel quality) {
+        switch (quality) {
+            case LOW -> setVisibleGhosts(0);
+            case MEDIUM -> setVisibleGhosts(ghostCount / 2);
+            default -> setVisibleGhosts(ghostCount);
+        }
+    }
+
+    public int getVisibleGhosts() {
+        return visibleGhosts;
+    }
+
+    public int getGhostCount() {
+        return ghostCount;
+    }
+}
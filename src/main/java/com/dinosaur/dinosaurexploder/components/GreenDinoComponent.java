@@ -22,6 +22,15 @@ public class GreenDinoComponent extends Component implements Dinosaur {
     private final LocalTimer timer = FXGL.newLocalTimer();
     private boolean isPaused = false;
     private int lives = 1;
+    private final AudioManager audioManager;
+
+    public GreenDinoComponent() {
+        this(AudioManager.getInstance());
+    }
+
+    public GreenDinoComponent(AudioManager audioManager) {
+        this.audioManager = audioManager;
+    }
 
     public int getLives(){
         return lives;
@@ -64,7 +73,7 @@ public class GreenDinoComponent extends Component implements Dinosaur {
     @Override
     public void shoot() {
        
-        AudioManager.getInstance().playSound(GameConstants.SHOOT_SOUND);
+        audioManager.playSound(GameConstants.SHOOT_SOUND);
         
         Point2D center = entity.getCenter();
         Vec2 direction = Vec2.fromAngle(entity.getRotation() +90);
@@ -2,6 +2,8 @@ package com.dinosaur.dinosaurexploder.components;
 
 import com.almasb.fxgl.entity.component.Component;
 import com.dinosaur.dinosaurexploder.interfaces.Dinosaur;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import com.dinosaur.dinosaurexploder.utils.SceneMutationCounter;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 
@@ -17,6 +19,15 @@ public class HealthbarComponent extends Component {
     double maxWidht;
 
     private Rectangle healthbar;
+    private final SceneMutationCounter mutations;
+
+    public HealthbarComponent() {
+        this(GameContext.getDefault());
+    }
+
+    public HealthbarComponent(GameContext context) {
+        this.mutations = context.getSceneMutations();
+    }
 
     public Dinosaur getDinoComponent() {
         return dinoComponent;
@@ -49,9 +60,7 @@ public class HealthbarComponent extends Component {
         int currentHealth = dinoComponent.getLives();
         double percentage = ((double) currentHealth / maxHealth);
         double width = (percentage * maxWidht);
-        healthbar.setWidth(width);
-
-        entity.getViewComponent().clearChildren();
-        entity.getViewComponent().addChild(healthbar);
+        // The rectangle stays in the view, only its width changes
+        mutations.setWidth(healthbar, width);
     }
 }
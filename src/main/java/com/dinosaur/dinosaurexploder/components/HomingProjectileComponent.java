@@ -0,0 +1,71 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.model.SpatialGrid;
+import javafx.geometry.Point2D;
+
+/**
+ * Summary :
+ * Missile of the homing weapon. Every frame it looks up the nearest dinosaur in the enemy grid
+ * and turns toward it, at most by the turn rate, then flies straight on at a constant speed.
+ * Without a dinosaur in range it keeps its heading.
+ */
+public class HomingProjectileComponent extends Component {
+    private final SpatialGrid<Entity> enemies;
+    private final double speed;
+    // Radians per second
+    private final double turnRate;
+    private final double range;
+
+    private double directionX;
+    private double directionY;
+
+    public HomingProjectileComponent(SpatialGrid<Entity> enemies, Point2D direction, double speed,
+                                     double turnRate, double range) {
+        this.enemies = enemies;
+        this.speed = speed;
+        this.turnRate = turnRate;
+        this.range = range;
+        Point2D normalized = direction.normalize();
+        this.directionX = normalized.getX();
+        this.directionY = normalized.getY();
+    }
+
+    @Override
+    public void onAdded() {
+        entity.getTransformComponent().setRotationOrigin(new Point2D(entity.getWidth() / 2, entity.getHeight() / 2));
+        entity.setRotation(Math.toDegrees(Math.atan2(directionY, directionX)));
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        double centerX = entity.getX() + entity.getWidth() / 2;
+        double centerY = entity.getY() + entity.getHeight() / 2;
+
+        Entity target = enemies.nearest(centerX, centerY, range);
+        if (target != null) {
+            double toTargetX = target.getX() + target.getWidth() / 2 - centerX;
+            double toTargetY = target.getY() + target.getHeight() / 2 - centerY;
+            if (toTargetX != 0 || toTargetY != 0) {
+                steer(Math.atan2(toTargetY, toTargetX), tpf);
+            }
+        }
+
+        entity.translate(directionX * speed * tpf, directionY * speed * tpf);
+    }
+
+    public Point2D getDirection() {
+        return new Point2D(directionX, directionY);
+    }
+
+    private void steer(double targetAngle, double tpf) {
+        double angle = Math.atan2(directionY, directionX);
+        double difference = Math.IEEEremainder(targetAngle - angle, 2 * Math.PI);
+        double maxTurn = turnRate * tpf;
+        angle += Math.max(-maxTurn, Math.min(maxTurn, difference));
+        directionX = Math.cos(angle);
+        directionY = Math.sin(angle);
+        entity.setRotation(Math.toDegrees(angle));
+    }
+}
@@ -0,0 +1,102 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.model.SpatialGrid;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+import java.util.function.Consumer;
+
+/**
+ * Summary :
+ * Continuous beam of the laser weapon. While the trigger is held a ray is cast every frame from
+ * the center of the ship through the enemy grid, the beam stops at the first dinosaur in its way
+ * and that dinosaur takes a hit every damage interval. The ray only visits the grid cells it crosses,
+ * so the cost does not grow with the number of dinosaurs on screen.
+ */
+public class LaserComponent extends Component {
+    private static final double BEAM_WIDTH = 6;
+
+    private final SpatialGrid<Entity> enemies;
+    private final double range;
+    private final double damageInterval;
+    private final Rectangle beam = new Rectangle(BEAM_WIDTH, 0, Color.web("#ff3b6b", 0.85));
+
+    private Consumer<Entity> onHit = dino -> {
+    };
+    private boolean triggerHeld = false;
+    private boolean firing = false;
+    private double cooldown = 0;
+    private Entity target;
+
+    public LaserComponent(SpatialGrid<Entity> enemies, double range, double damageInterval) {
+        this.enemies = enemies;
+        this.range = range;
+        this.damageInterval = damageInterval;
+        beam.setVisible(false);
+    }
+
+    @Override
+    public void onAdded() {
+        entity.getViewComponent().addChild(beam);
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        // The trigger is read once per frame whether the input is handled before or after the update
+        firing = triggerHeld;
+        triggerHeld = false;
+        cooldown = Math.max(0, cooldown - tpf);
+        if (!firing) {
+            target = null;
+            beam.setVisible(false);
+            return;
+        }
+
+        double angle = Math.toRadians(entity.getRotation() - 90);
+        double centerX = entity.getWidth() / 2;
+        double centerY = entity.getHeight() / 2;
+        target = enemies.raycast(entity.getX() + centerX, entity.getY() + centerY,
+                Math.cos(angle), Math.sin(angle), range);
+        double length = target == null ? range : enemies.getLastRayDistance();
+
+        beam.setX(centerX - BEAM_WIDTH / 2);
+        beam.setY(centerY - length);
+        beam.setHeight(length);
+        beam.setVisible(true);
+
+        if (target != null && cooldown == 0) {
+            cooldown = damageInterval;
+            onHit.accept(target);
+        }
+    }
+
+    /**
+     * Summary :
+     * Keeps the laser on for the current frame, called for every frame the trigger is held
+     */
+    public void fire() {
+        triggerHeld = true;
+    }
+
+    public boolean isFiring() {
+        return firing;
+    }
+
+    /**
+     * Summary :
+     * Dinosaur the beam stopped on in the last frame, null when it hit nothing
+     */
+    public Entity getTarget() {
+        return target;
+    }
+
+    public double getBeamLength() {
+        return beam.getHeight();
+    }
+
+    public void setOnHit(Consumer<Entity> onHit) {
+        this.onHit = onHit;
+    }
+}
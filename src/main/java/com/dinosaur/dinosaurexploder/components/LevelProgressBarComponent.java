@@ -3,6 +3,7 @@ package com.dinosaur.dinosaurexploder.components;
 import com.almasb.fxgl.animation.Interpolators;
 import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
@@ -19,6 +20,7 @@ public class LevelProgressBarComponent extends Component {
     private final Rectangle fill;
     private final LevelManager levelManager;
     private boolean isLocked = false;
+    private boolean isAnimated = true;
 
     public LevelProgressBarComponent(Rectangle fill, LevelManager levelManager) {
         this.fill = fill;
@@ -41,7 +43,23 @@ public class LevelProgressBarComponent extends Component {
         updateWidth(MAX_WIDTH * progress, RESET_DURATION);
     }
 
+    /**
+     * Summary :
+     * On low quality the bar jumps to its new width instead of being animated
+     */
+    public void setQuality(QualityLevel quality) {
+        isAnimated = quality != QualityLevel.LOW;
+    }
+
+    public boolean isAnimated() {
+        return isAnimated;
+    }
+
     private void updateWidth(double targetWidth, Duration duration) {
+        if (!isAnimated) {
+            fill.setWidth(targetWidth);
+            return;
+        }
         FXGL.animationBuilder()
                 .duration(duration)
                 .interpolator(Interpolators.EXPONENTIAL.EASE_OUT())
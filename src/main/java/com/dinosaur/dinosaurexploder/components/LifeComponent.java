@@ -1,14 +1,21 @@
 package com.dinosaur.dinosaurexploder.components;
 
 import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.utils.AssetRegistry;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.interfaces.Life;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import com.dinosaur.dinosaurexploder.model.GlyphAtlas;
+import com.dinosaur.dinosaurexploder.utils.HudTextFormatter;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
+import com.dinosaur.dinosaurexploder.utils.LanguageSubscription;
+import com.dinosaur.dinosaurexploder.utils.SceneMutationCounter;
+import com.dinosaur.dinosaurexploder.view.BitmapText;
 import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 
 import java.util.List;
@@ -26,68 +33,110 @@ public class LifeComponent extends Component implements Life {
 
     // Declaring Lives Text
     private Text lifeText;
+    // Used instead of lifeText when the context draws the HUD from a glyph atlas
+    private BitmapText lifeBitmap;
     // Declaring 3 Hearts
     private ImageView heart1;
     private ImageView heart2;
     private ImageView heart3;
 
-    private final LanguageManager languageManager = LanguageManager.getInstance();
+    private final LanguageManager languageManager;
+    private LanguageSubscription languageSubscription;
+    private final SceneMutationCounter mutations;
+    private final HudTextFormatter lifeFormatter;
+    private final boolean bitmapHud;
+    // Life currently shown by the hearts, the display is only touched when it differs
+    private int displayedLife = Integer.MIN_VALUE;
+
+    public LifeComponent() {
+        this(GameContext.getDefault());
+    }
+
+    public LifeComponent(GameContext context) {
+        this.languageManager = context.getLanguageManager();
+        this.mutations = context.getSceneMutations();
+        this.lifeFormatter = new HudTextFormatter(languageManager, TranslationKey.LIVES, mutations);
+        this.bitmapHud = context.isBitmapHud();
+    }
 
     @Override
     public void onAdded() {
-        heart = new Image(GameConstants.HEART_IMAGE_PATH);
+        heart = AssetRegistry.getInstance().getImage(GameConstants.HEART_IMAGE_PATH);
+        heartLost = AssetRegistry.getInstance().getImage(GameConstants.HEART_LOST_IMAGE_PATH);
         heart1 = new ImageView(heart);
         heart2 = new ImageView(heart);
         heart3 = new ImageView(heart);
 
-        // Initialize lifeText with the translated string
-        lifeText = new Text(languageManager.getTranslation("lives"));
-
-        // Style the text
-        lifeText.setFill(Color.RED);
-        lifeText.setFont(Font.font(GameConstants.ARCADE_CLASSIC_FONTNAME, 20));
+        Node lifeNode;
+        if (bitmapHud) {
+            GlyphAtlas atlas = AssetRegistry.getInstance().getGlyphAtlas(GameConstants.ARCADE_CLASSIC_FONTNAME, 20, Color.RED);
+            lifeBitmap = new BitmapText(atlas);
+            // Same place as the text, which is drawn above its baseline
+            lifeBitmap.setLayoutY(-atlas.getAscent());
+            lifeNode = lifeBitmap;
+        } else {
+            // Initialize lifeText with the translated string
+            lifeText = new Text(languageManager.getTranslation(TranslationKey.LIVES));
+
+            // Style the text
+            lifeText.setFill(Color.RED);
+            lifeText.setFont(AssetRegistry.getInstance().getFont(GameConstants.ARCADE_CLASSIC_FONTNAME, 20));
+            lifeNode = lifeText;
+        }
 
         // Listen for language changes and update UI automatically
-        languageManager.selectedLanguageProperty().addListener((obs, oldVal, newVal) -> updateTexts());
+        languageSubscription = languageManager.onLanguageChange(this::updateTexts);
+
+        // The hearts and the text are added once, later updates only change their images and text
+        List<ImageView> lives = List.of(heart1, heart2, heart3);
+        for (int i = 0; i < MAX_LIVES; i++) {
+            ImageView currentHeart = lives.get(i);
+            currentHeart.setLayoutY(10);
+            currentHeart.setLayoutX(i * 30);
+            setEntity(currentHeart);
+        }
+        setEntity(lifeNode);
 
         // Initial display update
         updateLifeDisplay();
     }
 
+    @Override
+    public void onRemoved() {
+        // Stop following the language, the HUD of the next game has its own subscription
+        if (languageSubscription != null) {
+            languageSubscription.dispose();
+            languageSubscription = null;
+        }
+    }
+
     @Override
     public void onUpdate(double ptf) {
-        updateLifeDisplay(); // Update hearts and text display every frame
+        // The life can change many times in a frame, the display follows once per frame
+        if (life != displayedLife) {
+            updateLifeDisplay();
+        }
     }
 
     private void updateTexts() {
-        lifeText.setText(languageManager.getTranslation("lives") + ": " + life);
+        if (lifeBitmap != null) {
+            lifeFormatter.update(lifeBitmap, life);
+        } else {
+            lifeFormatter.update(lifeText, life);
+        }
     }
 
     private void updateLifeDisplay() {
-        heartLost = new Image(GameConstants.HEART_LOST_IMAGE_PATH);
-        // Clear previous entities
-        clearEntity();
-
         List<ImageView> lives = List.of(heart1, heart2, heart3);
 
         // Set the appropriate number of hearts based on `life`
-        for(int i = MAX_LIVES; i > 0; i--){
-            ImageView currentHeart = lives.get(MAX_LIVES - i);
-            if(i > life){
-                currentHeart.setImage(heartLost);
-            }else{
-                currentHeart.setImage(heart);
-
-            }
-
-            currentHeart.setLayoutY(10);
-            currentHeart.setLayoutX((MAX_LIVES -i) * 30);
-            setEntity(currentHeart);
+        for (int i = MAX_LIVES; i > 0; i--) {
+            mutations.setImage(lives.get(MAX_LIVES - i), i > life ? heartLost : heart);
         }
 
         // Display the lifeText component
-        lifeText.setText(languageManager.getTranslation("lives") + ": " + life);
-        setEntity(lifeText);
+        updateTexts();
+        displayedLife = life;
     }
 
     // Created two methods for shorter and cleaner code
@@ -0,0 +1,16 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.entity.component.Component;
+
+/**
+ * Summary :
+ * This handles the behaviour of dropped magnets, they fall like hearts until the ship picks them up
+ */
+public class MagnetPickup extends Component {
+    private static final double MAGNET_SPEED = 100.0;
+
+    @Override
+    public void onUpdate(double tpf) {
+        entity.translateY(MAGNET_SPEED * tpf);
+    }
+}
@@ -28,11 +28,17 @@ public class OrangeDinoComponent extends Component implements Dinosaur {
     private int lives = 10;
     private final GameTimer gameTimer;
     private final PlayerComponent playerComponent;
+    private final AudioManager audioManager;
     Point2D playerPosition;
 
     public OrangeDinoComponent(GameTimer gameTimer, PlayerComponent playerComponent) {
+        this(gameTimer, playerComponent, AudioManager.getInstance());
+    }
+
+    public OrangeDinoComponent(GameTimer gameTimer, PlayerComponent playerComponent, AudioManager audioManager) {
         this.gameTimer = gameTimer;
         this.playerComponent = playerComponent;
+        this.audioManager = audioManager;
     }
 
     private boolean isPaused = false;
@@ -157,7 +163,7 @@ public class OrangeDinoComponent extends Component implements Dinosaur {
     @Override
     public void shoot() {
      
-            AudioManager.getInstance().playSound(GameConstants.SHOOT_SOUND);
+            audioManager.playSound(GameConstants.SHOOT_SOUND);
         
         Point2D center = entity.getCenter();
         Vec2 direction = Vec2.fromAngle(entity.getRotation() + 90 + random(-45, 45));
@@ -0,0 +1,86 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.constants.ParticleEffect;
+
+/**
+ * Summary :
+ * Attaches a particle effect to an entity. It either emits continuously at a given rate
+ * or only when emit() is called, always from the entity's anchor point.
+ */
+public class ParticleEmitterComponent extends Component {
+    private final ParticleEffect effect;
+    private final double rate;
+    private final double anchorX;
+    private final double anchorY;
+
+    private ParticleSystemComponent particleSystem;
+    private double pending = 0;
+
+    /**
+     * Summary :
+     * Emitter that only emits when emit() is called, from the entity's center
+     */
+    public ParticleEmitterComponent(ParticleEffect effect) {
+        this(effect, 0);
+    }
+
+    /**
+     * Summary :
+     * Emitter that emits rate particles per second from the entity's center
+     */
+    public ParticleEmitterComponent(ParticleEffect effect, double rate) {
+        this(effect, rate, 0.5, 0.5);
+    }
+
+    /**
+     * Summary :
+     * Emitter whose anchor is given as a fraction of the entity's width and height
+     */
+    public ParticleEmitterComponent(ParticleEffect effect, double rate, double anchorX, double anchorY) {
+        this.effect = effect;
+        this.rate = rate;
+        this.anchorX = anchorX;
+        this.anchorY = anchorY;
+    }
+
+    public void setParticleSystem(ParticleSystemComponent particleSystem) {
+        this.particleSystem = particleSystem;
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        if (rate <= 0) return;
+
+        pending += rate * tpf;
+        if (pending >= 1) {
+            int count = (int) pending;
+            pending -= count;
+            emit(count);
+        }
+    }
+
+    /**
+     * Summary :
+     * Emits count particles from the entity's anchor point
+     */
+    public void emit(int count) {
+        if (particleSystem == null) {
+            // Found on the first emit and not when added, entities may be built before they join the game
+            particleSystem = findParticleSystem();
+            if (particleSystem == null) return;
+        }
+
+        double x = entity.getX() + entity.getWidth() * anchorX;
+        double y = entity.getY() + entity.getHeight() * anchorY;
+        particleSystem.burst(effect, x, y, count);
+    }
+
+    private static ParticleSystemComponent findParticleSystem() {
+        if (!FXGL.getWorldProperties().exists(ParticleSystemComponent.PROPERTY_NAME)) {
+            return null;
+        }
+        return FXGL.geto(ParticleSystemComponent.PROPERTY_NAME);
+    }
+}
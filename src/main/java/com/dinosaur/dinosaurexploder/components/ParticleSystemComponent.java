@@ -0,0 +1,142 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.constants.ParticleEffect;
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+import com.dinosaur.dinosaurexploder.model.ParticleGroup;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+import java.util.Random;
+
+/**
+ * Summary :
+ * Lightweight CPU particle system drawing every particle of the game on one canvas.
+ * There is one fixed capacity group per ParticleEffect and each group is drawn in one pass,
+ * so hundreds of particles cost less than a handful of entities.
+ * Entities emit particles through a ParticleEmitterComponent.
+ */
+public class ParticleSystemComponent extends Component {
+    public static final String PROPERTY_NAME = "particleSystem";
+
+    private final ParticleEffect[] effects = ParticleEffect.values();
+    private final ParticleGroup[] groups = new ParticleGroup[effects.length];
+    private final Random random = new Random();
+    private final double width;
+    private final double height;
+
+    private Canvas canvas;
+    private double density = QualityLevel.HIGH.getDensity();
+    private boolean hasDrawnParticles = false;
+    private int renderStride = 1;
+    private int framesSinceDraw = 0;
+
+    public ParticleSystemComponent(double width, double height) {
+        this.width = width;
+        this.height = height;
+        for (ParticleEffect effect : effects) {
+            groups[effect.ordinal()] = new ParticleGroup(effect.getCapacity(), effect.getGravity());
+        }
+    }
+
+    @Override
+    public void onAdded() {
+        canvas = new Canvas(width, height);
+        canvas.setMouseTransparent(true);
+        entity.getViewComponent().addChild(canvas);
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        int alive = 0;
+        for (ParticleGroup group : groups) {
+            group.update(tpf);
+            alive += group.getCount();
+        }
+        // The particles keep moving every frame, only the drawing is skipped
+        if (++framesSinceDraw >= renderStride) {
+            framesSinceDraw = 0;
+            draw(alive);
+        }
+    }
+
+    /**
+     * Summary :
+     * Emits count particles of the effect at the given position.
+     * The amount is scaled down by the quality, the fractional part is emitted randomly.
+     */
+    public void burst(ParticleEffect effect, double x, double y, int count) {
+        double scaled = count * density;
+        int amount = (int) scaled;
+        if (random.nextDouble() < scaled - amount) {
+            amount++;
+        }
+
+        ParticleGroup group = groups[effect.ordinal()];
+        for (int i = 0; i < amount; i++) {
+            double angle = Math.toRadians(effect.getDirection() + (random.nextDouble() - 0.5) * effect.getSpread());
+            double speed = effect.getMinSpeed() + random.nextDouble() * (effect.getMaxSpeed() - effect.getMinSpeed());
+            double life = effect.getLife() * (0.7 + random.nextDouble() * 0.6);
+            if (!group.emit(x, y, Math.cos(angle) * speed, Math.sin(angle) * speed, life)) {
+                return;
+            }
+        }
+    }
+
+    public void setQuality(QualityLevel quality) {
+        this.density = quality.getDensity();
+    }
+
+    /**
+     * Summary :
+     * Draws the canvas only once every renderStride frames, 1 draws every frame
+     */
+    public void setRenderStride(int renderStride) {
+        this.renderStride = Math.max(1, renderStride);
+    }
+
+    public int getRenderStride() {
+        return renderStride;
+    }
+
+    public void clear() {
+        for (ParticleGroup group : groups) {
+            group.clear();
+        }
+    }
+
+    public int getParticleCount() {
+        int count = 0;
+        for (ParticleGroup group : groups) {
+            count += group.getCount();
+        }
+        return count;
+    }
+
+    public ParticleGroup getGroup(ParticleEffect effect) {
+        return groups[effect.ordinal()];
+    }
+
+    private void draw(int alive) {
+        if (canvas == null || (alive == 0 && !hasDrawnParticles)) {
+            return;
+        }
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.clearRect(0, 0, width, height);
+
+        for (ParticleEffect effect : effects) {
+            ParticleGroup group = groups[effect.ordinal()];
+            if (group.getCount() == 0) continue;
+
+            double size = effect.getSize();
+            double half = size / 2;
+            g.setFill(effect.getColor());
+            for (int i = 0; i < group.getCount(); i++) {
+                g.setGlobalAlpha(group.getAlpha(i));
+                g.fillRect(group.getX(i) - half, group.getY(i) - half, size, size);
+            }
+        }
+        g.setGlobalAlpha(1.0);
+        hasDrawnParticles = alive > 0;
+    }
+}
@@ -3,31 +3,40 @@ package com.dinosaur.dinosaurexploder.components;
 import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
 
 import com.almasb.fxgl.core.math.Vec2;
-import com.almasb.fxgl.dsl.FXGL;
-import com.almasb.fxgl.dsl.components.ExpireCleanComponent;
 import com.almasb.fxgl.entity.SpawnData;
 import com.almasb.fxgl.entity.component.Component;
-import com.almasb.fxgl.texture.Texture;
+import com.dinosaur.dinosaurexploder.utils.AssetRegistry;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.interfaces.Player;
-import com.dinosaur.dinosaurexploder.model.GameData;
+import com.dinosaur.dinosaurexploder.model.GameContext;
 import com.dinosaur.dinosaurexploder.view.DinosaurGUI;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
 
 import javafx.geometry.Point2D;
 import javafx.scene.image.Image;
-import javafx.util.Duration;
 
-import java.util.Objects;
 
 public class PlayerComponent extends Component implements Player {
-    private final int selectedShip = GameData.getSelectedShip();
-    private final int selectedWeapon = GameData.getSelectedWeapon();
-    String shipImagePath = "assets/textures/spaceship" + selectedShip + ".png";
-    String weaponImagePath = "/assets/textures/projectiles/projectile" + selectedShip + "_" + selectedWeapon + ".png";
+    private final int selectedShip;
+    private final int selectedWeapon;
+    private final AudioManager audioManager;
+    String weaponImagePath;
     int movementSpeed = 8;
+    // Trail particles emitted on every movement step
+    private static final int TRAIL_PARTICLES_PER_STEP = 2;
     private boolean isInvincible = false;
 
+    public PlayerComponent() {
+        this(GameContext.getDefault());
+    }
+
+    public PlayerComponent(GameContext context) {
+        this.selectedShip = context.getSelectedShip();
+        this.selectedWeapon = context.getSelectedWeapon();
+        this.audioManager = context.getAudioManager();
+        this.weaponImagePath = AssetRegistry.getProjectileImagePath(selectedShip, selectedWeapon);
+    }
+
     public void setInvincible(boolean invincible) {
         this.isInvincible = invincible;
         if (invincible) {
@@ -104,11 +113,15 @@ public class PlayerComponent extends Component implements Player {
      * player and spawning of the new bullet
      */
     public void shoot() {
-        AudioManager.getInstance().playSound(GameConstants.SHOOT_SOUND);
+        audioManager.playSound(GameConstants.SHOOT_SOUND);
+        if (selectedWeapon == GameConstants.LASER_WEAPON) {
+            // The laser has no projectile, it fires for as long as the trigger is held
+            return;
+        }
         Point2D center = entity.getCenter();
         Vec2 direction = Vec2.fromAngle(entity.getRotation() - 90);
         System.out.println("Shoot with selected weapon: " + selectedWeapon);
-        Image projImg = new Image(Objects.requireNonNull(getClass().getResourceAsStream(weaponImagePath)));
+        Image projImg = AssetRegistry.getInstance().getImage(weaponImagePath);
 
         spawn("basicProjectile",
                 new SpawnData(center.getX() - (projImg.getWidth() / 2) + 3, center.getY() - 25) // Ajusta según el
@@ -116,13 +129,22 @@ public class PlayerComponent extends Component implements Player {
                         .put("direction", direction.toPoint2D()));
     }
 
+    /**
+     * Summary :
+     * Called every frame the trigger is held, keeps the laser firing when the ship has one
+     */
+    public void holdFire() {
+        entity.getComponentOptional(LaserComponent.class).ifPresent(LaserComponent::fire);
+    }
+
+    /**
+     * Summary :
+     * Leaves a thruster trail behind the ship through the particle system
+     * instead of spawning an entity on every movement step
+     */
     private void spawnMovementAnimation() {
-        Image spcshpImg = new Image(shipImagePath);
-        FXGL.entityBuilder()
-                .at(getEntity().getCenter().subtract(spcshpImg.getWidth() / 2, spcshpImg.getHeight() / 2))
-                .view(new Texture(spcshpImg))
-                .with(new ExpireCleanComponent(Duration.seconds(0.15)).animateOpacity())
-                .buildAndAttach();
+        entity.getComponentOptional(ParticleEmitterComponent.class)
+                .ifPresent(emitter -> emitter.emit(TRAIL_PARTICLES_PER_STEP));
     }
 
 }
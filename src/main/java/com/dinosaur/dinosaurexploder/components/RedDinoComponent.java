@@ -23,9 +23,15 @@ public class RedDinoComponent extends Component implements Dinosaur {
     double horizontalSpeed = 1.5;
     private int lives = 10;
     private final GameTimer gameTimer;
+    private final AudioManager audioManager;
 
     public RedDinoComponent(GameTimer gameTimer) {
+        this(gameTimer, AudioManager.getInstance());
+    }
+
+    public RedDinoComponent(GameTimer gameTimer, AudioManager audioManager) {
         this.gameTimer = gameTimer;
+        this.audioManager = audioManager;
     }
 
     private boolean isPaused = false;
@@ -106,7 +112,7 @@ public class RedDinoComponent extends Component implements Dinosaur {
     @Override
     public void shoot() {
      
-            AudioManager.getInstance().playSound(GameConstants.SHOOT_SOUND);
+            audioManager.playSound(GameConstants.SHOOT_SOUND);
         
         Point2D center = entity.getCenter();
         Vec2 direction = Vec2.fromAngle(entity.getRotation() + 90 + random(-45, 45));
@@ -1,30 +1,60 @@
 package com.dinosaur.dinosaurexploder.components;
 
 import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.utils.AssetRegistry;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.interfaces.Score;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import com.dinosaur.dinosaurexploder.model.GlyphAtlas;
 import com.dinosaur.dinosaurexploder.model.HighScore;
+import com.dinosaur.dinosaurexploder.utils.HudTextFormatter;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
+import com.dinosaur.dinosaurexploder.utils.LanguageSubscription;
+import com.dinosaur.dinosaurexploder.utils.LeaderboardService;
+import com.dinosaur.dinosaurexploder.utils.SceneMutationCounter;
+import com.dinosaur.dinosaurexploder.view.BitmapText;
 import javafx.geometry.Pos;
-import javafx.scene.image.Image;
+import javafx.scene.Node;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.scene.text.Text;
-import java.io.*;
 
 /**
  * Handles the score component of the player.
  */
 public class ScoreComponent extends Component implements Score {
     private int score = 0;
-    private static HighScore highScore = new HighScore();
-    private final LanguageManager languageManager = LanguageManager.getInstance();
+    private final GameContext context;
+    private final LanguageManager languageManager;
+    private LanguageSubscription languageSubscription;
+
+    private final SceneMutationCounter mutations;
 
     private Text scoreText;
     private Text highScoreText;
+    // Used instead of the texts when the context draws the HUD from a glyph atlas
+    private BitmapText scoreBitmap;
+    private BitmapText highScoreBitmap;
+    private final HudTextFormatter scoreFormatter;
+    private final HudTextFormatter highScoreFormatter;
+    // Values currently shown, the texts are only touched when they differ
+    private int displayedScore = -1;
+    private int displayedHighScore = -1;
+
+    public ScoreComponent() {
+        this(GameContext.getDefault());
+    }
+
+    public ScoreComponent(GameContext context) {
+        this.context = context;
+        this.languageManager = context.getLanguageManager();
+        this.mutations = context.getSceneMutations();
+        this.scoreFormatter = new HudTextFormatter(languageManager, TranslationKey.SCORE, mutations);
+        this.highScoreFormatter = new HudTextFormatter(languageManager, TranslationKey.HIGH_SCORE, mutations);
+    }
 
     @Override
     public void onAdded() {
@@ -32,30 +62,53 @@ public class ScoreComponent extends Component implements Score {
         createScoreUI();
         updateTexts();
 
-        languageManager.selectedLanguageProperty().addListener((obs, oldVal, newVal) -> updateTexts());
+        languageSubscription = languageManager.onLanguageChange(this::updateTexts);
+    }
+
+    @Override
+    public void onRemoved() {
+        if (languageSubscription != null) {
+            languageSubscription.dispose();
+            languageSubscription = null;
+        }
     }
 
     @Override
     public void onUpdate(double tpf) {
-        updateTexts(); // Could be optimized to update only when score changes
+        if (score != displayedScore || context.getHighScore().getHigh() != displayedHighScore) {
+            updateTexts();
+        }
     }
 
     private void createScoreUI() {
-        scoreText = createText();
-        highScoreText = createText();
+        Node scoreNode;
+        Node highScoreNode;
+        if (context.isBitmapHud()) {
+            GlyphAtlas atlas = AssetRegistry.getInstance().getGlyphAtlas(
+                    GameConstants.ARCADE_CLASSIC_FONTNAME, GameConstants.TEXT_SIZE_GAME_DETAILS, Color.YELLOW);
+            scoreBitmap = new BitmapText(atlas);
+            highScoreBitmap = new BitmapText(atlas);
+            scoreNode = scoreBitmap;
+            highScoreNode = highScoreBitmap;
+        } else {
+            scoreText = createText();
+            highScoreText = createText();
+            scoreNode = scoreText;
+            highScoreNode = highScoreText;
+        }
 
         ImageView dinoIcon = new ImageView(
-                new Image(GameConstants.GREEN_DINO_IMAGE_PATH, 25, 20, false, false)
+                AssetRegistry.getInstance().getImage(GameConstants.GREEN_DINO_IMAGE_PATH, 25, 20)
         );
 
         // Group scoreText and icon together
-        HBox scoreBox = new HBox(5, scoreText, dinoIcon);
+        HBox scoreBox = new HBox(5, scoreNode, dinoIcon);
         scoreBox.setAlignment(Pos.CENTER_LEFT);
 
         GridPane gridPane = new GridPane();
         gridPane.setHgap(10);
         gridPane.add(scoreBox, 1, 0);
-        gridPane.add(highScoreText, 1, 1);
+        gridPane.add(highScoreNode, 1, 1);
 
         entity.getViewComponent().addChild(gridPane);
     }
@@ -63,28 +116,38 @@ public class ScoreComponent extends Component implements Score {
     private Text createText() {
         Text text = new Text();
         text.setFill(Color.YELLOW);
-        text.setFont(Font.font(GameConstants.ARCADE_CLASSIC_FONTNAME, GameConstants.TEXT_SIZE_GAME_DETAILS));
+        text.setFont(AssetRegistry.getInstance().getFont(GameConstants.ARCADE_CLASSIC_FONTNAME, GameConstants.TEXT_SIZE_GAME_DETAILS));
         return text;
     }
 
     private void updateTexts() {
-        scoreText.setText(languageManager.getTranslation("score") + ": " + score);
-        highScoreText.setText(languageManager.getTranslation("high_score") + ": " + highScore.getHigh());
+        if (scoreBitmap != null) {
+            scoreFormatter.update(scoreBitmap, score);
+            highScoreFormatter.update(highScoreBitmap, context.getHighScore().getHigh());
+        } else {
+            scoreFormatter.update(scoreText, score);
+            highScoreFormatter.update(highScoreText, context.getHighScore().getHigh());
+        }
+        displayedScore = score;
+        displayedHighScore = context.getHighScore().getHigh();
     }
 
     private void loadHighScore() {
-        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(GameConstants.HIGH_SCORE_FILE))) {
-            highScore = (HighScore) in.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            highScore = new HighScore(); // Defaults to 0 if file is missing or corrupted
-        }
+        context.setHighScore(context.getDataProvider().getHighScore());
     }
 
     private void saveHighScore() {
-        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(GameConstants.HIGH_SCORE_FILE))) {
-            out.writeObject(highScore);
-        } catch (IOException e) {
-            System.err.println("Error saving high score: " + e.getMessage());
+        context.getDataProvider().saveHighScore(context.getHighScore());
+    }
+
+    /**
+     * Summary :
+     * Sends the score of the finished game to the leaderboard of the context, if there is one
+     */
+    public void submitToLeaderboard() {
+        LeaderboardService leaderboard = context.getLeaderboard();
+        if (leaderboard != null && score > 0) {
+            leaderboard.submit(context.getPlayerId(), score);
         }
     }
 
@@ -102,8 +165,8 @@ public class ScoreComponent extends Component implements Score {
     public void incrementScore(int increment) {
         score += increment;
 
-        if (score > highScore.getHigh()) {
-            highScore = new HighScore(score);
+        if (score > context.getHighScore().getHigh()) {
+            context.setHighScore(new HighScore(score));
             saveHighScore();
         }
     }
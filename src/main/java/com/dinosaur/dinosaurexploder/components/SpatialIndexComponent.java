@@ -0,0 +1,46 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.model.SpatialGrid;
+
+/**
+ * Summary :
+ * Keeps the center of its entity up to date in a spatial grid, from the moment it is added
+ * to the game world until it is removed. The dinosaurs carry it so that homing missiles
+ * find the nearest one and the laser finds the first one in its way without looking at every entity.
+ */
+public class SpatialIndexComponent extends Component {
+    private final SpatialGrid<Entity> grid;
+    private int handle = -1;
+
+    public SpatialIndexComponent(SpatialGrid<Entity> grid) {
+        this.grid = grid;
+    }
+
+    @Override
+    public void onAdded() {
+        handle = grid.add(entity, getCenterX(), getCenterY(), entity.getWidth() / 2, entity.getHeight() / 2);
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        grid.move(handle, getCenterX(), getCenterY());
+    }
+
+    @Override
+    public void onRemoved() {
+        if (handle >= 0) {
+            grid.remove(handle);
+            handle = -1;
+        }
+    }
+
+    private double getCenterX() {
+        return entity.getX() + entity.getWidth() / 2;
+    }
+
+    private double getCenterY() {
+        return entity.getY() + entity.getHeight() / 2;
+    }
+}
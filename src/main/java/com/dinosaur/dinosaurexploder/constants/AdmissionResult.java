@@ -0,0 +1,11 @@
+package com.dinosaur.dinosaurexploder.constants;
+
+/**
+ * Summary :
+ * What the SessionManager decided for a new web session
+ */
+public enum AdmissionResult {
+    ADMITTED,
+    QUEUED,
+    REJECTED
+}
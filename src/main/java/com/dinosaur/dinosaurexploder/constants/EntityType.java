@@ -4,5 +4,5 @@ package com.dinosaur.dinosaurexploder.constants;
  *  This handles with all the entities in the game like lives, player projectile etc.
  */
 public enum EntityType {
-    PLAYER, GREEN_DINO, RED_DINO, ORANGE_DINO, PROJECTILE, ENEMY_PROJECTILE, SCORE, LIFE, BOMB, COIN, HEART, LEVEL, HEALTHBAR, LEVEL_PROGRESS_BAR
+    PLAYER, GREEN_DINO, RED_DINO, ORANGE_DINO, PROJECTILE, ENEMY_PROJECTILE, SCORE, LIFE, BOMB, COIN, HEART, LEVEL, HEALTHBAR, LEVEL_PROGRESS_BAR, MAGNET
 }
\ No newline at end of file
@@ -11,7 +11,6 @@ public class GameConstants {
     /*
     * CONSTANTS FOR IMAGES
     */
-    public static final String BACKGROUND_IMAGE_PATH = "/assets/textures/background.png";
     public static final String BASE_PROJECTILE_IMAGE_PATH = "assets/textures/basicProjectile.png";
     public static final String BASE_PROJECTILE_IMAGE_FILE = "basicProjectile.png";
     public static final String ENEMY_PROJECTILE_IMAGE_FILE = "enemyProjectile.png";
@@ -28,6 +27,17 @@ public class GameConstants {
     public static final String HEART_LOST_IMAGE_PATH = "assets/textures/lifeLost.png";
     public static final String HEART_LOST_IMAGE_FILE = "lifeLost.png";
     public static final String BOMB_IMAGE_PATH = "assets/textures/bomb.png";
+    public static final String LOCK_IMAGE_PATH = "assets/textures/lock.png";
+    public static final String EXPLOSION_IMAGE_PATH = "assets/textures/explosion.png";
+    public static final int SHIP_COUNT = 8;
+    public static final int WEAPON_COUNT = 5;
+    // Weapons that have their own projectile pictures, the others reuse the last of them
+    public static final int WEAPON_IMAGE_COUNT = 3;
+    public static final int HOMING_WEAPON = 4;
+    // Hue shift telling the homing missiles apart from the projectiles whose picture they share
+    public static final double HOMING_PROJECTILE_HUE = 0.6;
+    public static final int LASER_WEAPON = 5;
+    public static final double LASER_HUE = -0.4;
     public static final String GAME_ICON_DINOSAUR = "icon.png";
 
     /*
@@ -53,9 +63,17 @@ public class GameConstants {
     */
     public static final double TEXT_SIZE_GAME_DETAILS = 20;
 
+    /*
+    * CONSTANTS FOR TRANSLATIONS
+    */
+    public static final String TRANSLATION_PATH = "/assets/translation/";
+    public static final String[] LANGUAGES = {"english", "french", "german", "spanish", "japanese", "russian", "portuguese"};
+
     /*
     * CONSTANTS FOR SAVED FILES
     */
     public static final String HIGH_SCORE_FILE = "highScore.ser";
     public static final String TOTAL_COINS_FILE = "totalCoins.ser";
+    public static final String JOURNAL_FILE = "playerData.journal";
+    public static final String PROFILES_FILE = "profiles.bin";
 }
@@ -0,0 +1,92 @@
+package com.dinosaur.dinosaurexploder.constants;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Summary :
+ * The kinds of particles drawn by the particle system.
+ * Every effect is one group with its own fixed capacity, drawn in a single pass.
+ */
+public enum ParticleEffect {
+    // Thruster trail left behind the moving spaceship, going down the screen
+    TRAIL(Color.rgb(120, 200, 255), 3, 256, 0.35, 40, 90, 90, 25, 0),
+    // Burning debris thrown around when something explodes
+    DEBRIS(Color.rgb(255, 150, 40), 3, 512, 0.6, 80, 220, 0, 360, 120),
+    // Small glitter floating around the coins
+    SPARKLE(Color.rgb(255, 230, 120), 2, 256, 0.5, 10, 30, 0, 360, 0);
+
+    private final Color color;
+    private final double size;
+    private final int capacity;
+    private final double life;
+    private final double minSpeed;
+    private final double maxSpeed;
+    private final double direction;
+    private final double spread;
+    private final double gravity;
+
+    ParticleEffect(Color color, double size, int capacity, double life, double minSpeed, double maxSpeed,
+                   double direction, double spread, double gravity) {
+        this.color = color;
+        this.size = size;
+        this.capacity = capacity;
+        this.life = life;
+        this.minSpeed = minSpeed;
+        this.maxSpeed = maxSpeed;
+        this.direction = direction;
+        this.spread = spread;
+        this.gravity = gravity;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    public double getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Summary :
+     * Lifetime of a particle in seconds
+     */
+    public double getLife() {
+        return life;
+    }
+
+    public double getMinSpeed() {
+        return minSpeed;
+    }
+
+    public double getMaxSpeed() {
+        return maxSpeed;
+    }
+
+    /**
+     * Summary :
+     * Mean emission angle in degrees, 0 is right and 90 is down the screen
+     */
+    public double getDirection() {
+        return direction;
+    }
+
+    /**
+     * Summary :
+     * Total width of the emission cone in degrees
+     */
+    public double getSpread() {
+        return spread;
+    }
+
+    /**
+     * Summary :
+     * Downward acceleration in pixels per second squared
+     */
+    public double getGravity() {
+        return gravity;
+    }
+}
@@ -0,0 +1,37 @@
+package com.dinosaur.dinosaurexploder.constants;
+
+/**
+ * Summary :
+ * Graphics quality levels, from the cheapest to the richest.
+ * The density factor scales how many decorative elements (stars, particles...) are drawn.
+ */
+public enum QualityLevel {
+    LOW(0.35),
+    MEDIUM(0.65),
+    HIGH(1.0);
+
+    private final double density;
+
+    QualityLevel(double density) {
+        this.density = density;
+    }
+
+    public double getDensity() {
+        return density;
+    }
+
+    /**
+     * Summary :
+     * Parses a saved quality name, falling back to HIGH when it is missing or unknown
+     */
+    public static QualityLevel fromName(String name) {
+        if (name == null) {
+            return HIGH;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return HIGH;
+        }
+    }
+}
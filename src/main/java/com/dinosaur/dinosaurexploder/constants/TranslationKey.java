@@ -0,0 +1,73 @@
+package com.dinosaur.dinosaurexploder.constants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Summary :
+ * Every text of the game that has a translation, with its key in the translation files.
+ * Translations are stored in arrays indexed by the ordinal of these keys, so looking one up
+ * costs an array access. Every language file must define every key, which the tests check.
+ */
+public enum TranslationKey {
+    START("start"),
+    QUIT("quit"),
+    SCORE("score"),
+    LANGUAGE_LABEL("language_label"),
+    SELECT_SHIP("select_ship"),
+    SELECT_WEAPON("select_weapon"),
+    GAME_OVER("game_over"),
+    SCORE_LABEL("score_label"),
+    HIGH_SCORE("high_score"),
+    LIVES("lives"),
+    BACK("back"),
+    QUIT_GAME("quit_game"),
+    CONTROLS("controls"),
+    MOVE_UP("move_up"),
+    MOVE_DOWN("move_down"),
+    MOVE_RIGHT("move_right"),
+    MOVE_LEFT("move_left"),
+    PAUSE_GAME("pause_game"),
+    NEW_GAME("new_game"),
+    SHOOT("shoot"),
+    BOMB("bomb"),
+    BOMBS_LEFT("bombs_left"),
+    YES("yes"),
+    NO("no"),
+    COIN("coin"),
+    TOTAL_COINS("total_coins"),
+    LEVEL("level"),
+    SHIP_LOCKED("ship_locked"),
+    WEAPON_LOCKED("weapon_locked"),
+    UNLOCK_HIGH_SCORE("unlock_highScore"),
+    UNLOCK_TOTAL_COINS("unlock_totalCoins"),
+    OK("ok"),
+    SERVER_QUEUED("server_queued"),
+    SERVER_FULL("server_full");
+
+    private static final Map<String, TranslationKey> BY_KEY = new HashMap<>();
+
+    static {
+        for (TranslationKey translationKey : values()) {
+            BY_KEY.put(translationKey.key, translationKey);
+        }
+    }
+
+    private final String key;
+
+    TranslationKey(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Summary :
+     * Finds the constant of a key of the translation files, or returns null when there is none
+     */
+    public static TranslationKey fromKey(String key) {
+        return BY_KEY.get(key);
+    }
+}
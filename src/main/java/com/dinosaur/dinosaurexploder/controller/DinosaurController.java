@@ -5,6 +5,7 @@ import com.dinosaur.dinosaurexploder.controller.core.CollisionRegistry;
 import com.dinosaur.dinosaurexploder.controller.core.GameActions;
 import com.dinosaur.dinosaurexploder.controller.core.GameInitializer;
 import com.dinosaur.dinosaurexploder.controller.core.collisions.*;
+import com.dinosaur.dinosaurexploder.model.GameContext;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 
 /**
@@ -17,7 +18,11 @@ public class DinosaurController {
     private GameActions gameActions;
 
     public DinosaurController() {
-        gameInitializer = new GameInitializer();
+        this(GameContext.getDefault());
+    }
+
+    public DinosaurController(GameContext context) {
+        gameInitializer = new GameInitializer(context);
         collisionRegistry = new CollisionRegistry();
     }
 
@@ -30,6 +35,10 @@ public class DinosaurController {
         gameInitializer.initInput();
     }
 
+    public void onUpdate(double tpf) {
+        gameInitializer.onUpdate(tpf);
+    }
+
     public void initPhysics() {
         if(gameActions == null) {
             throw new IllegalStateException("GameActions must be initialized before initializing physics.");
@@ -40,12 +49,18 @@ public class DinosaurController {
         collisionRegistry.addCollision(new PlayerCoinCollision(gameInitializer));
         collisionRegistry.addCollision(new PlayerGreenDinoCollision(gameActions));
         collisionRegistry.addCollision(new PlayerHeartCollision(gameInitializer));
+        collisionRegistry.addCollision(new PlayerMagnetCollision(gameInitializer));
         collisionRegistry.addCollision(new PlayerOrangeDinoCollision(gameActions));
         collisionRegistry.addCollision(new PlayerRedDinoCollision(gameActions));
-        collisionRegistry.addCollision(new ProjectileEnemyProjectileCollision());
-        collisionRegistry.addCollision(new ProjectileGreenDinoCollision(gameInitializer, gameActions));
-        collisionRegistry.addCollision(new ProjectileOrangeDinoCollision(gameInitializer, gameActions));
-        collisionRegistry.addCollision(new ProjectileRedDinoCollision(gameInitializer, gameActions));
+        collisionRegistry.addCollision(new ProjectileEnemyProjectileCollision(gameInitializer));
+        ProjectileGreenDinoCollision greenDinoCollision = new ProjectileGreenDinoCollision(gameInitializer, gameActions);
+        ProjectileOrangeDinoCollision orangeDinoCollision = new ProjectileOrangeDinoCollision(gameInitializer, gameActions);
+        ProjectileRedDinoCollision redDinoCollision = new ProjectileRedDinoCollision(gameInitializer, gameActions);
+        collisionRegistry.addCollision(greenDinoCollision);
+        collisionRegistry.addCollision(orangeDinoCollision);
+        collisionRegistry.addCollision(redDinoCollision);
+        collisionRegistry.addCollision(new LaserDinoCollision(gameInitializer, greenDinoCollision, redDinoCollision,
+                orangeDinoCollision));
 
         collisionRegistry.registerAll();
     }
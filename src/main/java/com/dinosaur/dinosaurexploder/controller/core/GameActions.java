@@ -2,14 +2,20 @@ package com.dinosaur.dinosaurexploder.controller.core;
 
 import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.time.TimerAction;
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
 import com.dinosaur.dinosaurexploder.components.*;
 import com.dinosaur.dinosaurexploder.constants.EntityType;
 import com.dinosaur.dinosaurexploder.model.CollisionHandler;
+import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.utils.HudTextFormatter;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 import com.dinosaur.dinosaurexploder.utils.TextUtils;
+import com.dinosaur.dinosaurexploder.view.BitmapText;
 import com.dinosaur.dinosaurexploder.view.DinosaurGUI;
 import com.dinosaur.dinosaurexploder.view.GameOverDialog;
+import javafx.scene.Node;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
@@ -25,27 +31,45 @@ public class GameActions {
     private final CollisionHandler collisionHandler;
     private final LevelManager levelManager;
     private final LanguageManager languageManager;
+    private final AudioManager audioManager;
     private final Entity levelDisplay;
     private final Entity player;
     private final Entity life;
     private final Entity levelProgressBar;
     private final Entity bomb;
+    private final Entity score;
+    private final HudTextFormatter levelFormatter;
+    // The level message has no separator between the label and the level
+    private final HudTextFormatter levelMessageFormatter;
+    // One flash reused for every hit, shown and hidden instead of added and removed
+    private Rectangle damageFlash;
+    private TimerAction hideFlash;
 
     public GameActions(GameInitializer gameInitializer) {
         this.enemySpawner = gameInitializer.getEnemySpawner();
         this.collisionHandler = gameInitializer.getCollisionHandler();
         this.levelManager = gameInitializer.getLevelManager();
         this.languageManager = gameInitializer.getLanguageManager();
+        this.audioManager = gameInitializer.getContext().getAudioManager();
         this.levelDisplay = gameInitializer.getLevelDisplay();
         this.player = gameInitializer.getPlayer();
         this.life = gameInitializer.getLife();
         this.levelProgressBar = gameInitializer.getLevelProgressBar();
         this.bomb = gameInitializer.getBomb();
+        this.score = gameInitializer.getScore();
+        this.levelFormatter = new HudTextFormatter(languageManager, TranslationKey.LEVEL,
+                gameInitializer.getContext().getSceneMutations());
+        this.levelMessageFormatter = new HudTextFormatter(languageManager, TranslationKey.LEVEL, "",
+                gameInitializer.getContext().getSceneMutations());
     }
 
     public void updateLevelDisplay() {
-        Text levelText = (Text) levelDisplay.getViewComponent().getChildren().get(0);
-        levelText.setText(languageManager.getTranslation("level") + ": " + levelManager.getCurrentLevel());
+        Node levelNode = levelDisplay.getViewComponent().getChildren().get(0);
+        if (levelNode instanceof BitmapText levelBitmap) {
+            levelFormatter.update(levelBitmap, levelManager.getCurrentLevel());
+        } else {
+            levelFormatter.update((Text) levelNode, levelManager.getCurrentLevel());
+        }
 
         // Regenerate bombs when level changes
         if (bomb.hasComponent(BombComponent.class)) {
@@ -67,9 +91,7 @@ public class GameActions {
             return;
         }
         int lives = collisionHandler.getDamagedPlayerLife(life.getComponent(LifeComponent.class));
-        var flash = new Rectangle(DinosaurGUI.WIDTH, DinosaurGUI.HEIGHT, Color.rgb(190, 10, 15, 0.5));
-        getGameScene().addUINode(flash);
-        runOnce(() -> getGameScene().removeUINode(flash), seconds(0.5));
+        showDamageFlash();
 
         if (lives <= 0) {
             // Added extra line of code to sync the lives counter after death
@@ -82,6 +104,19 @@ public class GameActions {
         }
     }
 
+    private void showDamageFlash() {
+        if (damageFlash == null) {
+            damageFlash = new Rectangle(DinosaurGUI.WIDTH, DinosaurGUI.HEIGHT, Color.rgb(190, 10, 15, 0.5));
+            damageFlash.setMouseTransparent(true);
+            getGameScene().addUINode(damageFlash);
+        }
+        if (hideFlash != null) {
+            hideFlash.expire();
+        }
+        damageFlash.setVisible(true);
+        hideFlash = runOnce(() -> damageFlash.setVisible(false), seconds(0.5));
+    }
+
     /**
      * Summary :
      * Handles level progression when enemies are defeated
@@ -103,7 +138,7 @@ public class GameActions {
         enemySpawner.pauseEnemySpawning();
 
         //Display centered level notification
-        Text levelText = getUIFactoryService().newText(languageManager.getTranslation("level") + levelManager.getCurrentLevel(), Color.WHITE, 24);
+        Text levelText = getUIFactoryService().newText(levelMessageFormatter.format(levelManager.getCurrentLevel()), Color.WHITE, 24);
         levelText.setStroke(Color.BLACK);
         levelText.setStrokeWidth(1.5);
         TextUtils.centerText(levelText);
@@ -149,6 +184,13 @@ public class GameActions {
      * To detect whether the player lives are empty or not
      */
     public void gameOver() {
+        if (score != null && score.hasComponent(ScoreComponent.class)) {
+            score.getComponent(ScoreComponent.class).submitToLeaderboard();
+        }
         new GameOverDialog(languageManager).createDialog();
     }
+
+    public AudioManager getAudioManager() {
+        return audioManager;
+    }
 }
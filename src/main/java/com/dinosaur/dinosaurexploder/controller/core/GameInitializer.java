@@ -3,20 +3,33 @@ package com.dinosaur.dinosaurexploder.controller.core;
 import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.SpawnData;
+import com.almasb.fxgl.input.UserAction;
+import com.dinosaur.dinosaurexploder.utils.AssetRegistry;
 import com.dinosaur.dinosaurexploder.components.BombComponent;
 import com.dinosaur.dinosaurexploder.components.CollectedCoinsComponent;
+import com.dinosaur.dinosaurexploder.components.ExplosionPoolComponent;
+import com.dinosaur.dinosaurexploder.components.GhostTrailComponent;
+import com.dinosaur.dinosaurexploder.components.LevelProgressBarComponent;
+import com.dinosaur.dinosaurexploder.components.ParticleSystemComponent;
 import com.dinosaur.dinosaurexploder.components.PlayerComponent;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
 import com.dinosaur.dinosaurexploder.controller.BossSpawner;
 import com.dinosaur.dinosaurexploder.controller.CoinSpawner;
 import com.dinosaur.dinosaurexploder.controller.CountdownAnimation;
 import com.dinosaur.dinosaurexploder.model.CollisionHandler;
+import com.dinosaur.dinosaurexploder.model.GameContext;
 import com.dinosaur.dinosaurexploder.model.Settings;
-import com.dinosaur.dinosaurexploder.utils.AudioManager;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
-import com.dinosaur.dinosaurexploder.utils.SettingsProvider;
+import com.dinosaur.dinosaurexploder.utils.QualityGovernor;
+import com.dinosaur.dinosaurexploder.utils.SessionTicker;
+import com.dinosaur.dinosaurexploder.utils.SpectatorServer;
+import com.dinosaur.dinosaurexploder.view.StarfieldView;
+import javafx.beans.value.ChangeListener;
 import javafx.scene.input.KeyCode;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Text;
 
 import static com.almasb.fxgl.dsl.FXGL.*;
 import static com.almasb.fxgl.dsl.FXGL.getAppCenter;
@@ -24,15 +37,25 @@ import static com.almasb.fxgl.dsl.FXGL.getAppHeight;
 import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
 
 public class GameInitializer {
+    // Remote sessions redraw their canvases at most every second frame, every draw is sent to the browser
+    private static final int REMOTE_RENDER_STRIDE = 2;
 
-    private final Settings settings = SettingsProvider.loadSettings();
-    private final LanguageManager languageManager = LanguageManager.getInstance();
+    private final Settings settings;
+    private final GameContext context;
+    private final LanguageManager languageManager;
+    private final QualityGovernor qualityGovernor;
+    private final ChangeListener<QualityLevel> qualityListener = (obs, oldTier, newTier) -> applyQuality(newTier);
 
     private EnemySpawner enemySpawner;
     private CollisionHandler collisionHandler;
     private LevelManager levelManager;
     private BossSpawner bossSpawner;
     private CollectedCoinsComponent collectedCoinsComponent;
+    private ExplosionPoolComponent explosionPool;
+    private ParticleSystemComponent particleSystem;
+    private StarfieldView starfield;
+    private Text qualityOverlay;
+    private SpectatorBroadcaster spectatorBroadcaster;
     private Entity score;
     private Entity life;
     private Entity bomb;
@@ -40,6 +63,17 @@ public class GameInitializer {
     private Entity levelDisplay;
     private Entity levelProgressBar;
 
+    public GameInitializer() {
+        this(GameContext.getDefault());
+    }
+
+    public GameInitializer(GameContext context) {
+        this.context = context;
+        this.settings = context.getSettingsService().getSettings();
+        this.languageManager = context.getLanguageManager();
+        this.qualityGovernor = context.getQualityGovernor();
+    }
+
     /**
      * Summary :
      * To move the space shuttle in forward , backward , right , left directions
@@ -51,7 +85,18 @@ public class GameInitializer {
         onKey(KeyCode.LEFT, () -> player.getComponent(PlayerComponent.class).moveLeft());
         onKey(KeyCode.RIGHT, () -> player.getComponent(PlayerComponent.class).moveRight());
 
-        onKeyDown(KeyCode.SPACE, () -> player.getComponent(PlayerComponent.class).shoot());
+        // Pressing shoots once, holding keeps a laser firing
+        getInput().addAction(new UserAction("Shoot") {
+            @Override
+            protected void onActionBegin() {
+                player.getComponent(PlayerComponent.class).shoot();
+            }
+
+            @Override
+            protected void onAction() {
+                player.getComponent(PlayerComponent.class).holdFire();
+            }
+        }, KeyCode.SPACE);
 
         onKey(KeyCode.W, () -> player.getComponent(PlayerComponent.class).moveUp());
         onKey(KeyCode.S, () -> player.getComponent(PlayerComponent.class).moveDown());
@@ -59,17 +104,24 @@ public class GameInitializer {
         onKey(KeyCode.D, () -> player.getComponent(PlayerComponent.class).moveRight());
 
         onKeyDown(KeyCode.B, () -> bomb.getComponent(BombComponent.class).useBomb(player));
+
+        onKeyDown(KeyCode.F3, () -> qualityOverlay.setVisible(!qualityOverlay.isVisible()));
     }
 
     public void initGame() {
         levelManager = new LevelManager();
         FXGL.set("levelManager", levelManager);
         initGameEntities();
+        initQualityGovernor();
+        // The world is kept across new games, the counter must only be registered once
+        getGameWorld().removeWorldListener(context.getSceneMutations());
+        getGameWorld().addWorldListener(context.getSceneMutations());
+        initSpectatorBroadcast();
         collisionHandler = new CollisionHandler(levelManager);
         bossSpawner = new BossSpawner(settings, levelManager);
         CoinSpawner coinSpawner = new CoinSpawner(10, 1.0);
 
-        AudioManager.getInstance().playMusic(GameConstants.BACKGROUND_SOUND);
+        context.getAudioManager().playMusic(GameConstants.BACKGROUND_SOUND);
 
         new CountdownAnimation(3).startCountdown(() -> {
             enemySpawner.resumeEnemySpawning();
@@ -80,7 +132,13 @@ public class GameInitializer {
     }
 
     private void initGameEntities() {
-        spawn("background", 0, 0);
+        Entity background = spawn("background", new SpawnData(0, 0).put("quality", settings.getQuality()));
+        starfield = (StarfieldView) background.getViewComponent().getChildren().get(0);
+        particleSystem = spawn("particles", new SpawnData(0, 0).put("quality", settings.getQuality()))
+                .getComponent(ParticleSystemComponent.class);
+        FXGL.set(ParticleSystemComponent.PROPERTY_NAME, particleSystem);
+        explosionPool = spawn("explosions", 0, 0).getComponent(ExplosionPoolComponent.class);
+        explosionPool.setParticleSystem(particleSystem);
         player = spawn("player", getAppCenter().getX() - 45, getAppHeight() - 200);
         levelDisplay = spawn("Level", getAppCenter().getX() - 270, getAppCenter().getY() + 350);
         score = spawn("Score", getAppCenter().getX() - 270, getAppCenter().getY() - 350);
@@ -88,10 +146,97 @@ public class GameInitializer {
         bomb = spawn("Bomb", getAppCenter().getX() - 260, getAppCenter().getY() - 280);
         Entity coin = spawn("Coins", getAppCenter().getX() - 260, getAppCenter().getY() - 235);
         collectedCoinsComponent = coin.getComponent(CollectedCoinsComponent.class);
-        bomb.addComponent(new BombComponent());
+        bomb.addComponent(new BombComponent(context));
         levelProgressBar = spawn("levelProgressBar", new SpawnData(getAppCenter().getX() - 170, getAppCenter().getY() + 340).put("levelManager", levelManager));
     }
 
+    /**
+     * Summary :
+     * Starts the governor from the quality chosen in the settings and applies every tier change
+     * to the effects, the HUD animations, the background and the sounds
+     */
+    private void initQualityGovernor() {
+        qualityGovernor.setMaxTier(settings.getQuality());
+        qualityGovernor.reset();
+        // initGame runs again on every new game, the listener must only be registered once
+        qualityGovernor.tierProperty().removeListener(qualityListener);
+        qualityGovernor.tierProperty().addListener(qualityListener);
+        applyQuality(qualityGovernor.getTier());
+
+        qualityOverlay = new Text();
+        qualityOverlay.setFill(Color.YELLOW);
+        qualityOverlay.setFont(AssetRegistry.getInstance().getFont(GameConstants.ARCADE_CLASSIC_FONTNAME, 14));
+        qualityOverlay.setTranslateX(getAppWidth() - 230);
+        qualityOverlay.setTranslateY(getAppHeight() - 20);
+        qualityOverlay.setVisible(false);
+        addUINode(qualityOverlay);
+    }
+
+    /**
+     * Summary :
+     * Streams the game to local spectator screens when a spectator port is configured.
+     * Only the desktop game streams: the server shows a single game, the frames and entity ids
+     * of several web sessions would be mixed on the screens.
+     */
+    private void initSpectatorBroadcast() {
+        if (!context.isDefault()) {
+            return;
+        }
+        SpectatorServer server = SpectatorServer.getConfigured();
+        if (server == null) {
+            return;
+        }
+        if (spectatorBroadcaster != null) {
+            getGameWorld().removeWorldListener(spectatorBroadcaster);
+        }
+        spectatorBroadcaster = new SpectatorBroadcaster(this, server);
+        getGameWorld().addWorldListener(spectatorBroadcaster);
+    }
+
+    private void applyQuality(QualityLevel tier) {
+        particleSystem.setQuality(tier);
+        explosionPool.setQuality(tier);
+        // The ghosts move every frame, too many property changes to send to a browser
+        player.getComponent(GhostTrailComponent.class).setQuality(context.isRemoteRendering() ? QualityLevel.LOW : tier);
+        levelProgressBar.getComponent(LevelProgressBarComponent.class).setQuality(tier);
+        starfield.setQuality(tier);
+        starfield.setScrolling(tier != QualityLevel.LOW);
+        context.getAudioManager().setQuality(tier);
+    }
+
+    /**
+     * Summary :
+     * Feeds the frame time to the quality governor, applies the render stride of the web session,
+     * closes the frame of the scene change counter, streams to the spectators
+     * and refreshes the debug overlay when shown
+     */
+    public void onUpdate(double tpf) {
+        qualityGovernor.sample(tpf);
+        context.getSceneMutations().endFrame();
+
+        SessionTicker ticker = context.getSessionTicker();
+        int renderStride = ticker != null ? ticker.getRenderStride() : 1;
+        if (context.isRemoteRendering()) {
+            renderStride = Math.max(renderStride, REMOTE_RENDER_STRIDE);
+        }
+        if (particleSystem != null) {
+            particleSystem.setRenderStride(renderStride);
+            starfield.setRenderStride(renderStride);
+        }
+        if (spectatorBroadcaster != null) {
+            spectatorBroadcaster.onUpdate(tpf);
+        }
+
+        if (qualityOverlay != null && qualityOverlay.isVisible()) {
+            qualityOverlay.setText(String.format("%s %.1f ms %d ch", qualityGovernor.getTier(),
+                    qualityGovernor.getAverageFrameTime() * 1000, context.getSceneMutations().getLastFrameMutations()));
+        }
+    }
+
+    public QualityGovernor getQualityGovernor() {
+        return qualityGovernor;
+    }
+
     public EnemySpawner getEnemySpawner() {
         return enemySpawner;
     }
@@ -128,6 +273,14 @@ public class GameInitializer {
         this.collectedCoinsComponent = collectedCoinsComponent;
     }
 
+    public ExplosionPoolComponent getExplosionPool() {
+        return explosionPool;
+    }
+
+    public void setExplosionPool(ExplosionPoolComponent explosionPool) {
+        this.explosionPool = explosionPool;
+    }
+
     public Entity getScore() {
         return score;
     }
@@ -176,6 +329,10 @@ public class GameInitializer {
         this.levelProgressBar = levelProgressBar;
     }
 
+    public GameContext getContext() {
+        return context;
+    }
+
     public LanguageManager getLanguageManager() {
         return languageManager;
     }
@@ -0,0 +1,79 @@
+package com.dinosaur.dinosaurexploder.controller.core;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.EntityWorldListener;
+import com.dinosaur.dinosaurexploder.components.LifeComponent;
+import com.dinosaur.dinosaurexploder.components.ScoreComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.model.WorldSnapshot;
+import com.dinosaur.dinosaurexploder.utils.SnapshotEncoder;
+import com.dinosaur.dinosaurexploder.utils.SpectatorServer;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static com.almasb.fxgl.dsl.FXGL.getGameWorld;
+
+/**
+ * Summary :
+ * Takes a snapshot of the game world a few times per second and streams the changes
+ * to the spectator screens connected to the SpectatorServer
+ */
+public class SpectatorBroadcaster implements EntityWorldListener {
+    // 20 snapshots per second are enough for a second screen and keep the messages small
+    private static final double SEND_INTERVAL = 1.0 / 20;
+    // Only what moves on the playfield, the HUD values travel separately
+    private static final Set<EntityType> BROADCAST_TYPES = EnumSet.of(
+            EntityType.PLAYER, EntityType.GREEN_DINO, EntityType.ORANGE_DINO, EntityType.RED_DINO,
+            EntityType.PROJECTILE, EntityType.ENEMY_PROJECTILE, EntityType.COIN, EntityType.HEART,
+            EntityType.MAGNET);
+
+    private final GameInitializer gameInitializer;
+    private final SpectatorServer server;
+    private final SnapshotEncoder encoder = new SnapshotEncoder();
+    private final WorldSnapshot snapshot = new WorldSnapshot(128);
+    private final Map<Entity, Integer> ids = new HashMap<>();
+    private int nextId = 1;
+    private double sinceLastSend = SEND_INTERVAL;
+
+    public SpectatorBroadcaster(GameInitializer gameInitializer, SpectatorServer server) {
+        this.gameInitializer = gameInitializer;
+        this.server = server;
+    }
+
+    public void onUpdate(double tpf) {
+        sinceLastSend += tpf;
+        if (sinceLastSend < SEND_INTERVAL || server.getClientCount() == 0) {
+            return;
+        }
+        sinceLastSend = 0;
+
+        snapshot.clear();
+        for (Entity entity : getGameWorld().getEntities()) {
+            if (entity.getType() instanceof EntityType type && BROADCAST_TYPES.contains(type)) {
+                snapshot.add(ids.computeIfAbsent(entity, e -> nextId++), type, entity.getX(), entity.getY());
+            }
+        }
+        snapshot.setHud(gameInitializer.getScore().getComponent(ScoreComponent.class).getScore(),
+                gameInitializer.getLife().getComponent(LifeComponent.class).getLife(),
+                gameInitializer.getLevelManager().getCurrentLevel());
+
+        byte[] delta = encoder.encodeDelta(snapshot);
+        if (server.hasPendingClients()) {
+            server.welcome(encoder.encodeFull());
+        }
+        server.broadcast(delta);
+    }
+
+    @Override
+    public void onEntityAdded(Entity entity) {
+        // Ids are given when the entity is first sent
+    }
+
+    @Override
+    public void onEntityRemoved(Entity entity) {
+        ids.remove(entity);
+    }
+}
@@ -10,15 +10,17 @@ import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
 public class EnemyProjectilePlayerCollision implements CollisionHandlerInterface{
 
     private  final GameActions gameActions;
+    private final AudioManager audioManager;
 
     public EnemyProjectilePlayerCollision(GameActions gameActions) {
         this.gameActions = gameActions;
+        this.audioManager = gameActions.getAudioManager();
     }
 
     @Override
     public void register() {
         onCollisionBegin(EntityType.ENEMY_PROJECTILE, EntityType.PLAYER, (projectile, player) -> {
-            AudioManager.getInstance().playSound(GameConstants.PLAYER_HIT_SOUND);
+            audioManager.playSound(GameConstants.PLAYER_HIT_SOUND);
             projectile.removeFromWorld();
             System.out.println("You got hit !\n");
             gameActions.damagePlayer();
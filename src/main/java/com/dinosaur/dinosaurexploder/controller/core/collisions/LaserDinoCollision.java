@@ -0,0 +1,44 @@
+package com.dinosaur.dinosaurexploder.controller.core.collisions;
+
+import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.components.LaserComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.controller.core.GameInitializer;
+
+/**
+ * Summary :
+ * The laser is a raycast and not a physics body, so its hits are not reported by onCollisionBegin.
+ * The dinosaur the beam stops on is handled like one hit by a projectile.
+ */
+public class LaserDinoCollision implements CollisionHandlerInterface {
+
+    private final Entity player;
+    private final ProjectileGreenDinoCollision greenDinoCollision;
+    private final ProjectileRedDinoCollision redDinoCollision;
+    private final ProjectileOrangeDinoCollision orangeDinoCollision;
+
+    public LaserDinoCollision(GameInitializer gameInitializer, ProjectileGreenDinoCollision greenDinoCollision,
+                              ProjectileRedDinoCollision redDinoCollision,
+                              ProjectileOrangeDinoCollision orangeDinoCollision) {
+        this.player = gameInitializer.getPlayer();
+        this.greenDinoCollision = greenDinoCollision;
+        this.redDinoCollision = redDinoCollision;
+        this.orangeDinoCollision = orangeDinoCollision;
+    }
+
+    @Override
+    public void register() {
+        player.getComponentOptional(LaserComponent.class)
+                .ifPresent(laser -> laser.setOnHit(this::hit));
+    }
+
+    private void hit(Entity dino) {
+        if (dino.isType(EntityType.GREEN_DINO)) {
+            greenDinoCollision.hit(dino);
+        } else if (dino.isType(EntityType.RED_DINO)) {
+            redDinoCollision.hit(dino);
+        } else if (dino.isType(EntityType.ORANGE_DINO)) {
+            orangeDinoCollision.hit(dino);
+        }
+    }
+}
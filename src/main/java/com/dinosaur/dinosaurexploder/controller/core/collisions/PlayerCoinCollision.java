@@ -2,6 +2,7 @@ package com.dinosaur.dinosaurexploder.controller.core.collisions;
 
 import com.almasb.fxgl.entity.Entity;
 import com.dinosaur.dinosaurexploder.components.BombComponent;
+import com.dinosaur.dinosaurexploder.components.CoinComponent;
 import com.dinosaur.dinosaurexploder.components.CollectedCoinsComponent;
 import com.dinosaur.dinosaurexploder.components.ScoreComponent;
 import com.dinosaur.dinosaurexploder.constants.EntityType;
@@ -18,23 +19,27 @@ public class PlayerCoinCollision implements CollisionHandlerInterface{
     private final CollectedCoinsComponent collectedCoinsComponent;
     private final Entity bomb;
     private final Entity score;
+    private final AudioManager audioManager;
 
     public PlayerCoinCollision(GameInitializer gameInitializer) {
         this.collisionHandler = gameInitializer.getCollisionHandler();
         this.collectedCoinsComponent = gameInitializer.getCollectedCoinsComponent();
         this.bomb = gameInitializer.getBomb();
         this.score = gameInitializer.getScore();
+        this.audioManager = gameInitializer.getContext().getAudioManager();
     }
 
     @Override
     public void register() {
         onCollisionBegin(EntityType.PLAYER, EntityType.COIN, (player, coin) -> {
-            AudioManager.getInstance().playSound(GameConstants.COIN_GAIN);
+            audioManager.playSound(GameConstants.COIN_GAIN);
             coin.removeFromWorld();
             System.out.println("You touched a coin!");
             BombComponent bombComponent = null;
             if (bomb.hasComponent(BombComponent.class)) bombComponent = bomb.getComponent(BombComponent.class);
-            collisionHandler.onPlayerGetCoin(collectedCoinsComponent, score.getComponent(ScoreComponent.class), bombComponent);
+            int value = coin.hasComponent(CoinComponent.class) ? coin.getComponent(CoinComponent.class).getValue() : 1;
+            collisionHandler.onPlayerGetCoin(collectedCoinsComponent, score.getComponent(ScoreComponent.class),
+                    bombComponent, value);
         });
     }
 }
@@ -10,15 +10,17 @@ import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
 public class PlayerGreenDinoCollision implements CollisionHandlerInterface{
 
     private final GameActions gameActions;
+    private final AudioManager audioManager;
 
     public PlayerGreenDinoCollision(GameActions gameActions) {
         this.gameActions = gameActions;
+        this.audioManager = gameActions.getAudioManager();
     }
 
     @Override
     public void register() {
         onCollisionBegin(EntityType.PLAYER, EntityType.GREEN_DINO, (player, greenDino) -> {
-            AudioManager.getInstance().playSound(GameConstants.PLAYER_HIT_SOUND);
+            audioManager.playSound(GameConstants.PLAYER_HIT_SOUND);
             greenDino.removeFromWorld();
             System.out.println("You touched a dino !");
             gameActions.damagePlayer();
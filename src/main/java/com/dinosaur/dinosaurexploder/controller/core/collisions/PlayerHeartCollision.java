@@ -12,15 +12,17 @@ import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
 public class PlayerHeartCollision implements CollisionHandlerInterface{
 
     private final Entity life;
+    private final AudioManager audioManager;
 
     public PlayerHeartCollision(GameInitializer gameInitializer) {
         this.life = gameInitializer.getLife();
+        this.audioManager = gameInitializer.getContext().getAudioManager();
     }
 
     @Override
     public void register() {
         onCollisionBegin(EntityType.PLAYER, EntityType.HEART, (player, heart) -> {
-            AudioManager.getInstance().playSound(GameConstants.HEART_HIT_SOUND);
+            audioManager.playSound(GameConstants.HEART_HIT_SOUND);
             heart.removeFromWorld();
             System.out.println("You touched a heart!");
             life.getComponent(LifeComponent.class).increaseLife(1);
@@ -0,0 +1,31 @@
+package com.dinosaur.dinosaurexploder.controller.core.collisions;
+
+import com.dinosaur.dinosaurexploder.components.MagnetComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.controller.core.GameInitializer;
+import com.dinosaur.dinosaurexploder.utils.AudioManager;
+
+import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
+
+public class PlayerMagnetCollision implements CollisionHandlerInterface{
+
+    // Seconds the magnet pulls the coins after it is picked up
+    private static final double MAGNET_DURATION = 10;
+
+    private final AudioManager audioManager;
+
+    public PlayerMagnetCollision(GameInitializer gameInitializer) {
+        this.audioManager = gameInitializer.getContext().getAudioManager();
+    }
+
+    @Override
+    public void register() {
+        onCollisionBegin(EntityType.PLAYER, EntityType.MAGNET, (player, magnet) -> {
+            audioManager.playSound(GameConstants.COIN_GAIN);
+            magnet.removeFromWorld();
+            player.getComponentOptional(MagnetComponent.class)
+                    .ifPresent(component -> component.activate(MAGNET_DURATION));
+        });
+    }
+}
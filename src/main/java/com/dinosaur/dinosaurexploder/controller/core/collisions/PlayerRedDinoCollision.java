@@ -10,15 +10,17 @@ import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
 public class PlayerRedDinoCollision implements CollisionHandlerInterface{
 
     private final GameActions gameActions;
+    private final AudioManager audioManager;
 
     public PlayerRedDinoCollision(GameActions gameActions) {
         this.gameActions = gameActions;
+        this.audioManager = gameActions.getAudioManager();
     }
 
     @Override
     public void register() {
         onCollisionBegin(EntityType.PLAYER, EntityType.RED_DINO, (player, redDino) -> {
-            AudioManager.getInstance().playSound(GameConstants.PLAYER_HIT_SOUND);
+            audioManager.playSound(GameConstants.PLAYER_HIT_SOUND);
             System.out.println("You touched a red dino !");
             gameActions.damagePlayer();
         });
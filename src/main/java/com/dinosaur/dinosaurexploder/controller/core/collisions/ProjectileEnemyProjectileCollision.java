@@ -1,18 +1,28 @@
 package com.dinosaur.dinosaurexploder.controller.core.collisions;
 
+import com.dinosaur.dinosaurexploder.components.ExplosionPoolComponent;
 import com.dinosaur.dinosaurexploder.constants.EntityType;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.controller.core.GameInitializer;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
 
 import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
-import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
 
 public class ProjectileEnemyProjectileCollision implements CollisionHandlerInterface{
+
+    private final ExplosionPoolComponent explosionPool;
+    private final AudioManager audioManager;
+
+    public ProjectileEnemyProjectileCollision(GameInitializer gameInitializer) {
+        this.explosionPool = gameInitializer.getExplosionPool();
+        this.audioManager = gameInitializer.getContext().getAudioManager();
+    }
+
     @Override
     public void register() {
         onCollisionBegin(EntityType.PROJECTILE, EntityType.ENEMY_PROJECTILE, (projectile, enemyProjectile) -> {
-            spawn("explosion", enemyProjectile.getX() - 25, enemyProjectile.getY() - 30);
-            AudioManager.getInstance().playSound(GameConstants.ENEMY_EXPLODE_SOUND);
+            explosionPool.spawnExplosion(enemyProjectile.getX() - 25, enemyProjectile.getY() - 30);
+            audioManager.playSound(GameConstants.ENEMY_EXPLODE_SOUND);
             projectile.removeFromWorld();
             enemyProjectile.removeFromWorld();
         });
@@ -1,6 +1,7 @@
 package com.dinosaur.dinosaurexploder.controller.core.collisions;
 
 import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.components.ExplosionPoolComponent;
 import com.dinosaur.dinosaurexploder.components.LevelProgressBarComponent;
 import com.dinosaur.dinosaurexploder.components.ScoreComponent;
 import com.dinosaur.dinosaurexploder.constants.EntityType;
@@ -19,32 +20,46 @@ public class ProjectileGreenDinoCollision implements CollisionHandlerInterface{
     private final GameActions gameActions;
 
     private final CollisionHandler collisionHandler;
+    private final ExplosionPoolComponent explosionPool;
     private final Entity score;
     private final Entity levelProgressBar;
+    private final AudioManager audioManager;
 
     public ProjectileGreenDinoCollision(GameInitializer gameInitializer, GameActions gameActions) {
         this.gameActions = gameActions;
         this.collisionHandler = gameInitializer.getCollisionHandler();
+        this.explosionPool = gameInitializer.getExplosionPool();
         this.score = gameInitializer.getScore();
         this.levelProgressBar = gameInitializer.getLevelProgressBar();
+        this.audioManager = gameInitializer.getContext().getAudioManager();
     }
 
     @Override
     public void register() {
         onCollisionBegin(EntityType.PROJECTILE, EntityType.GREEN_DINO, (projectile, greenDino) -> {
-            spawn("explosion", greenDino.getX() - 25, greenDino.getY() - 30);
-            if (random(0, 100) < 5) {
-                spawn("heart", greenDino.getX(), greenDino.getY());
-            }
-            AudioManager.getInstance().playSound(GameConstants.ENEMY_EXPLODE_SOUND);
             projectile.removeFromWorld();
-            greenDino.removeFromWorld();
-            if (collisionHandler.isLevelUpAfterHitDino(
-                    score.getComponent(ScoreComponent.class),
-                    levelProgressBar.getComponent(LevelProgressBarComponent.class))) {
-                gameActions.showLevelMessage();
-                System.out.println("Level up!");
-            }
+            hit(greenDino);
         });
     }
+
+    /**
+     * Summary :
+     * Kills a green dinosaur hit by the player, by a projectile or the laser
+     */
+    public void hit(Entity greenDino) {
+        explosionPool.spawnExplosion(greenDino.getX() - 25, greenDino.getY() - 30);
+        if (random(0, 100) < 5) {
+            spawn("heart", greenDino.getX(), greenDino.getY());
+        } else if (random(0, 100) < 2) {
+            spawn("magnet", greenDino.getX(), greenDino.getY());
+        }
+        audioManager.playSound(GameConstants.ENEMY_EXPLODE_SOUND);
+        greenDino.removeFromWorld();
+        if (collisionHandler.isLevelUpAfterHitDino(
+                score.getComponent(ScoreComponent.class),
+                levelProgressBar.getComponent(LevelProgressBarComponent.class))) {
+            gameActions.showLevelMessage();
+            System.out.println("Level up!");
+        }
+    }
 }
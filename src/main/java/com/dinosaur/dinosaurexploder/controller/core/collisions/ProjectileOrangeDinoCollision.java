@@ -1,6 +1,7 @@
 package com.dinosaur.dinosaurexploder.controller.core.collisions;
 
 import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.components.ExplosionPoolComponent;
 import com.dinosaur.dinosaurexploder.components.OrangeDinoComponent;
 import com.dinosaur.dinosaurexploder.components.ScoreComponent;
 import com.dinosaur.dinosaurexploder.constants.EntityType;
@@ -8,7 +9,9 @@ import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.controller.BossSpawner;
 import com.dinosaur.dinosaurexploder.controller.core.GameActions;
 import com.dinosaur.dinosaurexploder.controller.core.GameInitializer;
+import com.dinosaur.dinosaurexploder.model.CoinDenominations;
 import com.dinosaur.dinosaurexploder.model.CollisionHandler;
+import com.dinosaur.dinosaurexploder.model.GameEntityFactory;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 
@@ -21,42 +24,63 @@ public class ProjectileOrangeDinoCollision implements CollisionHandlerInterface{
     private final GameActions gameActions;
 
     private final CollisionHandler collisionHandler;
+    private final ExplosionPoolComponent explosionPool;
     private final LevelManager levelManager;
     private final BossSpawner bossSpawner;
     private final Entity score;
+    private final AudioManager audioManager;
+    private final GameEntityFactory entityFactory;
 
     public ProjectileOrangeDinoCollision(GameInitializer gameInitializer , GameActions gameActions) {
         this.gameActions = gameActions;
         this.collisionHandler = gameInitializer.getCollisionHandler();
+        this.explosionPool = gameInitializer.getExplosionPool();
         this.levelManager = gameInitializer.getLevelManager();
         this.bossSpawner = gameInitializer.getBossSpawner();
         this.score = gameInitializer.getScore();
+        this.audioManager = gameInitializer.getContext().getAudioManager();
+        this.entityFactory = gameInitializer.getContext().getEntityFactory();
     }
 
     @Override
     public void register() {
         onCollisionBegin(EntityType.PROJECTILE, EntityType.ORANGE_DINO, (projectile, orangeDino) -> {
-            spawn("explosion", orangeDino.getX() - 25, orangeDino.getY() - 30);
             projectile.removeFromWorld();
-            AudioManager.getInstance().playSound(GameConstants.ENEMY_EXPLODE_SOUND);
-            collisionHandler.handleHitBoss(orangeDino.getComponent(OrangeDinoComponent.class));
-
-            if (orangeDino.getComponent(OrangeDinoComponent.class).getLives() == 0) {
-                // if the boss is defeated it drops 100% a heart
-                spawn("heart", orangeDino.getX(), orangeDino.getY());
-                // if the boss dino is defeated it drops twice as many coins as the current level
-                for (int i = 0; i < levelManager.getCurrentLevel()*2; i++) {
-                    spawn("coin", orangeDino.getX() + random(-25, 25), orangeDino.getY() + random(-25, 25));
-                }
-                bossSpawner.removeBossEntities();
-
-                collisionHandler.handleBossDefeat(score.getComponent(ScoreComponent.class));
-
-                gameActions.showLevelMessage();
-                System.out.println("Level up!");
-            } else {
-                bossSpawner.updateHealthBar();
-            }
+            hit(orangeDino);
         });
     }
+
+    /**
+     * Summary :
+     * Takes a life from the boss hit by the player, by a projectile or the laser
+     */
+    public void hit(Entity orangeDino) {
+        explosionPool.spawnExplosion(orangeDino.getX() - 25, orangeDino.getY() - 30);
+        audioManager.playSound(GameConstants.ENEMY_EXPLODE_SOUND);
+        collisionHandler.handleHitBoss(orangeDino.getComponent(OrangeDinoComponent.class));
+
+        if (orangeDino.getComponent(OrangeDinoComponent.class).getLives() == 0) {
+            // if the boss is defeated it drops 100% a heart
+            spawn("heart", orangeDino.getX(), orangeDino.getY());
+            // and a magnet to gather the coins scattered around it
+            spawn("magnet", orangeDino.getX() + 40, orangeDino.getY());
+            // if the boss dino is defeated it drops twice as many coins as the current level, in a few big coins
+            int[] values = CoinDenominations.split(levelManager.getCurrentLevel() * 2);
+            double[] x = new double[values.length];
+            double[] y = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                x[i] = orangeDino.getX() + random(-25, 25);
+                y[i] = orangeDino.getY() + random(-25, 25);
+            }
+            entityFactory.spawnBatch("coin", x, y, null, values);
+            bossSpawner.removeBossEntities();
+
+            collisionHandler.handleBossDefeat(score.getComponent(ScoreComponent.class));
+
+            gameActions.showLevelMessage();
+            System.out.println("Level up!");
+        } else {
+            bossSpawner.updateHealthBar();
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.dinosaur.dinosaurexploder.controller.core.collisions;
 
 import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.components.ExplosionPoolComponent;
 import com.dinosaur.dinosaurexploder.components.RedDinoComponent;
 import com.dinosaur.dinosaurexploder.components.ScoreComponent;
 import com.dinosaur.dinosaurexploder.constants.EntityType;
@@ -8,7 +9,9 @@ import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.controller.BossSpawner;
 import com.dinosaur.dinosaurexploder.controller.core.GameActions;
 import com.dinosaur.dinosaurexploder.controller.core.GameInitializer;
+import com.dinosaur.dinosaurexploder.model.CoinDenominations;
 import com.dinosaur.dinosaurexploder.model.CollisionHandler;
+import com.dinosaur.dinosaurexploder.model.GameEntityFactory;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 
@@ -20,43 +23,63 @@ public class ProjectileRedDinoCollision implements CollisionHandlerInterface{
 
     private final GameActions gameActions;
     private final CollisionHandler collisionHandler;
+    private final ExplosionPoolComponent explosionPool;
     private final BossSpawner bossSpawner;
     private final LevelManager levelManager;
     private final Entity score;
+    private final AudioManager audioManager;
+    private final GameEntityFactory entityFactory;
 
     public ProjectileRedDinoCollision(GameInitializer gameInitializer, GameActions gameActions) {
         this.gameActions = gameActions;
         this.collisionHandler = gameInitializer.getCollisionHandler();
+        this.explosionPool = gameInitializer.getExplosionPool();
         this.bossSpawner = gameInitializer.getBossSpawner();
         this.levelManager = gameInitializer.getLevelManager();
         this.score = gameInitializer.getScore();
+        this.audioManager = gameInitializer.getContext().getAudioManager();
+        this.entityFactory = gameInitializer.getContext().getEntityFactory();
     }
 
     @Override
     public void register() {
         onCollisionBegin(EntityType.PROJECTILE, EntityType.RED_DINO, (projectile, redDino) -> {
-            spawn("explosion", redDino.getX() - 25, redDino.getY() - 30);
             projectile.removeFromWorld();
-            AudioManager.getInstance().playSound(GameConstants.ENEMY_EXPLODE_SOUND);
-            collisionHandler.handleHitBoss(redDino.getComponent(RedDinoComponent.class));
-
-            if (redDino.getComponent(RedDinoComponent.class).getLives() == 0) {
-                // if the boss is defeated it drops 100% a heart
-                spawn("heart", redDino.getX(), redDino.getY());
-                // if the boss dino is defeated it drops as many coins as the current level
-                for (int i = 0; i < levelManager.getCurrentLevel(); i++) {
-                    spawn("coin", redDino.getX() + random(-25, 25), redDino.getY() + random(-25, 25));
-                }
-                bossSpawner.removeBossEntities();
-
-                collisionHandler.handleBossDefeat(score.getComponent(ScoreComponent.class));
-
-                gameActions.showLevelMessage();
-                System.out.println("Level up!");
-            } else {
-                bossSpawner.updateHealthBar();
+            hit(redDino);
+        });
+    }
+
+    /**
+     * Summary :
+     * Takes a life from the boss hit by the player, by a projectile or the laser
+     */
+    public void hit(Entity redDino) {
+        explosionPool.spawnExplosion(redDino.getX() - 25, redDino.getY() - 30);
+        audioManager.playSound(GameConstants.ENEMY_EXPLODE_SOUND);
+        collisionHandler.handleHitBoss(redDino.getComponent(RedDinoComponent.class));
+
+        if (redDino.getComponent(RedDinoComponent.class).getLives() == 0) {
+            // if the boss is defeated it drops 100% a heart
+            spawn("heart", redDino.getX(), redDino.getY());
+            // and a magnet to gather the coins scattered around it
+            spawn("magnet", redDino.getX() + 40, redDino.getY());
+            // if the boss dino is defeated it drops as many coins as the current level, in a few big coins
+            int[] values = CoinDenominations.split(levelManager.getCurrentLevel());
+            double[] x = new double[values.length];
+            double[] y = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                x[i] = redDino.getX() + random(-25, 25);
+                y[i] = redDino.getY() + random(-25, 25);
             }
+            entityFactory.spawnBatch("coin", x, y, null, values);
+            bossSpawner.removeBossEntities();
 
-        });
+            collisionHandler.handleBossDefeat(score.getComponent(ScoreComponent.class));
+
+            gameActions.showLevelMessage();
+            System.out.println("Level up!");
+        } else {
+            bossSpawner.updateHealthBar();
+        }
     }
 }
@@ -0,0 +1,59 @@
+package com.dinosaur.dinosaurexploder.model;
+
+/**
+ * Summary :
+ * Coin values are powers of five: 1, 5, 25, 125 and so on.
+ * A drop is paid with the biggest coins first, so it takes at most four coins of every value
+ * below the biggest one and the number of coins grows with the logarithm of the drop.
+ */
+public final class CoinDenominations {
+    public static final int BASE = 5;
+
+    private CoinDenominations() {
+    }
+
+    /**
+     * Summary :
+     * Values of the coins paying the total, biggest first, they add up to the total exactly
+     */
+    public static int[] split(int total) {
+        if (total <= 0) {
+            return new int[0];
+        }
+        int count = 0;
+        for (int value = highestDenomination(total), remaining = total; remaining > 0; value /= BASE) {
+            count += remaining / value;
+            remaining %= value;
+        }
+
+        int[] coins = new int[count];
+        int index = 0;
+        for (int value = highestDenomination(total), remaining = total; remaining > 0; value /= BASE) {
+            for (; remaining >= value; remaining -= value) {
+                coins[index++] = value;
+            }
+        }
+        return coins;
+    }
+
+    /**
+     * Summary :
+     * 0 for coins worth less than 5, 1 below 25 and so on, a merged coin may be worth any amount
+     */
+    public static int tierOf(int value) {
+        int tier = 0;
+        for (long denomination = BASE; denomination <= value; denomination *= BASE) {
+            tier++;
+        }
+        return tier;
+    }
+
+    // Biggest power of five that is not over the value
+    private static int highestDenomination(int value) {
+        int denomination = 1;
+        while (denomination <= value / BASE) {
+            denomination *= BASE;
+        }
+        return denomination;
+    }
+}
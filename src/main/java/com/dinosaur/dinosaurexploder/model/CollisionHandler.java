@@ -42,12 +42,25 @@ public class CollisionHandler {
             ScoreComponent scoreComponent,
             @Nullable BombComponent bombComponent
     ) {
-        collectedCoinsComponent.incrementCoin();
+        onPlayerGetCoin(collectedCoinsComponent, scoreComponent, bombComponent, 1);
+    }
+
+    /**
+     * Summary :
+     * Collects a coin worth several coins, it pays exactly as much as that many single coins
+     */
+    public void onPlayerGetCoin(
+            CollectedCoinsComponent collectedCoinsComponent,
+            ScoreComponent scoreComponent,
+            @Nullable BombComponent bombComponent,
+            int value
+    ) {
+        collectedCoinsComponent.addCoins(value);
 
-        scoreComponent.incrementScore(2);
+        scoreComponent.incrementScore(2 * value);
         // Check for bomb regeneration when coin is collected
         if (bombComponent != null) {
-            bombComponent.trackCoinForBombRegeneration();
+            bombComponent.trackCoinsForBombRegeneration(value);
         }
     }
 
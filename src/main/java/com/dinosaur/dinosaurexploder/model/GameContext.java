@@ -0,0 +1,299 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.exception.LockedShipException;
+import com.dinosaur.dinosaurexploder.exception.LockedWeaponException;
+import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.utils.DataProvider;
+import com.dinosaur.dinosaurexploder.utils.FileDataProvider;
+import com.dinosaur.dinosaurexploder.utils.LanguageManager;
+import com.dinosaur.dinosaurexploder.utils.LeaderboardService;
+import com.dinosaur.dinosaurexploder.utils.MemoryDataProvider;
+import com.dinosaur.dinosaurexploder.utils.QualityGovernor;
+import com.dinosaur.dinosaurexploder.utils.SceneMutationCounter;
+import com.dinosaur.dinosaurexploder.utils.SessionTicker;
+import com.dinosaur.dinosaurexploder.utils.SettingsService;
+import com.dinosaur.dinosaurexploder.utils.ShipUnlockChecker;
+import com.dinosaur.dinosaurexploder.utils.WeaponUnlockChecker;
+import com.dinosaur.dinosaurexploder.view.DinosaurGUI;
+
+/**
+ * Summary :
+ * Everything that belongs to one player session: the selected ship and weapon, the high score,
+ * the total coins, the audio, the language and the quality governor.
+ * The desktop game uses the default context, the web app creates one context per browser session
+ * so that concurrent players do not overwrite each other.
+ */
+public class GameContext {
+    public static final String BITMAP_HUD_PROPERTY = "dinosaur.bitmapHud";
+    private static final double ENEMY_GRID_CELL_SIZE = 100;
+    private static final double COIN_GRID_CELL_SIZE = 80;
+
+    private static GameContext defaultContext;
+
+    private final DataProvider dataProvider;
+    private final AudioManager audioManager;
+    private final LanguageManager languageManager;
+    private final QualityGovernor qualityGovernor;
+    private final ShipUnlockChecker shipUnlockChecker;
+    private final WeaponUnlockChecker weaponUnlockChecker;
+    private final SceneMutationCounter sceneMutations = new SceneMutationCounter();
+    private final SpatialGrid<Entity> enemyGrid = new SpatialGrid<>(DinosaurGUI.WIDTH, DinosaurGUI.HEIGHT, ENEMY_GRID_CELL_SIZE);
+    private final SpatialGrid<Entity> coinGrid = new SpatialGrid<>(DinosaurGUI.WIDTH, DinosaurGUI.HEIGHT, COIN_GRID_CELL_SIZE);
+
+    private int selectedShip = 1; // Default ship
+    private int selectedWeapon = 1; // Default weapon
+    private HighScore highScore = new HighScore();
+    private TotalCoins totalCoins = new TotalCoins();
+    private SessionTicker sessionTicker;
+    private volatile boolean paused = false;
+    private boolean remoteRendering = false;
+    private LeaderboardService leaderboard;
+    private String playerId = "player";
+    private boolean bitmapHud = Boolean.getBoolean(BITMAP_HUD_PROPERTY);
+    private GameEntityFactory entityFactory;
+    private SettingsService settingsService;
+
+    /**
+     * Summary :
+     * Creates an isolated session with its own audio, language and quality governor.
+     * Its high score and coins are kept in memory only, nothing is read from or saved to the disk.
+     */
+    public GameContext() {
+        this(new MemoryDataProvider());
+    }
+
+    /**
+     * Summary :
+     * Creates an isolated session whose high score and coins are kept by the given provider
+     */
+    public GameContext(DataProvider dataProvider) {
+        this(dataProvider, new AudioManager(), new LanguageManager(), new QualityGovernor());
+    }
+
+    public GameContext(DataProvider dataProvider, AudioManager audioManager,
+                       LanguageManager languageManager, QualityGovernor qualityGovernor) {
+        this.dataProvider = dataProvider;
+        this.audioManager = audioManager;
+        this.languageManager = languageManager;
+        this.qualityGovernor = qualityGovernor;
+        this.shipUnlockChecker = new ShipUnlockChecker(dataProvider, languageManager);
+        this.weaponUnlockChecker = new WeaponUnlockChecker(dataProvider, languageManager);
+    }
+
+    /**
+     * Summary :
+     * The context of the desktop game, sharing the application wide singletons
+     */
+    public static synchronized GameContext getDefault() {
+        if (defaultContext == null) {
+            defaultContext = new GameContext(new FileDataProvider(), AudioManager.getInstance(),
+                    LanguageManager.getInstance(), QualityGovernor.getInstance());
+        }
+        return defaultContext;
+    }
+
+    /**
+     * Summary :
+     * Whether this is the context of the desktop game rather than of a web session
+     */
+    public boolean isDefault() {
+        synchronized (GameContext.class) {
+            return this == defaultContext;
+        }
+    }
+
+    public int getSelectedShip() {
+        return selectedShip;
+    }
+
+    public void setSelectedShip(int shipNumber) {
+        selectedShip = shipUnlockChecker.check(shipNumber);
+    }
+
+    public boolean checkUnlockedShip(int shipNumber) {
+        try {
+            shipUnlockChecker.check(shipNumber);
+            return true;
+        } catch (LockedShipException e) {
+            return false;
+        }
+    }
+
+    public int getSelectedWeapon() {
+        return selectedWeapon;
+    }
+
+    public void setSelectedWeapon(int weaponNumber) {
+        selectedWeapon = weaponUnlockChecker.check(weaponNumber);
+    }
+
+    public boolean checkUnlockedWeapon(int weaponNumber) {
+        try {
+            weaponUnlockChecker.check(weaponNumber);
+            return true;
+        } catch (LockedWeaponException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Summary :
+     * High score of the running session, kept up to date by the ScoreComponent
+     */
+    public HighScore getHighScore() {
+        return highScore;
+    }
+
+    public void setHighScore(HighScore highScore) {
+        this.highScore = highScore;
+    }
+
+    /**
+     * Summary :
+     * Total coins of the running session, kept up to date by the CollectedCoinsComponent
+     */
+    public TotalCoins getTotalCoins() {
+        return totalCoins;
+    }
+
+    public void setTotalCoins(TotalCoins totalCoins) {
+        this.totalCoins = totalCoins;
+    }
+
+    public DataProvider getDataProvider() {
+        return dataProvider;
+    }
+
+    public AudioManager getAudioManager() {
+        return audioManager;
+    }
+
+    public LanguageManager getLanguageManager() {
+        return languageManager;
+    }
+
+    public QualityGovernor getQualityGovernor() {
+        return qualityGovernor;
+    }
+
+    /**
+     * Summary :
+     * Tick scheduling of the session on a shared web server, null for the desktop game
+     */
+    public SessionTicker getSessionTicker() {
+        return sessionTicker;
+    }
+
+    public void setSessionTicker(SessionTicker sessionTicker) {
+        this.sessionTicker = sessionTicker;
+    }
+
+    /**
+     * Summary :
+     * Whether the pause menu is open, the web server closes sessions paused for too long
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public SceneMutationCounter getSceneMutations() {
+        return sceneMutations;
+    }
+
+    /**
+     * Summary :
+     * Positions of the dinosaurs of the running game, kept up to date by their SpatialIndexComponent
+     */
+    public SpatialGrid<Entity> getEnemyGrid() {
+        return enemyGrid;
+    }
+
+    /**
+     * Summary :
+     * Positions of the falling coins, so the magnet only looks at the coins around the ship
+     */
+    public SpatialGrid<Entity> getCoinGrid() {
+        return coinGrid;
+    }
+
+    /**
+     * Summary :
+     * Whether the scene is rendered in a browser, every scene change then costs bandwidth
+     * and the game reuses nodes and redraws its canvases less often
+     */
+    public boolean isRemoteRendering() {
+        return remoteRendering;
+    }
+
+    public void setRemoteRendering(boolean remoteRendering) {
+        this.remoteRendering = remoteRendering;
+    }
+
+    /**
+     * Summary :
+     * Settings of this session, loaded from its data provider on first use. The saved volume and mute are applied to its audio,
+     * later changes go straight to it.
+     */
+    public synchronized SettingsService getSettingsService() {
+        if (settingsService == null) {
+            settingsService = SettingsService.create(dataProvider);
+            applyAudioSettings(settingsService.getSettings());
+            settingsService.addListener(this::applyAudioSettings);
+        }
+        return settingsService;
+    }
+
+    private void applyAudioSettings(Settings settings) {
+        audioManager.setVolume(settings.getVolume());
+        audioManager.setMuted(settings.isMuted());
+    }
+
+    /**
+     * Summary :
+     * Leaderboard the scores are submitted to at game over, null when there is none
+     */
+    public LeaderboardService getLeaderboard() {
+        return leaderboard;
+    }
+
+    public void setLeaderboard(LeaderboardService leaderboard) {
+        this.leaderboard = leaderboard;
+    }
+
+    /**
+     * Summary :
+     * Factory of the entities of this context, created on first use and registered in the game world
+     */
+    public GameEntityFactory getEntityFactory() {
+        if (entityFactory == null) {
+            entityFactory = new GameEntityFactory(this);
+        }
+        return entityFactory;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(String playerId) {
+        this.playerId = playerId;
+    }
+
+    /**
+     * Summary :
+     * Whether the HUD numbers are drawn from a glyph atlas instead of Text nodes,
+     * turned on with -Ddinosaur.bitmapHud=true
+     */
+    public boolean isBitmapHud() {
+        return bitmapHud;
+    }
+
+    public void setBitmapHud(boolean bitmapHud) {
+        this.bitmapHud = bitmapHud;
+    }
+}
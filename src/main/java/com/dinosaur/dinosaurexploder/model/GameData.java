@@ -1,69 +1,46 @@
 package com.dinosaur.dinosaurexploder.model;
 
-import com.dinosaur.dinosaurexploder.exception.LockedShipException;
-import com.dinosaur.dinosaurexploder.exception.LockedWeaponException;
-import com.dinosaur.dinosaurexploder.utils.FileDataProvider;
-import com.dinosaur.dinosaurexploder.utils.ShipUnlockChecker;
-import com.dinosaur.dinosaurexploder.utils.WeaponUnlockChecker;
-
+/**
+ * Summary :
+ * Static access to the default GameContext, used by the desktop game.
+ * Code running inside a session should use its own GameContext instead.
+ */
 public class GameData {
-    // Static variable that stores the selected ship and weapon
-    private static int selectedShip = 1; // Default ship
-    private static int selectedWeapon = 1; // Default weapon
-    private static final ShipUnlockChecker shipUnlockChecker = new ShipUnlockChecker(new FileDataProvider());
-    private static final WeaponUnlockChecker weaponUnlockChecker = new WeaponUnlockChecker(new FileDataProvider());
-
-    // Static variable that stores the high score
-    private static int highScore;
-
-    // Static variable that stores total coins
-    private static int totalCoins;
 
     // Getter and setter for the selected ship
     public static int getSelectedShip() {
-        return selectedShip;
+        return GameContext.getDefault().getSelectedShip();
     }
 
     public static void setSelectedShip(int shipNumber) {
-        selectedShip = shipUnlockChecker.check(shipNumber);
+        GameContext.getDefault().setSelectedShip(shipNumber);
     }
 
     public static boolean checkUnlockedShip(int shipNumber) {
-        try {
-            shipUnlockChecker.check(shipNumber);
-            return true;
-        } catch (LockedShipException e) {
-            return false;
-        }
+        return GameContext.getDefault().checkUnlockedShip(shipNumber);
     }
 
     // Getter and setter for the selected ship
     public static int getSelectedWeapon() {
-        return selectedWeapon;
+        return GameContext.getDefault().getSelectedWeapon();
     }
 
     public static void setSelectedWeapon(int weaponNumber) {
-        selectedWeapon = weaponUnlockChecker.check(weaponNumber);
+        GameContext.getDefault().setSelectedWeapon(weaponNumber);
     }
 
     public static boolean checkUnlockedWeapon(int weaponNumber) {
-        try {
-            weaponUnlockChecker.check(weaponNumber);
-            return true;
-        } catch (LockedWeaponException e) {
-            return false;
-        }
+        return GameContext.getDefault().checkUnlockedWeapon(weaponNumber);
     }
 
     // Getter for the high score
     public static int getHighScore() {
-        highScore = new FileDataProvider().getHighScore().getHigh();
-        return highScore;
+        return GameContext.getDefault().getDataProvider().getHighScore().getHigh();
     }
 
     // Getter for total coins
     public static int getTotalCoins() {
-        totalCoins = new FileDataProvider().getTotalCoins().getTotal();
+        int totalCoins = GameContext.getDefault().getDataProvider().getTotalCoins().getTotal();
         System.out.println("Total: " + totalCoins);
         return totalCoins;
     }
@@ -2,37 +2,43 @@ package com.dinosaur.dinosaurexploder.model;
 
 import com.almasb.fxgl.dsl.EntityBuilder;
 import com.almasb.fxgl.dsl.FXGL;
-import com.almasb.fxgl.dsl.components.ExpireCleanComponent;
 import com.almasb.fxgl.dsl.components.OffscreenCleanComponent;
 import com.almasb.fxgl.dsl.components.ProjectileComponent;
-import com.almasb.fxgl.dsl.views.SelfScrollingBackgroundView;
 import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.EntityFactory;
 import com.almasb.fxgl.entity.SpawnData;
 import com.almasb.fxgl.entity.Spawns;
+import com.almasb.fxgl.entity.component.Component;
 import com.almasb.fxgl.physics.BoundingShape;
 import com.almasb.fxgl.physics.HitBox;
-import com.almasb.fxgl.texture.AnimatedTexture;
-import com.almasb.fxgl.texture.AnimationChannel;
+import com.dinosaur.dinosaurexploder.utils.AssetRegistry;
 import com.dinosaur.dinosaurexploder.components.*;
 
 import com.dinosaur.dinosaurexploder.constants.EntityType;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.constants.ParticleEffect;
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
 import com.dinosaur.dinosaurexploder.utils.FXGLGameTimer;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 import com.dinosaur.dinosaurexploder.components.PlayerComponent;
+import com.dinosaur.dinosaurexploder.view.BitmapText;
+import com.dinosaur.dinosaurexploder.view.StarfieldView;
 import javafx.geometry.Orientation;
 import javafx.geometry.Point2D;
 import javafx.scene.Group;
+import javafx.scene.effect.ColorAdjust;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.Arc;
+import javafx.scene.shape.ArcType;
 import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Font;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
 
 import static com.almasb.fxgl.dsl.FXGLForKtKt.*;
 
@@ -42,18 +48,47 @@ import static com.almasb.fxgl.dsl.FXGLForKtKt.*;
  * Dino, Explosion
  */
 public class GameEntityFactory implements EntityFactory {
+    // Homing missiles fly slower than the fast weapons so that their turns stay visible
+    // Speed of the first weapon, the second and third projectile weapons fly two and three times as fast
+    private static final int PROJECTILE_SPEED = 600;
+    // Bombs always fire the projectiles of the first weapon
+    private static final int BOMB_WEAPON = 1;
+    private static final double HOMING_SPEED = 700;
+    private static final double HOMING_TURN_RATE = Math.toRadians(270);
+    private static final double HOMING_RANGE = 600;
+    private static final double LASER_RANGE = 900;
+    // Seconds between two hits of the laser on the same dinosaur
+    private static final double LASER_DAMAGE_INTERVAL = 0.15;
+    private static final double MAGNET_RADIUS = 180;
+    private static final double MAGNET_PULL_SPEED = 450;
+
+    private final GameContext context;
+    // Removes projectiles and coins once they leave the screen, it needs the running game scene
+    private final Supplier<Component> offscreenCleaner;
+
+    public GameEntityFactory() {
+        this(GameContext.getDefault());
+    }
+
+    public GameEntityFactory(GameContext context) {
+        this(context, OffscreenCleanComponent::new);
+    }
+
+    GameEntityFactory(GameContext context, Supplier<Component> offscreenCleaner) {
+        this.context = context;
+        this.offscreenCleaner = offscreenCleaner;
+    }
+
     /**
      * Summary :
      * New Background creation will be handled in below Entity
      */
     @Spawns("background")
     public Entity newBackground(SpawnData data) {
-        Image img = new Image(Objects.requireNonNull(
-                Objects.requireNonNull(getClass().getResource(GameConstants.BACKGROUND_IMAGE_PATH))
-                        .toString()));
+        QualityLevel quality = data.hasKey("quality") ? data.get("quality") : QualityLevel.HIGH;
 
         return FXGL.entityBuilder()
-                .view(new SelfScrollingBackgroundView(img, 3000, 1500, Orientation.VERTICAL, -50))
+                .view(new StarfieldView(getAppWidth(), getAppHeight(), Orientation.VERTICAL, quality))
                 .zIndex(-1)
                 .buildAndAttach();
     }
@@ -65,23 +100,29 @@ public class GameEntityFactory implements EntityFactory {
     @Spawns("player")
     public Entity newPlayer(SpawnData data) {
         // Get the selected ship
-        int selectedShip = GameData.getSelectedShip();
+        int selectedShip = context.getSelectedShip();
         String shipImagePath = "assets/textures/spaceship" + selectedShip + ".png";
         System.out.println("Nave seleccionada en newPlayer: " + selectedShip);
 
         // Set Ship Image
-        Image shipImage = new Image(getClass().getResourceAsStream("/" + shipImagePath));
+        Image shipImage = AssetRegistry.getInstance().getImage(shipImagePath);
 
         // Ship dimension
         double width = shipImage.getWidth();
         double height = shipImage.getHeight();
 
-        return entityBuilderBase(data, EntityType.PLAYER)
+        EntityBuilder builder = entityBuilderBase(data, EntityType.PLAYER)
                 .view(new ImageView(shipImage))
                 .bbox(new HitBox(new Point2D(0, 0), BoundingShape.box(width, height))) // la nave
                 .collidable()
-                .with(new PlayerComponent())
-                .build();
+                .with(new GhostTrailComponent(shipImage))
+                .with(new ParticleEmitterComponent(ParticleEffect.TRAIL, 0, 0.5, 1.0))
+                .with(new PlayerComponent(context))
+                .with(new MagnetComponent(context.getCoinGrid(), MAGNET_RADIUS, MAGNET_PULL_SPEED));
+        if (context.getSelectedWeapon() == GameConstants.LASER_WEAPON) {
+            builder.with(new LaserComponent(context.getEnemyGrid(), LASER_RANGE, LASER_DAMAGE_INTERVAL));
+        }
+        return builder.build();
     }
 
     /**
@@ -91,18 +132,23 @@ public class GameEntityFactory implements EntityFactory {
     @Spawns("basicProjectile")
     public Entity newBasicProjectile(SpawnData data) {
         Point2D direction = data.get("direction");
-        int selectedShip = GameData.getSelectedShip();
-        int selectedWeapon = GameData.getSelectedWeapon();
-        int speed = 600 * (selectedWeapon);
-        String weaponImagePath = "assets/textures/projectiles/projectile" + selectedShip + "_" + selectedWeapon
-                + ".png";
-
-        Image projectileImage = new Image(getClass().getResourceAsStream("/" + weaponImagePath));
-        return entityBuilderBase(data, EntityType.PROJECTILE)
+        int selectedWeapon = context.getSelectedWeapon();
+        return newBasicProjectile(entityBuilderBase(data, EntityType.PROJECTILE), direction,
+                getProjectileImage(selectedWeapon), selectedWeapon);
+    }
+
+    private Entity newBasicProjectile(EntityBuilder builder, Point2D direction, Image projectileImage,
+                                      int selectedWeapon) {
+        if (selectedWeapon == GameConstants.HOMING_WEAPON) {
+            return newHomingProjectile(builder, direction, projectileImage);
+        }
+
+        int speed = PROJECTILE_SPEED * speedFactor(selectedWeapon);
+        return builder
                 // The OffscreenCleanComponent is used because when the projectiles move, if
                 // they
                 // move outside the screen we want them deleted.
-                .with(new OffscreenCleanComponent())
+                .with(offscreenCleaner.get())
                 .view(new ImageView(projectileImage))
                 .bbox(new HitBox(BoundingShape.box(50, 50)))
                 .collidable()
@@ -111,6 +157,24 @@ public class GameEntityFactory implements EntityFactory {
 
     }
 
+    // Homing and laser are kinds of weapons rather than faster projectiles, they keep the first speed
+    private static int speedFactor(int selectedWeapon) {
+        return selectedWeapon <= GameConstants.WEAPON_IMAGE_COUNT ? selectedWeapon : 1;
+    }
+
+    private Entity newHomingProjectile(EntityBuilder builder, Point2D direction, Image projectileImage) {
+        ImageView view = new ImageView(projectileImage);
+        view.setEffect(new ColorAdjust(GameConstants.HOMING_PROJECTILE_HUE, 0, 0, 0));
+        return builder
+                .with(offscreenCleaner.get())
+                .view(view)
+                .bbox(new HitBox(BoundingShape.box(50, 50)))
+                .collidable()
+                .with(new HomingProjectileComponent(context.getEnemyGrid(), direction,
+                        HOMING_SPEED, HOMING_TURN_RATE, HOMING_RANGE))
+                .build();
+    }
+
     /**
      * Summary :
      * New Enemy BasicProjectile creation will be handled in below Entity
@@ -136,10 +200,11 @@ public class GameEntityFactory implements EntityFactory {
     public Entity newGreenDino(SpawnData data) {
         return entityBuilderBase(data, EntityType.GREEN_DINO)
                 .with(new OffscreenCleanComponent())
-                .view(texture(GameConstants.GREEN_DINO_IMAGE_FILE, 80, 60))
+                .view(dinoView(GameConstants.GREEN_DINO_IMAGE_PATH, 80, 60))
                 .bbox(new HitBox(BoundingShape.box(65, 55)))
                 .collidable()
-                .with(new GreenDinoComponent())
+                .with(new GreenDinoComponent(context.getAudioManager()))
+                .with(new SpatialIndexComponent(context.getEnemyGrid()))
                 .build();
     }
 
@@ -150,12 +215,20 @@ public class GameEntityFactory implements EntityFactory {
     @Spawns("coin")
     public Entity newCoin(SpawnData data) {
         System.out.println("Loading coin texture: " + GameConstants.COIN_IMAGE_FILE);
-        return entityBuilderBase(data, EntityType.COIN)
-                .with(new OffscreenCleanComponent())
-                .view(texture(GameConstants.COIN_IMAGE_FILE, 40, 40))
+        // Boss drops are paid with coins worth several coins
+        int value = data.hasKey("value") ? data.get("value") : 1;
+        return newCoin(entityBuilderBase(data, EntityType.COIN), value, getCoinImage());
+    }
+
+    private Entity newCoin(EntityBuilder builder, int value, Image coinImage) {
+        return builder
+                .with(offscreenCleaner.get())
+                .view(new ImageView(coinImage))
                 .bbox(new HitBox(BoundingShape.box(40, 40)))
                 .collidable()
-                .with(new CoinComponent())
+                .with(new CoinComponent(context.getCoinGrid(), value))
+                .with(new ParticleEmitterComponent(ParticleEffect.SPARKLE, 6))
+                .with(new SpatialIndexComponent(context.getCoinGrid()))
                 .build();
     }
 
@@ -163,10 +236,12 @@ public class GameEntityFactory implements EntityFactory {
     public Entity newRedDino(SpawnData data) {
         return entityBuilderBase(data, EntityType.RED_DINO)
                 .with(new OffscreenCleanComponent())
+                // redDino.png is not in the resources, FXGL shows its placeholder texture instead
                 .view(texture(GameConstants.RED_DINO_IMAGE_FILE, 100, 80))
                 .bbox(new HitBox(BoundingShape.box(65, 55)))
                 .collidable()
-                .with(new RedDinoComponent(new FXGLGameTimer()))
+                .with(new RedDinoComponent(new FXGLGameTimer(), context.getAudioManager()))
+                .with(new SpatialIndexComponent(context.getEnemyGrid()))
                 .build();
     }
 
@@ -177,10 +252,11 @@ public class GameEntityFactory implements EntityFactory {
 
         return entityBuilderBase(data, EntityType.ORANGE_DINO)
                 .with(new OffscreenCleanComponent())
-                .view(texture(GameConstants.ORANGE_DINO_IMAGE_FILE, 100, 150))
+                .view(dinoView(GameConstants.ORANGE_DINO_IMAGE_PATH, 100, 150))
                 .bbox(new HitBox(BoundingShape.box(65, 55)))
                 .collidable()
-                .with(new OrangeDinoComponent(new FXGLGameTimer(), player))
+                .with(new OrangeDinoComponent(new FXGLGameTimer(), player, context.getAudioManager()))
+                .with(new SpatialIndexComponent(context.getEnemyGrid()))
                 .build();
     }
 
@@ -189,7 +265,7 @@ public class GameEntityFactory implements EntityFactory {
         Rectangle healthbar = new Rectangle(200.0, 25.0, Color.RED);
         return entityBuilderBase(data, EntityType.HEALTHBAR)
                 .with(new OffscreenCleanComponent())
-                .with(new HealthbarComponent())
+                .with(new HealthbarComponent(context))
                 .view(healthbar)
                 .build();
     }
@@ -210,6 +286,31 @@ public class GameEntityFactory implements EntityFactory {
                 .build();
     }
 
+    /**
+     * Summary :
+     * Spawn of a coin magnet, there is no texture for it so the horseshoe is drawn with shapes
+     */
+    @Spawns("magnet")
+    public Entity newMagnet(SpawnData data) {
+        Arc horseshoe = new Arc(14, 10, 10, 10, 180, 180);
+        horseshoe.setType(ArcType.OPEN);
+        horseshoe.setFill(null);
+        horseshoe.setStroke(Color.RED);
+        horseshoe.setStrokeWidth(6);
+        Rectangle leftTip = new Rectangle(1, 2, 6, 8);
+        leftTip.setFill(Color.LIGHTGRAY);
+        Rectangle rightTip = new Rectangle(21, 2, 6, 8);
+        rightTip.setFill(Color.LIGHTGRAY);
+
+        return entityBuilderBase(data, EntityType.MAGNET)
+                .with(new OffscreenCleanComponent())
+                .view(new Group(horseshoe, leftTip, rightTip))
+                .bbox(new HitBox(BoundingShape.box(28, 24)))
+                .collidable()
+                .with(new MagnetPickup())
+                .build();
+    }
+
     /**
      * Summary :
      * Setting up the Score will be handled in below Entity
@@ -218,10 +319,10 @@ public class GameEntityFactory implements EntityFactory {
     public Entity newScore(SpawnData data) {
         Text scoreText = new Text("");
         scoreText.setFill(Color.GREEN);
-        scoreText.setFont(Font.font(GameConstants.ARCADE_CLASSIC_FONTNAME, 20));
+        scoreText.setFont(AssetRegistry.getInstance().getFont(GameConstants.ARCADE_CLASSIC_FONTNAME, 20));
         return entityBuilderBase(data, EntityType.SCORE)
                 .view(scoreText)
-                .with(new ScoreComponent())
+                .with(new ScoreComponent(context))
                 .with(new OffscreenCleanComponent()).build();
     }
 
@@ -235,7 +336,7 @@ public class GameEntityFactory implements EntityFactory {
         return entityBuilderBase(data, EntityType.LIFE)
                 .from(data)
                 .view(lifeText)
-                .with(new LifeComponent())
+                .with(new LifeComponent(context))
                 .with(new OffscreenCleanComponent()).build();
     }
 
@@ -245,7 +346,7 @@ public class GameEntityFactory implements EntityFactory {
         return entityBuilderBase(data, EntityType.BOMB)
                 .from(data)
                 .view(bombText)
-                .with(new BombComponent())
+                .with(new BombComponent(context))
                 .with(new OffscreenCleanComponent()).build();
     }
 
@@ -258,26 +359,35 @@ public class GameEntityFactory implements EntityFactory {
         return entityBuilderBase(data, EntityType.COIN)
                 .from(data)
                 .view(coinText)
-                .with(new CollectedCoinsComponent())
+                .with(new CollectedCoinsComponent(context))
                 .with(new OffscreenCleanComponent()).build();
     }
 
     /**
      * Summary :
-     * Animation of an explosion will be handled in below Entity
+     * The pool playing every explosion animation will be handled in below Entity
+     */
+    @Spawns("explosions")
+    public Entity newExplosions(SpawnData data) {
+        return FXGL.entityBuilder(data)
+                .with(new ExplosionPoolComponent())
+                .zIndex(10)
+                .build();
+    }
+
+    /**
+     * Summary :
+     * The particle system drawing trails, debris and sparkles will be handled in below Entity
      */
-    @Spawns("explosion")
-    public Entity newExplosion(SpawnData data) {
-        Duration seconds = Duration.seconds(0.4);
-        AnimationChannel ac = new AnimationChannel(
-                FXGL.image("explosion.png"),
-                seconds, 16);
-
-        AnimatedTexture at = new AnimatedTexture(ac);
-        at.play();
+    @Spawns("particles")
+    public Entity newParticles(SpawnData data) {
+        QualityLevel quality = data.hasKey("quality") ? data.get("quality") : QualityLevel.HIGH;
+        ParticleSystemComponent particleSystem = new ParticleSystemComponent(getAppWidth(), getAppHeight());
+        particleSystem.setQuality(quality);
+
         return FXGL.entityBuilder(data)
-                .view(at)
-                .with(new ExpireCleanComponent(seconds))
+                .with(particleSystem)
+                .zIndex(5)
                 .build();
     }
 
@@ -287,11 +397,21 @@ public class GameEntityFactory implements EntityFactory {
      */
     @Spawns("Level")
     public Entity newLevel(SpawnData data) {
+        if (context.isBitmapHud()) {
+            BitmapText levelBitmap = new BitmapText(AssetRegistry.getInstance().getGlyphAtlas(
+                    GameConstants.ARCADE_CLASSIC_FONTNAME, GameConstants.TEXT_SIZE_GAME_DETAILS, Color.LIGHTBLUE));
+            levelBitmap.setText("Level: 1");
+            levelBitmap.setTranslateX(10);
+            levelBitmap.setLayoutY(-levelBitmap.getBaselineOffset());
+            return entityBuilderBase(data, EntityType.LEVEL)
+                    .view(levelBitmap)
+                    .build();
+        }
         Text levelText = new Text("Level: 1");
         levelText.setFill(Color.LIGHTBLUE);
         levelText.setTranslateX(10);
         levelText.setFont(
-                Font.font(GameConstants.ARCADE_CLASSIC_FONTNAME, GameConstants.TEXT_SIZE_GAME_DETAILS));
+                AssetRegistry.getInstance().getFont(GameConstants.ARCADE_CLASSIC_FONTNAME, GameConstants.TEXT_SIZE_GAME_DETAILS));
         return entityBuilderBase(data, EntityType.LEVEL)
                 .view(levelText)
                 .build();
@@ -321,6 +441,71 @@ public class GameEntityFactory implements EntityFactory {
                 .build();
     }
 
+    /**
+     * Summary :
+     * Spawns a group of entities of one type in one pass, like the projectiles of a bomb or the coins
+     * of a boss. Bomb volleys use the bombProjectile type, plain projectiles of the first weapon at its
+     * speed whatever weapon is selected. The spawn type is looked up once, the picture and the settings shared by the group
+     * are resolved once, and the entities are added to the world together.
+     * Parameters :
+     * directions - direction of every projectile, null for coins
+     * values - value of every coin, null for projectiles or coins worth one
+     */
+    public List<Entity> spawnBatch(String type, double[] x, double[] y, Point2D[] directions, int[] values) {
+        List<Entity> entities = createBatch(type, x, y, directions, values);
+        getGameWorld().addEntities(entities.toArray(new Entity[0]));
+        return entities;
+    }
+
+    /**
+     * Summary :
+     * Builds the entities of a batch without adding them to the world
+     */
+    public List<Entity> createBatch(String type, double[] x, double[] y, Point2D[] directions, int[] values) {
+        if (y.length != x.length || (directions != null && directions.length != x.length)
+                || (values != null && values.length != x.length)) {
+            throw new IllegalArgumentException("Expected the same number of positions, directions and values");
+        }
+        List<Entity> entities = new ArrayList<>(x.length);
+        switch (type) {
+            case "basicProjectile", "bombProjectile" -> {
+                if (directions == null) {
+                    throw new IllegalArgumentException("Projectiles need a direction");
+                }
+                int selectedWeapon = type.equals("bombProjectile") ? BOMB_WEAPON : context.getSelectedWeapon();
+                Image projectileImage = getProjectileImage(selectedWeapon);
+                for (int i = 0; i < x.length; i++) {
+                    EntityBuilder builder = FXGL.entityBuilder().type(EntityType.PROJECTILE).at(x[i], y[i]);
+                    entities.add(newBasicProjectile(builder, directions[i], projectileImage, selectedWeapon));
+                }
+            }
+            case "coin" -> {
+                Image coinImage = getCoinImage();
+                for (int i = 0; i < x.length; i++) {
+                    EntityBuilder builder = FXGL.entityBuilder().type(EntityType.COIN).at(x[i], y[i]);
+                    entities.add(newCoin(builder, values == null ? 1 : values[i], coinImage));
+                }
+            }
+            default -> throw new IllegalArgumentException("Spawn type " + type + " cannot be batched");
+        }
+        return entities;
+    }
+
+    private Image getProjectileImage(int selectedWeapon) {
+        return AssetRegistry.getInstance().getImage(
+                AssetRegistry.getProjectileImagePath(context.getSelectedShip(), selectedWeapon));
+    }
+
+    // Every dinosaur of a kind shares one picture decoded at its display size
+    private static ImageView dinoView(String path, double width, double height) {
+        return new ImageView(AssetRegistry.getInstance().getImage(path, width, height));
+    }
+
+    // Decoded at its display size, the file itself is 3000x3000
+    private Image getCoinImage() {
+        return AssetRegistry.getInstance().getImage(GameConstants.COIN_IMAGE_PATH, 40, 40);
+    }
+
     /**
      * Summary :
      * Reusable part of every entity
@@ -0,0 +1,91 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import javafx.scene.image.Image;
+
+import java.util.Arrays;
+
+/**
+ * Summary :
+ * Read-only picture holding every HUD character of one font, size and color, rasterized once.
+ * A character is found by a binary search on the sorted characters, so looking one up while
+ * drawing allocates nothing. Characters missing from the atlas are left blank.
+ */
+public class GlyphAtlas {
+    private final Image image;
+    private final char[] chars;
+    private final double[] x;
+    private final double[] y;
+    private final double[] widths;
+    private final double lineHeight;
+    private final double ascent;
+    private final double missingAdvance;
+
+    public GlyphAtlas(Image image, char[] chars, double[] x, double[] y, double[] widths,
+                      double lineHeight, double ascent) {
+        if (x.length != chars.length || y.length != chars.length || widths.length != chars.length) {
+            throw new IllegalArgumentException("Expected one position and width per character");
+        }
+        for (int i = 1; i < chars.length; i++) {
+            if (chars[i - 1] >= chars[i]) {
+                throw new IllegalArgumentException("Characters must be sorted and unique");
+            }
+        }
+        this.image = image;
+        this.chars = chars.clone();
+        this.x = x.clone();
+        this.y = y.clone();
+        this.widths = widths.clone();
+        this.lineHeight = lineHeight;
+        this.ascent = ascent;
+        this.missingAdvance = lineHeight / 2;
+    }
+
+    /**
+     * Summary :
+     * Index of the glyph of a character, negative when the atlas does not have it
+     */
+    public int indexOf(char c) {
+        return Arrays.binarySearch(chars, c);
+    }
+
+    public double getX(int glyph) {
+        return x[glyph];
+    }
+
+    public double getY(int glyph) {
+        return y[glyph];
+    }
+
+    public double getWidth(int glyph) {
+        return widths[glyph];
+    }
+
+    public double measure(char[] text, int length) {
+        double width = 0;
+        for (int i = 0; i < length; i++) {
+            int glyph = indexOf(text[i]);
+            width += glyph >= 0 ? widths[glyph] : missingAdvance;
+        }
+        return width;
+    }
+
+    public Image getImage() {
+        return image;
+    }
+
+    public int getGlyphCount() {
+        return chars.length;
+    }
+
+    public double getLineHeight() {
+        return lineHeight;
+    }
+
+    public double getAscent() {
+        return ascent;
+    }
+
+    public double getMissingAdvance() {
+        return missingAdvance;
+    }
+}
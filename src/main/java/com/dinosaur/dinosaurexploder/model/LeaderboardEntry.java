@@ -0,0 +1,46 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import java.util.Comparator;
+
+/**
+ * Summary :
+ * Best score of one player on the leaderboard. The sequence number orders the submissions,
+ * so between equal scores the one reached first ranks higher.
+ */
+public class LeaderboardEntry {
+    /**
+     * Summary :
+     * Leaderboard order: highest score first, then earliest submission, then player id
+     */
+    public static final Comparator<LeaderboardEntry> RANKING = Comparator
+            .comparingInt(LeaderboardEntry::getScore).reversed()
+            .thenComparingLong(LeaderboardEntry::getSequence)
+            .thenComparing(LeaderboardEntry::getPlayerId);
+
+    private final String playerId;
+    private final int score;
+    private final long sequence;
+
+    public LeaderboardEntry(String playerId, int score, long sequence) {
+        this.playerId = playerId;
+        this.score = score;
+        this.sequence = sequence;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public String toString() {
+        return playerId + ": " + score;
+    }
+}
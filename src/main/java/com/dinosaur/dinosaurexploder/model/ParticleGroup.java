@@ -0,0 +1,108 @@
+package com.dinosaur.dinosaurexploder.model;
+
+/**
+ * Summary :
+ * Fixed capacity storage of particles sharing the same look.
+ * Particles are kept in parallel primitive arrays and dead ones are swapped with the
+ * last live one, so emitting and simulating never allocates.
+ */
+public class ParticleGroup {
+    private final int capacity;
+    private final float gravity;
+
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] life;
+    private final float[] maxLife;
+    private int count = 0;
+
+    public ParticleGroup(int capacity, double gravity) {
+        this.capacity = capacity;
+        this.gravity = (float) gravity;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+    }
+
+    /**
+     * Summary :
+     * Adds a particle, returns false when the group is full and the particle is dropped
+     */
+    public boolean emit(double px, double py, double pvx, double pvy, double lifeSeconds) {
+        if (count == capacity || lifeSeconds <= 0) {
+            return false;
+        }
+        x[count] = (float) px;
+        y[count] = (float) py;
+        vx[count] = (float) pvx;
+        vy[count] = (float) pvy;
+        life[count] = (float) lifeSeconds;
+        maxLife[count] = (float) lifeSeconds;
+        count++;
+        return true;
+    }
+
+    /**
+     * Summary :
+     * Moves every particle and removes the ones whose life is over
+     */
+    public void update(double tpf) {
+        float dt = (float) tpf;
+        int i = 0;
+        while (i < count) {
+            life[i] -= dt;
+            if (life[i] <= 0) {
+                removeAt(i);
+                continue;
+            }
+            vy[i] += gravity * dt;
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+            i++;
+        }
+    }
+
+    private void removeAt(int i) {
+        int last = count - 1;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        count = last;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public float getX(int i) {
+        return x[i];
+    }
+
+    public float getY(int i) {
+        return y[i];
+    }
+
+    /**
+     * Summary :
+     * Remaining life of the particle between 1 (just emitted) and 0 (dead), used as opacity
+     */
+    public float getAlpha(int i) {
+        return life[i] / maxLife[i];
+    }
+}
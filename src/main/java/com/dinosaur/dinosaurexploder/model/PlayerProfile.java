@@ -0,0 +1,98 @@
+package com.dinosaur.dinosaurexploder.model;
+
+/**
+ * Summary :
+ * Everything stored for one named player: progress, unlocks, settings and stats.
+ * Unlocked ships and weapons are bit masks, bit 0 is ship or weapon number 1.
+ */
+public class PlayerProfile {
+    private final String name;
+    private int highScore;
+    private int totalCoins;
+    private int unlockedShips;
+    private int unlockedWeapons;
+    private Settings settings = new Settings();
+    private int gamesPlayed;
+    private int dinosaursKilled;
+    private long playSeconds;
+
+    public PlayerProfile(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getHighScore() {
+        return highScore;
+    }
+
+    public void setHighScore(int highScore) {
+        this.highScore = highScore;
+    }
+
+    public int getTotalCoins() {
+        return totalCoins;
+    }
+
+    public void setTotalCoins(int totalCoins) {
+        this.totalCoins = totalCoins;
+    }
+
+    public int getUnlockedShips() {
+        return unlockedShips;
+    }
+
+    public void setUnlockedShips(int unlockedShips) {
+        this.unlockedShips = unlockedShips;
+    }
+
+    public boolean isShipUnlocked(int shipNumber) {
+        return (unlockedShips & (1 << (shipNumber - 1))) != 0;
+    }
+
+    public int getUnlockedWeapons() {
+        return unlockedWeapons;
+    }
+
+    public void setUnlockedWeapons(int unlockedWeapons) {
+        this.unlockedWeapons = unlockedWeapons;
+    }
+
+    public boolean isWeaponUnlocked(int weaponNumber) {
+        return (unlockedWeapons & (1 << (weaponNumber - 1))) != 0;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    public void setSettings(Settings settings) {
+        this.settings = settings;
+    }
+
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    public void setGamesPlayed(int gamesPlayed) {
+        this.gamesPlayed = gamesPlayed;
+    }
+
+    public int getDinosaursKilled() {
+        return dinosaursKilled;
+    }
+
+    public void setDinosaursKilled(int dinosaursKilled) {
+        this.dinosaursKilled = dinosaursKilled;
+    }
+
+    public long getPlaySeconds() {
+        return playSeconds;
+    }
+
+    public void setPlaySeconds(long playSeconds) {
+        this.playSeconds = playSeconds;
+    }
+}
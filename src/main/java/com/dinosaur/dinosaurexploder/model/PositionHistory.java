@@ -0,0 +1,63 @@
+package com.dinosaur.dinosaurexploder.model;
+
+/**
+ * Summary :
+ * Fixed length ring buffer of the last positions of an entity.
+ * Recording a position overwrites the oldest one, so nothing is allocated after construction.
+ */
+public class PositionHistory {
+    private final double[] x;
+    private final double[] y;
+    private int head = -1;
+    private int size = 0;
+
+    public PositionHistory(int capacity) {
+        x = new double[capacity];
+        y = new double[capacity];
+    }
+
+    public void record(double px, double py) {
+        head = (head + 1) % x.length;
+        x[head] = px;
+        y[head] = py;
+        if (size < x.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Summary :
+     * Returns true when a position recorded stepsBack records ago is still in the buffer
+     */
+    public boolean has(int stepsBack) {
+        return stepsBack >= 0 && stepsBack < size;
+    }
+
+    public double getX(int stepsBack) {
+        return x[index(stepsBack)];
+    }
+
+    public double getY(int stepsBack) {
+        return y[index(stepsBack)];
+    }
+
+    public void clear() {
+        head = -1;
+        size = 0;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return x.length;
+    }
+
+    private int index(int stepsBack) {
+        if (!has(stepsBack)) {
+            throw new IndexOutOfBoundsException("No position recorded " + stepsBack + " steps back");
+        }
+        return (head - stepsBack + x.length) % x.length;
+    }
+}
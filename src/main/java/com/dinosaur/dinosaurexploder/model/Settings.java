@@ -1,10 +1,13 @@
 package com.dinosaur.dinosaurexploder.model;
 
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+
 public class Settings {
 
     private double volume;
     private boolean muted;
     private String language;
+    private QualityLevel quality = QualityLevel.HIGH;
 
     public double getVolume() {
         return volume;
@@ -29,4 +32,12 @@ public class Settings {
     public void setLanguage(String language) {
         this.language = language;
     }
+
+    public QualityLevel getQuality() {
+        return quality;
+    }
+
+    public void setQuality(QualityLevel quality) {
+        this.quality = quality;
+    }
 }
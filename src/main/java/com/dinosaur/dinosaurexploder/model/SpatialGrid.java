@@ -0,0 +1,349 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Summary :
+ * Uniform grid of the positions of moving things, like the dinosaurs on screen.
+ * Every item sits in the cell under its position, kept in a linked list made of int arrays.
+ * Moving an item only relinks it when it enters another cell, so updating every item each frame
+ * costs almost nothing. Nearest and radius queries only look at the cells around the point.
+ * Positions outside the area are counted in the border cells, dinosaurs spawn above the screen.
+ * Items may have a size, a raycast then walks the cells crossed by the ray one after the other
+ * and tests the boxes of the items around them, so its cost grows with the cells crossed
+ * and not with the number of items.
+ * Not thread safe, it is used by the game loop of one session.
+ */
+public class SpatialGrid<T> {
+    private static final int NONE = -1;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    // First item of every cell
+    private final int[] heads;
+
+    private Object[] items;
+    private double[] x;
+    private double[] y;
+    private double[] halfWidths;
+    private double[] halfHeights;
+    // Raycast that last tested every item, an item is only tested once per raycast
+    private int[] stamps;
+    private int raycastCount = 0;
+    private double maxHalfWidth = 0;
+    private double maxHalfHeight = 0;
+    private double lastRayDistance = Double.NaN;
+    private int[] cells;
+    private int[] next;
+    private int[] previous;
+    private int freeHandle = NONE;
+    private int usedHandles = 0;
+    private int size = 0;
+
+    public SpatialGrid(double width, double height, double cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.heads = new int[columns * rows];
+        Arrays.fill(heads, NONE);
+        allocate(32);
+    }
+
+    /**
+     * Summary :
+     * Adds an item at a position, returns the handle used to move and remove it
+     */
+    public int add(T item, double px, double py) {
+        return add(item, px, py, 0, 0);
+    }
+
+    /**
+     * Summary :
+     * Adds an item with the half size of its box, so that raycasts can hit it
+     */
+    public int add(T item, double px, double py, double halfWidth, double halfHeight) {
+        int handle;
+        if (freeHandle != NONE) {
+            handle = freeHandle;
+            freeHandle = next[handle];
+        } else {
+            if (usedHandles == items.length) {
+                allocate(items.length * 2);
+            }
+            handle = usedHandles++;
+        }
+        items[handle] = item;
+        x[handle] = px;
+        y[handle] = py;
+        halfWidths[handle] = halfWidth;
+        halfHeights[handle] = halfHeight;
+        maxHalfWidth = Math.max(maxHalfWidth, halfWidth);
+        maxHalfHeight = Math.max(maxHalfHeight, halfHeight);
+        link(handle, cellOf(px, py));
+        size++;
+        return handle;
+    }
+
+    public void move(int handle, double px, double py) {
+        x[handle] = px;
+        y[handle] = py;
+        int cell = cellOf(px, py);
+        if (cell != cells[handle]) {
+            unlink(handle);
+            link(handle, cell);
+        }
+    }
+
+    public void remove(int handle) {
+        if (items[handle] == null) {
+            return;
+        }
+        unlink(handle);
+        items[handle] = null;
+        cells[handle] = NONE;
+        next[handle] = freeHandle;
+        freeHandle = handle;
+        size--;
+    }
+
+    public void clear() {
+        for (int handle = 0; handle < usedHandles; handle++) {
+            if (items[handle] != null) {
+                remove(handle);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Summary :
+     * Item closest to the point within the maximum distance, null when there is none.
+     * The cells are searched in growing rings and the search stops once a ring is farther
+     * than the best item found.
+     */
+    @SuppressWarnings("unchecked")
+    public T nearest(double px, double py, double maxDistance) {
+        int column = columnOf(px);
+        int row = rowOf(py);
+        int best = NONE;
+        double bestDistance = maxDistance * maxDistance;
+        int maxRing = Math.max(columns, rows);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Closest any point of this ring can be, the point may sit anywhere in its own cell
+            double ringDistance = Math.max(0, (ring - 1) * cellSize);
+            if (ringDistance * ringDistance > bestDistance) {
+                break;
+            }
+            for (int r = row - ring; r <= row + ring; r++) {
+                if (r < 0 || r >= rows) {
+                    continue;
+                }
+                boolean edgeRow = r == row - ring || r == row + ring;
+                // Inner rows of the ring only have their two end cells
+                int step = edgeRow ? 1 : 2 * ring;
+                for (int c = column - ring; c <= column + ring; c += Math.max(1, step)) {
+                    if (c < 0 || c >= columns) {
+                        continue;
+                    }
+                    for (int handle = heads[r * columns + c]; handle != NONE; handle = next[handle]) {
+                        double dx = x[handle] - px;
+                        double dy = y[handle] - py;
+                        double distance = dx * dx + dy * dy;
+                        if (distance <= bestDistance) {
+                            bestDistance = distance;
+                            best = handle;
+                        }
+                    }
+                }
+            }
+        }
+        return best == NONE ? null : (T) items[best];
+    }
+
+    /**
+     * Summary :
+     * First item whose box is crossed by the ray, null when the ray goes the maximum distance
+     * or leaves the area without hitting anything. The cells are walked in the order the ray
+     * crosses them (DDA) and the items of the cells around each one are tested, as far as the
+     * biggest item reaches. The walk stops once the ray enters a cell beyond the closest hit.
+     */
+    @SuppressWarnings("unchecked")
+    public T raycast(double originX, double originY, double directionX, double directionY, double maxDistance) {
+        lastRayDistance = Double.NaN;
+        double length = Math.hypot(directionX, directionY);
+        if (length == 0) {
+            return null;
+        }
+        double dx = directionX / length;
+        double dy = directionY / length;
+        if (++raycastCount == 0) {
+            Arrays.fill(stamps, 0);
+            raycastCount = 1;
+        }
+
+        int reachX = (int) Math.ceil(maxHalfWidth / cellSize);
+        int reachY = (int) Math.ceil(maxHalfHeight / cellSize);
+        int column = columnOf(originX);
+        int row = rowOf(originY);
+        int stepX = dx > 0 ? 1 : -1;
+        int stepY = dy > 0 ? 1 : -1;
+        double nextX = dx == 0 ? Double.POSITIVE_INFINITY : ((column + (dx > 0 ? 1 : 0)) * cellSize - originX) / dx;
+        double nextY = dy == 0 ? Double.POSITIVE_INFINITY : ((row + (dy > 0 ? 1 : 0)) * cellSize - originY) / dy;
+        double deltaX = dx == 0 ? Double.POSITIVE_INFINITY : cellSize / Math.abs(dx);
+        double deltaY = dy == 0 ? Double.POSITIVE_INFINITY : cellSize / Math.abs(dy);
+
+        int best = NONE;
+        double bestDistance = maxDistance;
+        double enter = 0;
+        while (enter <= bestDistance) {
+            for (int r = Math.max(0, row - reachY); r <= Math.min(rows - 1, row + reachY); r++) {
+                for (int c = Math.max(0, column - reachX); c <= Math.min(columns - 1, column + reachX); c++) {
+                    for (int handle = heads[r * columns + c]; handle != NONE; handle = next[handle]) {
+                        if (stamps[handle] == raycastCount) {
+                            continue;
+                        }
+                        stamps[handle] = raycastCount;
+                        double distance = intersect(handle, originX, originY, dx, dy);
+                        if (distance >= 0 && distance <= bestDistance) {
+                            bestDistance = distance;
+                            best = handle;
+                        }
+                    }
+                }
+            }
+
+            if (nextX < nextY) {
+                column += stepX;
+                enter = nextX;
+                nextX += deltaX;
+            } else {
+                row += stepY;
+                enter = nextY;
+                nextY += deltaY;
+            }
+            if (column < 0 || column >= columns || row < 0 || row >= rows) {
+                break;
+            }
+        }
+
+        if (best == NONE) {
+            return null;
+        }
+        lastRayDistance = bestDistance;
+        return (T) items[best];
+    }
+
+    /**
+     * Summary :
+     * Distance from the origin to the item hit by the last raycast, NaN when it hit nothing
+     */
+    public double getLastRayDistance() {
+        return lastRayDistance;
+    }
+
+    /**
+     * Summary :
+     * Adds the items within the radius of the point to the list, returns how many were added
+     */
+    @SuppressWarnings("unchecked")
+    public int queryRadius(double px, double py, double radius, List<T> result) {
+        int firstColumn = columnOf(px - radius);
+        int lastColumn = columnOf(px + radius);
+        int firstRow = rowOf(py - radius);
+        int lastRow = rowOf(py + radius);
+        double radiusSquared = radius * radius;
+        int found = 0;
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                for (int handle = heads[r * columns + c]; handle != NONE; handle = next[handle]) {
+                    double dx = x[handle] - px;
+                    double dy = y[handle] - py;
+                    if (dx * dx + dy * dy <= radiusSquared) {
+                        result.add((T) items[handle]);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    // Distance along the ray to the box of the item, negative when the ray misses it (slab test)
+    private double intersect(int handle, double originX, double originY, double dx, double dy) {
+        double near = 0;
+        double far = Double.POSITIVE_INFINITY;
+        if (dx == 0) {
+            if (Math.abs(originX - x[handle]) > halfWidths[handle]) {
+                return -1;
+            }
+        } else {
+            double t1 = (x[handle] - halfWidths[handle] - originX) / dx;
+            double t2 = (x[handle] + halfWidths[handle] - originX) / dx;
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        }
+        if (dy == 0) {
+            if (Math.abs(originY - y[handle]) > halfHeights[handle]) {
+                return -1;
+            }
+        } else {
+            double t1 = (y[handle] - halfHeights[handle] - originY) / dy;
+            double t2 = (y[handle] + halfHeights[handle] - originY) / dy;
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        }
+        return near <= far ? near : -1;
+    }
+
+    private int cellOf(double px, double py) {
+        return rowOf(py) * columns + columnOf(px);
+    }
+
+    private int columnOf(double px) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor(px / cellSize)));
+    }
+
+    private int rowOf(double py) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor(py / cellSize)));
+    }
+
+    private void link(int handle, int cell) {
+        cells[handle] = cell;
+        previous[handle] = NONE;
+        next[handle] = heads[cell];
+        if (heads[cell] != NONE) {
+            previous[heads[cell]] = handle;
+        }
+        heads[cell] = handle;
+    }
+
+    private void unlink(int handle) {
+        int cell = cells[handle];
+        if (previous[handle] != NONE) {
+            next[previous[handle]] = next[handle];
+        } else {
+            heads[cell] = next[handle];
+        }
+        if (next[handle] != NONE) {
+            previous[next[handle]] = previous[handle];
+        }
+    }
+
+    private void allocate(int capacity) {
+        items = items == null ? new Object[capacity] : Arrays.copyOf(items, capacity);
+        x = x == null ? new double[capacity] : Arrays.copyOf(x, capacity);
+        y = y == null ? new double[capacity] : Arrays.copyOf(y, capacity);
+        halfWidths = halfWidths == null ? new double[capacity] : Arrays.copyOf(halfWidths, capacity);
+        halfHeights = halfHeights == null ? new double[capacity] : Arrays.copyOf(halfHeights, capacity);
+        stamps = stamps == null ? new int[capacity] : Arrays.copyOf(stamps, capacity);
+        cells = cells == null ? new int[capacity] : Arrays.copyOf(cells, capacity);
+        next = next == null ? new int[capacity] : Arrays.copyOf(next, capacity);
+        previous = previous == null ? new int[capacity] : Arrays.copyOf(previous, capacity);
+    }
+}
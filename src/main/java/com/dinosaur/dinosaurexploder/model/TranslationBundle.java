@@ -0,0 +1,57 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary :
+ * Translations of one language in an array indexed by the ordinal of the TranslationKey.
+ * Bundles are built once per language and never change, switching language swaps the bundle.
+ */
+public class TranslationBundle {
+    private final String language;
+    private final String[] texts;
+    private final List<TranslationKey> missingKeys;
+
+    private TranslationBundle(String language, String[] texts, List<TranslationKey> missingKeys) {
+        this.language = language;
+        this.texts = texts;
+        this.missingKeys = missingKeys;
+    }
+
+    /**
+     * Summary :
+     * Builds the bundle from a translation file. A missing key shows the key itself, like before,
+     * and is listed by getMissingKeys.
+     */
+    public static TranslationBundle fromTable(String language, Map<String, String> table) {
+        TranslationKey[] keys = TranslationKey.values();
+        String[] texts = new String[keys.length];
+        List<TranslationKey> missing = new ArrayList<>();
+        for (TranslationKey key : keys) {
+            String text = table.get(key.getKey());
+            if (text == null) {
+                missing.add(key);
+                text = key.getKey();
+            }
+            texts[key.ordinal()] = text;
+        }
+        return new TranslationBundle(language, texts, Collections.unmodifiableList(missing));
+    }
+
+    public String get(TranslationKey key) {
+        return texts[key.ordinal()];
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public List<TranslationKey> getMissingKeys() {
+        return missingKeys;
+    }
+}
@@ -0,0 +1,119 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+
+import java.util.Arrays;
+
+/**
+ * Summary :
+ * Compact picture of the game world sent to spectators: one record per entity with its id,
+ * its EntityType and its position rounded to whole pixels, plus the score, lives and level.
+ * The records are kept in primitive arrays that grow when needed and are reused every tick.
+ */
+public class WorldSnapshot {
+    private int[] ids;
+    private byte[] types;
+    private short[] xs;
+    private short[] ys;
+    private int count = 0;
+    private int score = 0;
+    private int lives = 0;
+    private int level = 0;
+
+    public WorldSnapshot(int capacity) {
+        ids = new int[capacity];
+        types = new byte[capacity];
+        xs = new short[capacity];
+        ys = new short[capacity];
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public void add(int id, EntityType type, double x, double y) {
+        add(id, typeId(type), quantize(x), quantize(y));
+    }
+
+    /**
+     * Summary :
+     * Id of the type in the records, the encoder sends the name of every id to the spectators
+     */
+    public static byte typeId(EntityType type) {
+        return (byte) type.ordinal();
+    }
+
+    private void add(int id, byte type, short x, short y) {
+        if (count == ids.length) {
+            int capacity = Math.max(16, ids.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            types = Arrays.copyOf(types, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+        ids[count] = id;
+        types[count] = type;
+        xs[count] = x;
+        ys[count] = y;
+        count++;
+    }
+
+    public void setHud(int score, int lives, int level) {
+        this.score = score;
+        this.lives = lives;
+        this.level = level;
+    }
+
+    /**
+     * Summary :
+     * Makes this snapshot an exact copy of the other one, reusing its arrays when they are big enough
+     */
+    public void copyFrom(WorldSnapshot other) {
+        clear();
+        for (int i = 0; i < other.count; i++) {
+            add(other.ids[i], other.types[i], other.xs[i], other.ys[i]);
+        }
+        setHud(other.score, other.lives, other.level);
+    }
+
+    /**
+     * Summary :
+     * Rounds a coordinate to a whole pixel that fits in 16 bits
+     */
+    public static short quantize(double value) {
+        long rounded = Math.round(value);
+        return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, rounded));
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public byte getType(int index) {
+        return types[index];
+    }
+
+    public short getX(int index) {
+        return xs[index];
+    }
+
+    public short getY(int index) {
+        return ys[index];
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+}
@@ -0,0 +1,299 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.model.GlyphAtlas;
+import com.dinosaur.dinosaurexploder.model.TranslationBundle;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import javafx.geometry.VPos;
+import javafx.scene.Group;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Summary :
+ * JVM wide cache of decoded images, translation tables, fonts and glyph atlases.
+ * Every asset is loaded once and then shared by reference between all sessions,
+ * so hosting more web players does not decode the same pictures again.
+ * Cached assets are never modified after loading.
+ */
+public class AssetRegistry {
+    // Labels drawn by the bitmap HUD, their characters are added to the glyph atlases
+    private static final TranslationKey[] HUD_LABELS = {TranslationKey.SCORE, TranslationKey.HIGH_SCORE,
+            TranslationKey.LIVES, TranslationKey.BOMBS_LEFT, TranslationKey.COIN, TranslationKey.LEVEL};
+    private static final double ATLAS_WIDTH = 1024;
+    private static final double GLYPH_PADDING = 2;
+    // Printable ASCII, always in the glyph atlases
+    private static final char FIRST_CHAR = 32;
+    private static final char LAST_CHAR = 126;
+
+    private static final AssetRegistry instance = new AssetRegistry();
+
+    private final Map<String, Image> images = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> translations = new ConcurrentHashMap<>();
+    private final Map<String, TranslationBundle> bundles = new ConcurrentHashMap<>();
+    private final Map<String, Font> fonts = new ConcurrentHashMap<>();
+    private final Map<String, GlyphAtlas> glyphAtlases = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private volatile CompletableFuture<Void> preload;
+
+    AssetRegistry() {}
+
+    public static AssetRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Returns the image at its original size, path is relative to the resources folder
+     */
+    public Image getImage(String path) {
+        String resource = normalize(path);
+        return images.computeIfAbsent(resource, key -> decode(key, 0, 0));
+    }
+
+    /**
+     * Summary :
+     * Returns the image decoded directly at the given size.
+     * Big pictures shown small (like the 3000x3000 coin) never get decoded at full size.
+     */
+    public Image getImage(String path, double width, double height) {
+        String resource = normalize(path);
+        return images.computeIfAbsent(resource + "@" + width + "x" + height, key -> decode(resource, width, height));
+    }
+
+    /**
+     * Summary :
+     * Returns the read-only translation table of a language, like "English"
+     */
+    public Map<String, String> getTranslations(String language) {
+        String lang = language.toLowerCase();
+        Map<String, String> table = translations.get(lang);
+        if (table == null) {
+            table = loadTranslations(lang);
+            if (!table.isEmpty()) {
+                translations.putIfAbsent(lang, table);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Summary :
+     * Returns the translations of a language indexed by TranslationKey, built once from its table
+     */
+    public TranslationBundle getBundle(String language) {
+        String lang = language.toLowerCase();
+        TranslationBundle bundle = bundles.get(lang);
+        if (bundle == null) {
+            bundle = TranslationBundle.fromTable(lang, getTranslations(lang));
+            if (!bundle.getMissingKeys().isEmpty()) {
+                System.err.println("Missing translations in " + lang + ": " + bundle.getMissingKeys());
+            }
+            bundles.putIfAbsent(lang, bundle);
+        }
+        return bundle;
+    }
+
+    public Font getFont(String fontName, double size) {
+        return fonts.computeIfAbsent(fontName + "@" + size, key -> Font.font(fontName, size));
+    }
+
+    /**
+     * Summary :
+     * Returns the HUD characters of a font rasterized in one picture, drawn the first time they are asked for.
+     * The atlas has the printable ASCII characters and every character of the HUD labels in all languages.
+     * Rasterizing takes a snapshot, the first call must happen on the JavaFX application thread.
+     */
+    public GlyphAtlas getGlyphAtlas(String fontName, double size, Color color) {
+        return glyphAtlases.computeIfAbsent(fontName + "@" + size + "#" + color, key -> rasterize(fontName, size, color));
+    }
+
+    /**
+     * Summary :
+     * Loads every game picture and translation concurrently, only the first call does the work.
+     * The web server calls it at startup so that the first sessions find everything decoded.
+     */
+    public synchronized CompletableFuture<Void> preload() {
+        if (preload != null) {
+            return preload;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "asset-preload");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        for (String path : getGameImagePaths()) {
+            tasks.add(preloadTask(() -> getImage(path), executor));
+        }
+        tasks.add(preloadTask(() -> getImage(GameConstants.COIN_IMAGE_PATH, 40, 40), executor));
+        tasks.add(preloadTask(() -> getImage(GameConstants.COIN_IMAGE_PATH, 25, 20), executor));
+        tasks.add(preloadTask(() -> getImage(GameConstants.GREEN_DINO_IMAGE_PATH, 25, 20), executor));
+        tasks.add(preloadTask(() -> getImage(GameConstants.GREEN_DINO_IMAGE_PATH, 80, 60), executor));
+        tasks.add(preloadTask(() -> getImage(GameConstants.ORANGE_DINO_IMAGE_PATH, 100, 150), executor));
+        for (String language : GameConstants.LANGUAGES) {
+            tasks.add(preloadTask(() -> getBundle(language), executor));
+        }
+
+        preload = CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((result, error) -> executor.shutdown());
+        return preload;
+    }
+
+    // A missing asset is reported and loaded again on demand, it does not stop the others
+    private static CompletableFuture<Void> preloadTask(Runnable load, ExecutorService executor) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                load.run();
+            } catch (RuntimeException e) {
+                System.err.println("Error preloading asset: " + e.getMessage());
+            }
+        }, executor);
+    }
+
+    public int getCachedImageCount() {
+        return images.size();
+    }
+
+    /**
+     * Summary :
+     * Picture of the projectile fired by a ship with a weapon
+     */
+    public static String getProjectileImagePath(int ship, int weapon) {
+        return "assets/textures/projectiles/projectile" + ship + "_"
+                + Math.min(weapon, GameConstants.WEAPON_IMAGE_COUNT) + ".png";
+    }
+
+    private static List<String> getGameImagePaths() {
+        List<String> paths = new ArrayList<>(List.of(
+                GameConstants.BASE_PROJECTILE_IMAGE_PATH,
+                GameConstants.GREEN_DINO_IMAGE_PATH,
+                GameConstants.ORANGE_DINO_IMAGE_PATH,
+                GameConstants.HEART_IMAGE_PATH,
+                GameConstants.HEART_LOST_IMAGE_PATH,
+                GameConstants.BOMB_IMAGE_PATH,
+                GameConstants.LOCK_IMAGE_PATH,
+                GameConstants.EXPLOSION_IMAGE_PATH));
+        for (int ship = 1; ship <= GameConstants.SHIP_COUNT; ship++) {
+            paths.add("assets/textures/spaceship" + ship + ".png");
+            for (int weapon = 1; weapon <= GameConstants.WEAPON_IMAGE_COUNT; weapon++) {
+                paths.add(getProjectileImagePath(ship, weapon));
+            }
+        }
+        return paths;
+    }
+
+    private Image decode(String resource, double width, double height) {
+        try (InputStream in = AssetRegistry.class.getResourceAsStream("/" + resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Image resource not found: " + resource);
+            }
+            return width > 0 ? new Image(in, width, height, false, true) : new Image(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read image " + resource, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> loadTranslations(String lang) {
+        String filePath = GameConstants.TRANSLATION_PATH + lang + ".json";
+        try (InputStream inputStream = AssetRegistry.class.getResourceAsStream(filePath)) {
+            if (inputStream == null) {
+                throw new RuntimeException("Translation file not found: " + filePath);
+            }
+            return Collections.unmodifiableMap(objectMapper.readValue(inputStream, Map.class));
+        } catch (IOException e) {
+            System.err.println("Error loading translation " + lang + " :" + e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    private GlyphAtlas rasterize(String fontName, double size, Color color) {
+        char[] chars = getHudCharacters();
+        double[] x = new double[chars.length];
+        double[] y = new double[chars.length];
+        double[] widths = new double[chars.length];
+
+        Text probe = new Text("Ag");
+        probe.setFont(getFont(fontName, size));
+        double lineHeight = Math.ceil(probe.getLayoutBounds().getHeight());
+        double ascent = probe.getBaselineOffset();
+
+        // Glyphs are laid out in rows and the whole group is snapshot once
+        Group glyphs = new Group();
+        double cursorX = 0;
+        double cursorY = 0;
+        for (int i = 0; i < chars.length; i++) {
+            Text glyph = new Text(String.valueOf(chars[i]));
+            glyph.setFont(probe.getFont());
+            glyph.setFill(color);
+            glyph.setTextOrigin(VPos.TOP);
+            widths[i] = glyph.getLayoutBounds().getWidth();
+            if (cursorX + widths[i] > ATLAS_WIDTH) {
+                cursorX = 0;
+                cursorY += lineHeight + GLYPH_PADDING;
+            }
+            // Glyphs sit on whole pixels so that drawing a region never bleeds into its neighbour
+            x[i] = Math.ceil(cursorX);
+            y[i] = cursorY;
+            glyph.setLayoutX(x[i]);
+            glyph.setLayoutY(y[i]);
+            glyphs.getChildren().add(glyph);
+            cursorX = x[i] + widths[i] + GLYPH_PADDING;
+        }
+        // Transparent background so that the snapshot starts at the origin of the atlas
+        glyphs.getChildren().add(0, new Rectangle(ATLAS_WIDTH, cursorY + lineHeight, Color.TRANSPARENT));
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        WritableImage image = glyphs.snapshot(parameters, null);
+        return new GlyphAtlas(image, chars, x, y, widths, lineHeight, ascent);
+    }
+
+    private char[] getHudCharacters() {
+        TreeSet<Character> characters = new TreeSet<>();
+        for (char c = FIRST_CHAR; c <= LAST_CHAR; c++) {
+            characters.add(c);
+        }
+        for (String language : GameConstants.LANGUAGES) {
+            TranslationBundle bundle = getBundle(language);
+            for (TranslationKey label : HUD_LABELS) {
+                String translation = bundle.get(label);
+                for (int i = 0; i < translation.length(); i++) {
+                    characters.add(translation.charAt(i));
+                }
+            }
+        }
+        char[] chars = new char[characters.size()];
+        int i = 0;
+        for (char c : characters) {
+            chars[i++] = c;
+        }
+        return chars;
+    }
+
+    private static String normalize(String path) {
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+}
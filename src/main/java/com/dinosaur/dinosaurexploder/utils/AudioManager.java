@@ -1,5 +1,6 @@
 package com.dinosaur.dinosaurexploder.utils;
 
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import java.util.ArrayList;
@@ -10,9 +11,15 @@ public class AudioManager {
     private boolean isMuted = false;
     private double volume = 1.0;
     private final List<MediaPlayer> activePlayers = new ArrayList<>();
+    private final List<MediaPlayer> ownedPlayers = new ArrayList<>();
     private MediaPlayer backgroundPlayer;
+    private int maxVoices = 16;
 
-    private AudioManager() {}
+    /**
+     * Summary :
+     * Creates the audio of one session, the desktop game uses the shared instance
+     */
+    public AudioManager() {}
 
     public static AudioManager getInstance() {
         if (instance == null) {
@@ -47,8 +54,24 @@ public class AudioManager {
         return volume;
     }
 
+    /**
+     * Summary :
+     * Caps how many sound effects may play at the same time, the extra ones are dropped
+     */
+    public void setQuality(QualityLevel quality) {
+        switch (quality) {
+            case LOW -> maxVoices = 4;
+            case MEDIUM -> maxVoices = 8;
+            default -> maxVoices = 16;
+        }
+    }
+
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+
     public void playSound(String soundFile) {
-        if (isMuted) return;
+        if (isMuted || activePlayers.size() >= maxVoices) return;
         try {
             String resourcePath = "/assets/sounds/" + soundFile;
             var url = getClass().getResource(resourcePath);
@@ -107,4 +130,26 @@ public class AudioManager {
         }
         activePlayers.clear();
     }
-}
\ No newline at end of file
+
+    /**
+     * Summary :
+     * Hands a media player created elsewhere, like the menu music, to the audio of the session
+     * so that it is disposed with the rest when the session ends
+     */
+    public void registerPlayer(MediaPlayer player) {
+        ownedPlayers.add(player);
+    }
+
+    /**
+     * Summary :
+     * Stops and disposes every media player of the session, called when a web session is closed
+     */
+    public void release() {
+        stopAllSounds();
+        for (MediaPlayer player : ownedPlayers) {
+            player.stop();
+            player.dispose();
+        }
+        ownedPlayers.clear();
+    }
+}
@@ -1,10 +1,39 @@
 package com.dinosaur.dinosaurexploder.utils;
 
 import com.dinosaur.dinosaurexploder.model.HighScore;
+import com.dinosaur.dinosaurexploder.model.Settings;
 import com.dinosaur.dinosaurexploder.model.TotalCoins;
 
 public interface DataProvider {
     HighScore getHighScore();
 
     TotalCoins getTotalCoins();
+
+    /**
+     * Summary :
+     * Stores a new high score of the player, called on the game thread so it must not wait for the disk
+     */
+    void saveHighScore(HighScore highScore);
+
+    /**
+     * Summary :
+     * Stores the new coin total of the player, called on the game thread for every coin picked up
+     */
+    void saveTotalCoins(TotalCoins totalCoins);
+
+    /**
+     * Summary :
+     * Saved settings of the player, the default settings when none were saved yet
+     */
+    Settings loadSettings();
+
+    void saveSettings(Settings settings);
+
+    /**
+     * Summary :
+     * Action run before the saved data is closed, for changes still held back in memory.
+     * Providers that write every change right away never close and ignore it.
+     */
+    default void addCloseAction(Runnable action) {
+    }
 }
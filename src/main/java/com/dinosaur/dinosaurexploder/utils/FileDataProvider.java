@@ -1,30 +1,62 @@
 package com.dinosaur.dinosaurexploder.utils;
 
 import com.dinosaur.dinosaurexploder.model.HighScore;
+import com.dinosaur.dinosaurexploder.model.Settings;
 import com.dinosaur.dinosaurexploder.model.TotalCoins;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-
+/**
+ * Summary :
+ * Data of the local player, kept by a player data journal.
+ * The desktop game uses the journal of the working directory.
+ */
 public class FileDataProvider implements DataProvider {
+    private final PlayerDataJournal journal;
+
+    public FileDataProvider() {
+        this(PlayerDataJournal.getDefault());
+    }
+
+    public FileDataProvider(PlayerDataJournal journal) {
+        this.journal = journal;
+    }
+
     @Override
     public HighScore getHighScore() {
-        try (FileInputStream file = new FileInputStream("highScore.ser");
-             ObjectInputStream in = new ObjectInputStream(file)) {
-            return (HighScore) in.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            return new HighScore();
-        }
+        return journal.getHighScore();
     }
 
     @Override
     public TotalCoins getTotalCoins() {
-        try (FileInputStream file = new FileInputStream("totalCoins.ser");
-             ObjectInputStream in = new ObjectInputStream(file)) {
-            return (TotalCoins) in.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            return new TotalCoins();
-        }
+        return journal.getTotalCoins();
+    }
+
+    @Override
+    public void saveHighScore(HighScore highScore) {
+        journal.setHighScore(highScore);
+    }
+
+    @Override
+    public void saveTotalCoins(TotalCoins totalCoins) {
+        // Only recorded in memory, the journal writes the coins of a whole batch at once
+        journal.setTotalCoins(totalCoins);
+    }
+
+    @Override
+    public Settings loadSettings() {
+        return SettingsProvider.loadSettings(journal);
+    }
+
+    @Override
+    public void saveSettings(Settings settings) {
+        SettingsProvider.saveSettings(settings, journal);
+    }
+
+    @Override
+    public void addCloseAction(Runnable action) {
+        journal.addCloseAction(action);
+    }
+
+    public PlayerDataJournal getJournal() {
+        return journal;
     }
 }
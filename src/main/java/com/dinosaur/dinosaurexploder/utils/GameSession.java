@@ -0,0 +1,118 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.model.GameContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Summary :
+ * One browser session known to the SessionManager: its context, when the player last did something,
+ * since when the game is paused, and what must be done to start and to tear down the game.
+ */
+public class GameSession {
+    private static final double NANOS = 1_000_000_000.0;
+
+    private final String id;
+    private final GameContext context;
+    private final Consumer<GameSession> onStart;
+    private final Runnable onEvict;
+    private final LongSupplier clock;
+    private final List<Runnable> releaseActions = new ArrayList<>();
+
+    private volatile long lastActivity;
+    private long pausedSince = -1;
+    private boolean started = false;
+
+    GameSession(String id, GameContext context, Consumer<GameSession> onStart, Runnable onEvict, LongSupplier clock) {
+        this.id = id;
+        this.context = context;
+        this.onStart = onStart;
+        this.onEvict = onEvict;
+        this.clock = clock;
+        this.lastActivity = clock.getAsLong();
+    }
+
+    /**
+     * Summary :
+     * Called on every key or mouse press of the player
+     */
+    public void markActive() {
+        lastActivity = clock.getAsLong();
+    }
+
+    /**
+     * Summary :
+     * Seconds since the player last pressed a key or a mouse button
+     */
+    public double getIdleTime() {
+        return (clock.getAsLong() - lastActivity) / NANOS;
+    }
+
+    /**
+     * Summary :
+     * Seconds the game has been paused, 0 when it is running
+     */
+    public double getPausedTime() {
+        if (!context.isPaused()) {
+            pausedSince = -1;
+            return 0;
+        }
+        long now = clock.getAsLong();
+        if (pausedSince < 0) {
+            pausedSince = now;
+        }
+        return (now - pausedSince) / NANOS;
+    }
+
+    /**
+     * Summary :
+     * Smoothed tick cost in seconds, 0 until the game ticks on the scheduler
+     */
+    public double getTickCost() {
+        SessionTicker ticker = context.getSessionTicker();
+        return ticker == null ? 0 : ticker.getAverageCost();
+    }
+
+    /**
+     * Summary :
+     * Adds something to release when the session ends, like the media players or the ticker
+     */
+    public void addReleaseAction(Runnable action) {
+        releaseActions.add(action);
+    }
+
+    void start() {
+        started = true;
+        onStart.accept(this);
+    }
+
+    void release() {
+        for (Runnable action : releaseActions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                System.err.println("Error releasing session " + id + ": " + e.getMessage());
+            }
+        }
+        releaseActions.clear();
+    }
+
+    void evict() {
+        onEvict.run();
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public GameContext getContext() {
+        return context;
+    }
+}
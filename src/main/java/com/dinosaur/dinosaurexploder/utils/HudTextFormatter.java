@@ -0,0 +1,122 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.view.BitmapText;
+import javafx.scene.text.Text;
+
+/**
+ * Summary :
+ * Formats one HUD text made of a translated label and a number, like "Score: 42".
+ * The label is copied once per language into a char buffer and the number is written after it
+ * without going through Integer.toString or a StringBuilder. A String is only created when the
+ * number or the language changed, so a HUD showing the same values every frame allocates nothing.
+ * A BitmapText is drawn straight from the buffer and never needs a String.
+ * A formatter belongs to a single text.
+ */
+public class HudTextFormatter {
+    // Digits and sign of Integer.MIN_VALUE
+    private static final int MAX_NUMBER_LENGTH = 11;
+
+    private final LanguageManager languageManager;
+    private final TranslationKey label;
+    private final String separator;
+    private final SceneMutationCounter mutations;
+
+    private char[] buffer = new char[32];
+    // Translation copied in the buffer, compared by identity since every language has its own strings
+    private String translatedLabel;
+    private int prefixLength;
+    private int renderedValue;
+    private int renderedLength = -1;
+    // String of the rendered text, created on demand
+    private String formatted;
+
+    public HudTextFormatter(LanguageManager languageManager, TranslationKey label, SceneMutationCounter mutations) {
+        this(languageManager, label, ": ", mutations);
+    }
+
+    public HudTextFormatter(LanguageManager languageManager, TranslationKey label, String separator,
+                            SceneMutationCounter mutations) {
+        this.languageManager = languageManager;
+        this.label = label;
+        this.separator = separator;
+        this.mutations = mutations;
+    }
+
+    /**
+     * Summary :
+     * The label followed by the value, the same String as last time when nothing changed
+     */
+    public String format(int value) {
+        render(value);
+        if (formatted == null) {
+            formatted = new String(buffer, 0, renderedLength);
+        }
+        return formatted;
+    }
+
+    /**
+     * Summary :
+     * Shows the value in the text, returns true when the text had to change
+     */
+    public boolean update(Text text, int value) {
+        String shown = formatted;
+        String next = format(value);
+        if (next == shown && text.getText() == next) {
+            return false;
+        }
+        return mutations.setText(text, next);
+    }
+
+    public boolean update(BitmapText text, int value) {
+        render(value);
+        if (!text.setText(buffer, renderedLength)) {
+            return false;
+        }
+        mutations.count();
+        return true;
+    }
+
+    // Writes the label and the value in the buffer when one of them changed
+    private void render(int value) {
+        String translation = languageManager.getTranslation(label);
+        if (translation == translatedLabel && renderedLength >= 0 && value == renderedValue) {
+            return;
+        }
+        if (translation != translatedLabel) {
+            copyPrefix(translation);
+        }
+        renderedLength = writeNumber(value, prefixLength);
+        renderedValue = value;
+        formatted = null;
+    }
+
+    private void copyPrefix(String translation) {
+        prefixLength = translation.length() + separator.length();
+        if (buffer.length < prefixLength + MAX_NUMBER_LENGTH) {
+            buffer = new char[prefixLength + MAX_NUMBER_LENGTH];
+        }
+        translation.getChars(0, translation.length(), buffer, 0);
+        separator.getChars(0, separator.length(), buffer, translation.length());
+        translatedLabel = translation;
+    }
+
+    // Writes the number at the offset, returns the end of the text
+    private int writeNumber(int value, int offset) {
+        long remaining = value;
+        if (remaining < 0) {
+            buffer[offset++] = '-';
+            remaining = -remaining;
+        }
+        int digits = 1;
+        for (long limit = 10; limit <= remaining; limit *= 10) {
+            digits++;
+        }
+        int end = offset + digits;
+        for (int i = end - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,168 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.model.TranslationBundle;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Summary :
+ * Every available language with its translations, loaded once in the background at startup.
+ * The language files are found once, parsed in parallel, and the result never changes, so the
+ * menus get the language list and switch language without touching the disk or the JSON parser.
+ */
+public class LanguageIndex {
+    private static final String TRANSLATION_FOLDER = GameConstants.TRANSLATION_PATH.substring(1);
+
+    private static CompletableFuture<LanguageIndex> loading;
+
+    private final List<String> languages;
+    private final Map<String, TranslationBundle> bundles;
+
+    private LanguageIndex(List<String> languages, Map<String, TranslationBundle> bundles) {
+        this.languages = Collections.unmodifiableList(languages);
+        this.bundles = Collections.unmodifiableMap(bundles);
+    }
+
+    /**
+     * Summary :
+     * Starts loading the languages on the first call, completes once every language is ready
+     */
+    public static synchronized CompletableFuture<LanguageIndex> ready() {
+        if (loading == null) {
+            ExecutorService executor = Executors.newFixedThreadPool(
+                    Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+                        Thread thread = new Thread(runnable, "language-preload");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            loading = CompletableFuture.supplyAsync(LanguageIndex::discoverLanguages, executor)
+                    .thenCompose(found -> load(found, AssetRegistry.getInstance()::getBundle, executor))
+                    .whenComplete((index, error) -> executor.shutdown());
+        }
+        return loading;
+    }
+
+    /**
+     * Summary :
+     * The loaded index, waiting for the startup loading if it is not finished yet
+     */
+    public static LanguageIndex get() {
+        return ready().join();
+    }
+
+    /**
+     * Summary :
+     * Loads every language in parallel. A language that fails to load is reported and left out.
+     */
+    static CompletableFuture<LanguageIndex> load(List<String> languages, Function<String, TranslationBundle> loader,
+                                                 Executor executor) {
+        List<CompletableFuture<TranslationBundle>> tasks = new ArrayList<>();
+        for (String language : languages) {
+            tasks.add(CompletableFuture.supplyAsync(() -> loader.apply(language), executor)
+                    .exceptionally(error -> {
+                        System.err.println("Error loading language " + language + ": " + error.getMessage());
+                        return null;
+                    }));
+        }
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            List<String> loaded = new ArrayList<>();
+            Map<String, TranslationBundle> bundles = new HashMap<>();
+            for (int i = 0; i < languages.size(); i++) {
+                TranslationBundle bundle = tasks.get(i).join();
+                if (bundle != null) {
+                    loaded.add(languages.get(i));
+                    bundles.put(languages.get(i).toLowerCase(), bundle);
+                }
+            }
+            return new LanguageIndex(loaded, bundles);
+        });
+    }
+
+    /**
+     * Summary :
+     * Names of the available languages like "English", in the order of the language menu
+     */
+    public List<String> getLanguages() {
+        return languages;
+    }
+
+    /**
+     * Summary :
+     * Translations of a language, or null when the language is not available
+     */
+    public TranslationBundle getBundle(String language) {
+        return bundles.get(language.toLowerCase());
+    }
+
+    // Finds the translation files next to the classes, in a folder or in the game JAR
+    static List<String> discoverLanguages() {
+        List<String> files = new ArrayList<>();
+        try {
+            Path codeSource = Paths.get(LanguageIndex.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (Files.isDirectory(codeSource)) {
+                try (Stream<Path> entries = Files.list(codeSource.resolve(TRANSLATION_FOLDER))) {
+                    entries.forEach(entry -> files.add(entry.getFileName().toString()));
+                }
+            } else {
+                try (JarFile jarFile = new JarFile(codeSource.toFile())) {
+                    jarFile.stream()
+                            .map(JarEntry::getName)
+                            .filter(name -> name.startsWith(TRANSLATION_FOLDER))
+                            .forEach(name -> files.add(name.substring(TRANSLATION_FOLDER.length())));
+                }
+            }
+        } catch (IOException | RuntimeException | URISyntaxException e) {
+            System.err.println("Error listing the language files: " + e.getMessage());
+        }
+
+        List<String> names = new ArrayList<>();
+        for (String file : files) {
+            if (file.endsWith(".json") && !file.contains("/")) {
+                names.add(file.substring(0, file.length() - ".json".length()));
+            }
+        }
+        if (names.isEmpty()) {
+            // Unusual class loader, fall back to the languages shipped with the game
+            names.addAll(Arrays.asList(GameConstants.LANGUAGES));
+        }
+
+        // Languages shipped with the game keep their usual order, others come after them
+        List<String> known = Arrays.asList(GameConstants.LANGUAGES);
+        names.sort((a, b) -> {
+            int indexA = known.indexOf(a);
+            int indexB = known.indexOf(b);
+            if (indexA >= 0 && indexB >= 0) {
+                return Integer.compare(indexA, indexB);
+            }
+            if (indexA >= 0 || indexB >= 0) {
+                return indexA >= 0 ? -1 : 1;
+            }
+            return a.compareTo(b);
+        });
+
+        List<String> languages = new ArrayList<>();
+        for (String name : names) {
+            languages.add(name.substring(0, 1).toUpperCase() + name.substring(1));
+        }
+        return languages;
+    }
+}
@@ -0,0 +1,30 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import javafx.beans.property.StringProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
+
+/**
+ * Summary :
+ * Action run when the language changes, registered on the LanguageManager through a weak reference.
+ * The owner keeps the subscription in a field: the language manager never keeps the owner alive,
+ * and once the owner is collected its listener is dropped. Components dispose it in onRemoved
+ * so that a removed HUD stops updating right away.
+ */
+public class LanguageSubscription {
+    private final StringProperty language;
+    // The only strong reference to the listener, the property only holds the weak wrapper
+    private final ChangeListener<String> listener;
+    private final WeakChangeListener<String> weakListener;
+
+    LanguageSubscription(StringProperty language, Runnable action) {
+        this.language = language;
+        this.listener = (observable, oldValue, newValue) -> action.run();
+        this.weakListener = new WeakChangeListener<>(listener);
+        language.addListener(weakListener);
+    }
+
+    public void dispose() {
+        language.removeListener(weakListener);
+    }
+}
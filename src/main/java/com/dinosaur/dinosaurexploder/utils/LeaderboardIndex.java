@@ -0,0 +1,206 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.model.LeaderboardEntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Summary :
+ * In memory leaderboard taking submissions from many sessions at once. Players are spread over
+ * stripes by their id, each stripe is a sorted array with its own lock, so submissions only wait
+ * for the few players sharing their stripe. Queries combine the stripes: the rank of a player is
+ * one binary search per stripe and the top N is merged from the top of each stripe.
+ * Queries are not atomic across stripes, a submission made during a query may or may not be seen.
+ */
+public class LeaderboardIndex {
+    public static final int DEFAULT_STRIPES = 1024;
+
+    private final Stripe[] stripes;
+    private final Map<String, LeaderboardEntry> best = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public LeaderboardIndex() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public LeaderboardIndex(int stripeCount) {
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Summary :
+     * Records a score, only a better score than the player's best changes the leaderboard.
+     * Returns the new best entry, or null when the score was not an improvement.
+     */
+    public LeaderboardEntry submit(String playerId, int score) {
+        return submit(playerId, score, sequence.incrementAndGet());
+    }
+
+    /**
+     * Summary :
+     * Records a score with a known sequence number, used when replaying the stored leaderboard
+     */
+    LeaderboardEntry submit(String playerId, int score, long entrySequence) {
+        sequence.accumulateAndGet(entrySequence, Math::max);
+        Stripe stripe = stripeOf(playerId);
+        // A player always lands in the same stripe, so its lock also guards the player's best entry
+        synchronized (stripe) {
+            LeaderboardEntry old = best.get(playerId);
+            if (old != null && old.getScore() >= score) {
+                return null;
+            }
+            LeaderboardEntry entry = new LeaderboardEntry(playerId, score, entrySequence);
+            if (old != null) {
+                stripe.remove(old);
+            }
+            stripe.insert(entry);
+            best.put(playerId, entry);
+            return entry;
+        }
+    }
+
+    public LeaderboardEntry getEntry(String playerId) {
+        return best.get(playerId);
+    }
+
+    /**
+     * Summary :
+     * Best players in leaderboard order
+     */
+    public List<LeaderboardEntry> getTop(int count) {
+        List<LeaderboardEntry> candidates = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.copyRange(0, Math.min(count, stripe.size), candidates);
+            }
+        }
+        candidates.sort(LeaderboardEntry.RANKING);
+        return candidates.subList(0, Math.min(count, candidates.size()));
+    }
+
+    /**
+     * Summary :
+     * Position of the player starting at 1, or 0 when the player has no score
+     */
+    public int getRank(String playerId) {
+        LeaderboardEntry entry = best.get(playerId);
+        if (entry == null) {
+            return 0;
+        }
+        int above = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                above += stripe.countBefore(entry);
+            }
+        }
+        return above + 1;
+    }
+
+    /**
+     * Summary :
+     * The player with up to range players right above and right below, in leaderboard order
+     */
+    public List<LeaderboardEntry> getAround(String playerId, int range) {
+        LeaderboardEntry entry = best.get(playerId);
+        if (entry == null) {
+            return Collections.emptyList();
+        }
+        // The closest players overall are among the closest players of every stripe
+        List<LeaderboardEntry> above = new ArrayList<>();
+        List<LeaderboardEntry> below = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                int position = stripe.countBefore(entry);
+                stripe.copyRange(Math.max(0, position - range), position, above);
+                int after = position < stripe.size && stripe.entries[position] == entry ? position + 1 : position;
+                stripe.copyRange(after, Math.min(stripe.size, after + range), below);
+            }
+        }
+        above.sort(LeaderboardEntry.RANKING);
+        below.sort(LeaderboardEntry.RANKING);
+
+        List<LeaderboardEntry> around = new ArrayList<>(above.subList(Math.max(0, above.size() - range), above.size()));
+        around.add(entry);
+        around.addAll(below.subList(0, Math.min(range, below.size())));
+        return around;
+    }
+
+    /**
+     * Summary :
+     * Copy of every entry in no particular order, used to write snapshots
+     */
+    public List<LeaderboardEntry> getAllEntries() {
+        List<LeaderboardEntry> all = new ArrayList<>(best.size());
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.copyRange(0, stripe.size, all);
+            }
+        }
+        return all;
+    }
+
+    public int size() {
+        return best.size();
+    }
+
+    private Stripe stripeOf(String playerId) {
+        // Spread the hash bits, player ids often only differ in their last characters
+        int hash = playerId.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+
+    // Entries of one stripe sorted in leaderboard order
+    private static class Stripe {
+        private LeaderboardEntry[] entries = new LeaderboardEntry[8];
+        private int size = 0;
+
+        void insert(LeaderboardEntry entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            int position = countBefore(entry);
+            System.arraycopy(entries, position, entries, position + 1, size - position);
+            entries[position] = entry;
+            size++;
+        }
+
+        void remove(LeaderboardEntry entry) {
+            int position = countBefore(entry);
+            if (position < size && entries[position] == entry) {
+                System.arraycopy(entries, position + 1, entries, position, size - position - 1);
+                entries[--size] = null;
+            }
+        }
+
+        // Number of entries ranked before the given one, which is also where it goes
+        int countBefore(LeaderboardEntry entry) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (LeaderboardEntry.RANKING.compare(entries[middle], entry) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        void copyRange(int from, int to, List<LeaderboardEntry> target) {
+            for (int i = from; i < to; i++) {
+                target.add(entries[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.model.LeaderboardEntry;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Summary :
+ * Leaderboard of the hosted game, shared by every session of the server.
+ * Every improved score is appended to a log file, and every so often the whole leaderboard is
+ * written to a snapshot file and the log starts over. On start the snapshot is loaded and the log
+ * replayed on top of it. Only best scores are kept, so replaying an entry twice changes nothing.
+ */
+public class LeaderboardService implements Closeable {
+    public static final String DIRECTORY_PROPERTY = "dinosaur.leaderboardDir";
+    public static final int DEFAULT_COMPACT_EVERY = 100_000;
+    static final String DEFAULT_DIRECTORY = "leaderboard";
+    static final String SNAPSHOT_FILE = "leaderboard.snapshot";
+    static final String LOG_FILE = "leaderboard.log";
+    // The log being folded into a snapshot, replayed too if the server stopped during compaction
+    static final String OLD_LOG_FILE = "leaderboard.log.old";
+    private static final int SNAPSHOT_MAGIC = 0x44454C42;
+
+    private static LeaderboardService shared;
+
+    private final Path directory;
+    private final LeaderboardIndex index;
+    private final int compactEvery;
+    private final Object logLock = new Object();
+    private final Object compactLock = new Object();
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean(false);
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "leaderboard-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private DataOutputStream log;
+    private int loggedSinceSnapshot = 0;
+
+    LeaderboardService(Path directory, LeaderboardIndex index, int compactEvery) {
+        this.directory = directory;
+        this.index = index;
+        this.compactEvery = compactEvery;
+    }
+
+    /**
+     * Summary :
+     * Loads the leaderboard stored in the directory, or starts an empty one
+     */
+    public static LeaderboardService open(Path directory) throws IOException {
+        return open(directory, new LeaderboardIndex(), DEFAULT_COMPACT_EVERY);
+    }
+
+    static LeaderboardService open(Path directory, LeaderboardIndex index, int compactEvery) throws IOException {
+        Files.createDirectories(directory);
+        LeaderboardService service = new LeaderboardService(directory, index, compactEvery);
+        service.recover();
+        return service;
+    }
+
+    /**
+     * Summary :
+     * Leaderboard of the web server, stored in the dinosaur.leaderboardDir directory,
+     * by default the leaderboard directory inside the data directory of the player saves
+     */
+    public static synchronized LeaderboardService getShared() throws IOException {
+        if (shared == null) {
+            String directory = System.getProperty(DIRECTORY_PROPERTY);
+            shared = open(directory != null ? Paths.get(directory)
+                    : PlayerDataJournal.getDataDirectory().resolve(DEFAULT_DIRECTORY));
+        }
+        return shared;
+    }
+
+    /**
+     * Summary :
+     * Records the score of a finished game, returns true when it is a new best for the player
+     */
+    public boolean submit(String playerId, int score) {
+        LeaderboardEntry entry = index.submit(playerId, score);
+        if (entry == null) {
+            return false;
+        }
+        boolean compactNow;
+        synchronized (logLock) {
+            try {
+                writeEntry(log, entry);
+                log.flush();
+            } catch (IOException e) {
+                System.err.println("Error writing leaderboard log: " + e.getMessage());
+            }
+            compactNow = ++loggedSinceSnapshot >= compactEvery;
+        }
+        if (compactNow && compactionScheduled.compareAndSet(false, true)) {
+            compactor.execute(() -> {
+                try {
+                    compact();
+                } catch (IOException e) {
+                    System.err.println("Error compacting leaderboard: " + e.getMessage());
+                } finally {
+                    compactionScheduled.set(false);
+                }
+            });
+        }
+        return true;
+    }
+
+    public List<LeaderboardEntry> getTop(int count) {
+        return index.getTop(count);
+    }
+
+    public int getRank(String playerId) {
+        return index.getRank(playerId);
+    }
+
+    public List<LeaderboardEntry> getAround(String playerId, int range) {
+        return index.getAround(playerId, range);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Summary :
+     * Writes the whole leaderboard to the snapshot file and starts a new empty log.
+     * The log is switched first, then the snapshot is written to a temporary file and moved
+     * over the old one, so a crash at any point leaves a snapshot and logs that replay correctly.
+     */
+    public void compact() throws IOException {
+        synchronized (compactLock) {
+            synchronized (logLock) {
+                log.close();
+                Files.move(directory.resolve(LOG_FILE), directory.resolve(OLD_LOG_FILE), StandardCopyOption.REPLACE_EXISTING);
+                log = openLog();
+                loggedSinceSnapshot = 0;
+            }
+            writeSnapshot();
+            Files.deleteIfExists(directory.resolve(OLD_LOG_FILE));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        compactor.shutdown();
+        synchronized (logLock) {
+            log.close();
+        }
+    }
+
+    private void recover() throws IOException {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+                if (in.readInt() != SNAPSHOT_MAGIC) {
+                    throw new IOException("Not a leaderboard snapshot: " + snapshot);
+                }
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    readEntry(in);
+                }
+            }
+        }
+        replay(directory.resolve(OLD_LOG_FILE));
+        replay(directory.resolve(LOG_FILE));
+
+        // Start from a clean snapshot so that compaction never finds an old log left over
+        synchronized (logLock) {
+            log = openLog();
+        }
+        if (Files.exists(directory.resolve(OLD_LOG_FILE)) || Files.size(directory.resolve(LOG_FILE)) > 0) {
+            compact();
+        }
+    }
+
+    private void replay(Path logFile) throws IOException {
+        if (!Files.exists(logFile)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(logFile)))) {
+            while (true) {
+                readEntry(in);
+            }
+        } catch (EOFException e) {
+            // End of the log, a half written last entry is dropped
+        }
+    }
+
+    private void writeSnapshot() throws IOException {
+        List<LeaderboardEntry> entries = index.getAllEntries();
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(entries.size());
+            for (LeaderboardEntry entry : entries) {
+                writeEntry(out, entry);
+            }
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temporary, directory.resolve(SNAPSHOT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private DataOutputStream openLog() throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(directory.resolve(LOG_FILE).toFile(), true)));
+    }
+
+    private void readEntry(DataInputStream in) throws IOException {
+        String playerId = in.readUTF();
+        int score = in.readInt();
+        long sequence = in.readLong();
+        index.submit(playerId, score, sequence);
+    }
+
+    private static void writeEntry(DataOutputStream out, LeaderboardEntry entry) throws IOException {
+        out.writeUTF(entry.getPlayerId());
+        out.writeInt(entry.getScore());
+        out.writeLong(entry.getSequence());
+    }
+}
@@ -0,0 +1,55 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.model.HighScore;
+import com.dinosaur.dinosaurexploder.model.Settings;
+import com.dinosaur.dinosaurexploder.model.TotalCoins;
+
+/**
+ * Summary :
+ * Data of a player kept only in memory, for a session that starts from zero and saves nothing.
+ * Every instance has its own values, so sessions using it never see each other's progress.
+ */
+public class MemoryDataProvider implements DataProvider {
+    private int highScore = 0;
+    private int totalCoins = 0;
+    private Settings settings = SettingsProvider.generateDefaultSettings();
+
+    @Override
+    public synchronized HighScore getHighScore() {
+        return new HighScore(highScore);
+    }
+
+    @Override
+    public synchronized TotalCoins getTotalCoins() {
+        return new TotalCoins(totalCoins);
+    }
+
+    @Override
+    public synchronized void saveHighScore(HighScore highScore) {
+        this.highScore = highScore.getHigh();
+    }
+
+    @Override
+    public synchronized void saveTotalCoins(TotalCoins totalCoins) {
+        this.totalCoins = totalCoins.getTotal();
+    }
+
+    @Override
+    public synchronized Settings loadSettings() {
+        return copy(settings);
+    }
+
+    @Override
+    public synchronized void saveSettings(Settings settings) {
+        this.settings = copy(settings);
+    }
+
+    private static Settings copy(Settings settings) {
+        Settings copy = new Settings();
+        copy.setVolume(settings.getVolume());
+        copy.setMuted(settings.isMuted());
+        copy.setLanguage(settings.getLanguage());
+        copy.setQuality(settings.getQuality());
+        return copy;
+    }
+}
@@ -0,0 +1,414 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.model.HighScore;
+import com.dinosaur.dinosaurexploder.model.TotalCoins;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Summary :
+ * Crash safe storage of the player data: high score, total coins and settings.
+ * Changes are kept in memory and written to a journal in batches, each record with a CRC32 checksum.
+ * Only the latest value of each kind is written per batch, so picking up many coins costs one record.
+ * Every so often the data is written to the snapshot files (highScore.ser, totalCoins.ser and
+ * settings.properties, the files the game always used) through a temporary file and an atomic rename,
+ * and the journal starts over.
+ * On start the snapshots are read and the journal replayed up to its last valid record, so a crash
+ * while writing loses at most the last batch instead of resetting the progress.
+ *
+ * The values are guarded by the journal itself and the files by a separate lock, so the game thread
+ * setting a value never waits for a write or a sync to the disk.
+ *
+ * Journal record: int payload length, int CRC32 of the payload, payload (byte kind, value)
+ */
+public class PlayerDataJournal implements Closeable {
+    public static final long DEFAULT_FLUSH_MILLIS = 250;
+    public static final int DEFAULT_COMPACT_EVERY = 1000;
+    // Directory of the default journal, the working directory when not set. The tests point it into target.
+    public static final String DIRECTORY_PROPERTY = "dinosaur.dataDirectory";
+    static final byte KIND_HIGH_SCORE = 0;
+    static final byte KIND_TOTAL_COINS = 1;
+    static final byte KIND_SETTINGS = 2;
+    private static final int KIND_COUNT = 3;
+    private static final int RECORD_HEADER = 8;
+    // Settings are the largest record, anything bigger is a corrupted length
+    private static final int MAX_PAYLOAD = 64 * 1024;
+
+    private static PlayerDataJournal defaultJournal;
+
+    private final Path directory;
+    private final Path journalPath;
+    private final Path highScorePath;
+    private final Path totalCoinsPath;
+    private final Path settingsPath;
+    private final int compactEvery;
+    // Held while writing the files, taken before the journal monitor and never the other way round
+    private final Object ioLock = new Object();
+    // Latest unwritten payload of each kind, null when that kind has not changed
+    private byte[][] pending = new byte[KIND_COUNT][];
+    private final List<Runnable> closeActions = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "player-data-journal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private FileChannel journal;
+    private int highScore;
+    private int totalCoins;
+    // Replaced on every change and never modified afterwards, so a snapshot can keep the reference
+    private Properties settings;
+    // Guarded by ioLock
+    private int journalRecords = 0;
+
+    PlayerDataJournal(Path directory, int compactEvery) {
+        this.directory = directory;
+        this.journalPath = directory.resolve(GameConstants.JOURNAL_FILE);
+        this.highScorePath = directory.resolve(GameConstants.HIGH_SCORE_FILE);
+        this.totalCoinsPath = directory.resolve(GameConstants.TOTAL_COINS_FILE);
+        this.settingsPath = directory.resolve(SettingsProvider.SETTINGS_FILE);
+        this.compactEvery = compactEvery;
+    }
+
+    /**
+     * Summary :
+     * Recovers the data stored in the directory and starts writing the batches in the background
+     */
+    static PlayerDataJournal open(Path directory, long flushMillis, int compactEvery) throws IOException {
+        PlayerDataJournal store = new PlayerDataJournal(directory, compactEvery);
+        store.recover();
+        store.flusher.scheduleWithFixedDelay(store::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        return store;
+    }
+
+    /**
+     * Summary :
+     * Journal of the working directory, where the game has always kept its saved files,
+     * or of the directory given by the dinosaur.dataDirectory system property.
+     * The last batch is written when the game exits.
+     */
+    public static synchronized PlayerDataJournal getDefault() {
+        if (defaultJournal == null) {
+            try {
+                defaultJournal = open(getDataDirectory(), DEFAULT_FLUSH_MILLIS, DEFAULT_COMPACT_EVERY);
+                PlayerDataJournal journal = defaultJournal;
+                Runtime.getRuntime().addShutdownHook(new Thread(journal::closeQuietly, "player-data-shutdown"));
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not open the player data: " + e.getMessage(), e);
+            }
+        }
+        return defaultJournal;
+    }
+
+    /**
+     * Summary :
+     * Directory of the saved data, given by the dinosaur.dataDirectory system property or the working directory.
+     * It is created when missing.
+     */
+    public static Path getDataDirectory() throws IOException {
+        Path directory = Paths.get(System.getProperty(DIRECTORY_PROPERTY, "."));
+        Files.createDirectories(directory);
+        return directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public synchronized HighScore getHighScore() {
+        return new HighScore(highScore);
+    }
+
+    public synchronized void setHighScore(HighScore value) {
+        highScore = value.getHigh();
+        pending[KIND_HIGH_SCORE] = intPayload(KIND_HIGH_SCORE, highScore);
+    }
+
+    public synchronized TotalCoins getTotalCoins() {
+        return new TotalCoins(totalCoins);
+    }
+
+    public synchronized void setTotalCoins(TotalCoins value) {
+        totalCoins = value.getTotal();
+        pending[KIND_TOTAL_COINS] = intPayload(KIND_TOTAL_COINS, totalCoins);
+    }
+
+    /**
+     * Summary :
+     * Copy of the saved settings, or null when no settings were ever saved
+     */
+    public synchronized Properties getSettings() {
+        if (settings == null) {
+            return null;
+        }
+        Properties copy = new Properties();
+        copy.putAll(settings);
+        return copy;
+    }
+
+    public void setSettings(Properties value) {
+        Properties copy = new Properties();
+        copy.putAll(value);
+        StringWriter text = new StringWriter();
+        try {
+            copy.store(text, null);
+        } catch (IOException e) {
+            // Writing to a string does not fail
+        }
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] payload = new byte[bytes.length + 1];
+        payload[0] = KIND_SETTINGS;
+        System.arraycopy(bytes, 0, payload, 1, bytes.length);
+        synchronized (this) {
+            settings = copy;
+            pending[KIND_SETTINGS] = payload;
+        }
+    }
+
+    /**
+     * Summary :
+     * Writes the pending changes to the journal as one batch and waits until they are on disk
+     */
+    public void flush() throws IOException {
+        synchronized (ioLock) {
+            byte[][] batchPayloads = takePending();
+            ByteArrayOutputStream batch = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(batch);
+            int records = 0;
+            CRC32 crc = new CRC32();
+            for (byte[] payload : batchPayloads) {
+                if (payload == null) {
+                    continue;
+                }
+                crc.reset();
+                crc.update(payload);
+                out.writeInt(payload.length);
+                out.writeInt((int) crc.getValue());
+                out.write(payload);
+                records++;
+            }
+            if (records == 0) {
+                return;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(batch.toByteArray());
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+            journalRecords += records;
+            if (journalRecords >= compactEvery) {
+                compactFiles();
+            }
+        }
+    }
+
+    /**
+     * Summary :
+     * Writes every value to its snapshot file and empties the journal.
+     * Each snapshot replaces the old one by an atomic rename. The journal is only emptied once all
+     * of them are written, a crash in between replays records that hold the same values.
+     */
+    public void compact() throws IOException {
+        synchronized (ioLock) {
+            compactFiles();
+        }
+    }
+
+    private void compactFiles() throws IOException {
+        HighScore highScoreSnapshot;
+        TotalCoins totalCoinsSnapshot;
+        Properties settingsSnapshot;
+        synchronized (this) {
+            highScoreSnapshot = new HighScore(highScore);
+            totalCoinsSnapshot = new TotalCoins(totalCoins);
+            settingsSnapshot = settings;
+            // Values changed up to now go into the snapshots, later changes stay pending
+            pending = new byte[KIND_COUNT][];
+        }
+        writeAtomically(highScorePath, out -> writeObject(out, highScoreSnapshot));
+        writeAtomically(totalCoinsPath, out -> writeObject(out, totalCoinsSnapshot));
+        if (settingsSnapshot != null) {
+            writeAtomically(settingsPath, out -> settingsSnapshot.store(out, "store properties"));
+        }
+        journal.truncate(0);
+        journal.force(true);
+        journalRecords = 0;
+    }
+
+    // Hands the pending changes over to a batch, the setters fill a fresh array meanwhile
+    private synchronized byte[][] takePending() {
+        byte[][] taken = pending;
+        pending = new byte[KIND_COUNT][];
+        return taken;
+    }
+
+    /**
+     * Summary :
+     * Action run when the journal closes, before the last batch is written.
+     * Used by code that holds back its own changes, so they still make it to disk.
+     */
+    public void addCloseAction(Runnable action) {
+        closeActions.add(action);
+    }
+
+    @Override
+    public void close() throws IOException {
+        flusher.shutdown();
+        for (Runnable action : closeActions) {
+            action.run();
+        }
+        synchronized (ioLock) {
+            if (journal.isOpen()) {
+                flush();
+                journal.close();
+            }
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            System.err.println("Error saving player data: " + e.getMessage());
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            System.err.println("Error saving player data: " + e.getMessage());
+        }
+    }
+
+    private void recover() throws IOException {
+        highScore = readSnapshot(highScorePath, HighScore.class, new HighScore()).getHigh();
+        totalCoins = readSnapshot(totalCoinsPath, TotalCoins.class, new TotalCoins()).getTotal();
+        if (Files.exists(settingsPath)) {
+            settings = new Properties();
+            try (InputStream in = Files.newInputStream(settingsPath)) {
+                settings.load(in);
+            }
+        }
+
+        journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        replay();
+        // Start from fresh snapshots, this also drops a half written record at the end of the journal
+        compact();
+    }
+
+    private void replay() throws IOException {
+        long size = journal.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER);
+        CRC32 crc = new CRC32();
+        while (position + RECORD_HEADER <= size) {
+            header.clear();
+            readFully(header, position);
+            int length = header.getInt(0);
+            int checksum = header.getInt(4);
+            if (length <= 0 || length > MAX_PAYLOAD || position + RECORD_HEADER + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, position + RECORD_HEADER);
+            crc.reset();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            apply(payload.array());
+            position += RECORD_HEADER + length;
+        }
+        if (position < size) {
+            System.err.println("Player data journal damaged after " + position + " bytes, the rest is dropped");
+        }
+    }
+
+    private void apply(byte[] payload) throws IOException {
+        ByteBuffer value = ByteBuffer.wrap(payload, 1, payload.length - 1);
+        switch (payload[0]) {
+            case KIND_HIGH_SCORE -> highScore = value.getInt();
+            case KIND_TOTAL_COINS -> totalCoins = value.getInt();
+            case KIND_SETTINGS -> {
+                settings = new Properties();
+                settings.load(new StringReader(new String(payload, 1, payload.length - 1, StandardCharsets.UTF_8)));
+            }
+            default -> throw new IOException("Unknown player data record " + payload[0]);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (journal.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Player data journal is truncated");
+            }
+        }
+    }
+
+    private static byte[] intPayload(byte kind, int value) {
+        return ByteBuffer.allocate(5).put(kind).putInt(value).array();
+    }
+
+    private static <T> T readSnapshot(Path path, Class<T> type, T fallback) {
+        if (!Files.exists(path)) {
+            return fallback;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(path))) {
+            return type.cast(in.readObject());
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            System.err.println("Error reading " + path.getFileName() + ": " + e.getMessage());
+            return fallback;
+        }
+    }
+
+    private static void writeObject(OutputStream out, Object value) throws IOException {
+        ObjectOutputStream objects = new ObjectOutputStream(out);
+        objects.writeObject(value);
+        objects.flush();
+    }
+
+    private interface SnapshotWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private static void writeAtomically(Path path, SnapshotWriter writer) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            writer.write(bytes);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,99 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.model.HighScore;
+import com.dinosaur.dinosaurexploder.model.PlayerProfile;
+import com.dinosaur.dinosaurexploder.model.Settings;
+import com.dinosaur.dinosaurexploder.model.TotalCoins;
+
+import java.io.IOException;
+
+/**
+ * Summary :
+ * Data of one named player kept in a shared ProfileStore, the profile is created on first use.
+ * Read errors are reported and give the same zero values as a missing FileDataProvider file.
+ */
+public class ProfileDataProvider implements DataProvider {
+    private final ProfileStore store;
+    private final String profileName;
+
+    public ProfileDataProvider(ProfileStore store, String profileName) {
+        this.store = store;
+        this.profileName = profileName;
+    }
+
+    @Override
+    public HighScore getHighScore() {
+        PlayerProfile profile = getProfile();
+        return profile == null ? new HighScore() : new HighScore(profile.getHighScore());
+    }
+
+    @Override
+    public TotalCoins getTotalCoins() {
+        PlayerProfile profile = getProfile();
+        return profile == null ? new TotalCoins() : new TotalCoins(profile.getTotalCoins());
+    }
+
+    @Override
+    public void saveHighScore(HighScore highScore) {
+        if (!ensureProfile()) {
+            return;
+        }
+        try {
+            store.setHighScore(profileName, highScore.getHigh());
+        } catch (IOException e) {
+            System.err.println("Error saving high score: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void saveTotalCoins(TotalCoins totalCoins) {
+        if (!ensureProfile()) {
+            return;
+        }
+        try {
+            store.setTotalCoins(profileName, totalCoins.getTotal());
+        } catch (IOException e) {
+            System.err.println("Error saving total coins: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Settings loadSettings() {
+        PlayerProfile profile = getProfile();
+        return profile == null ? SettingsProvider.generateDefaultSettings() : profile.getSettings();
+    }
+
+    @Override
+    public void saveSettings(Settings settings) {
+        if (!ensureProfile()) {
+            return;
+        }
+        try {
+            store.setSettings(profileName, settings);
+        } catch (IOException e) {
+            System.err.println("Error saving settings: " + e.getMessage());
+        }
+    }
+
+    // The index of the store is in memory, only a profile that does not exist yet touches the file
+    private boolean ensureProfile() {
+        return store.contains(profileName) || getProfile() != null;
+    }
+
+    /**
+     * Summary :
+     * Reads the whole profile, or returns null when the profile file cannot be read
+     */
+    public PlayerProfile getProfile() {
+        try {
+            return store.getOrCreateProfile(profileName);
+        } catch (IOException e) {
+            System.err.println("Error reading profile " + profileName + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public String getProfileName() {
+        return profileName;
+    }
+}
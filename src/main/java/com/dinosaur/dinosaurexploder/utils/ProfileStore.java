@@ -0,0 +1,446 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+import com.dinosaur.dinosaurexploder.model.PlayerProfile;
+import com.dinosaur.dinosaurexploder.model.Settings;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary :
+ * Many named player profiles in one binary file, for arcade cabinets and the web server.
+ * The file is a fixed header, then an index of profile names with the offset of their record,
+ * then the fixed size records. Opening only reads the index, a profile is then found in the
+ * name map and read with one positioned read. Changing the score or the coins of a profile
+ * writes just those bytes in place.
+ * When every slot is used the file is copied to a larger one, which replaces it atomically.
+ *
+ * Header (32 bytes): int magic, short version, short unused, int capacity, int count, int record size
+ * Index entry (36 bytes): name, int record offset
+ * Record (96 bytes): name, int high score, int total coins, int ship mask, int weapon mask,
+ * double volume, byte muted, byte quality, language, int games played, int dinosaurs killed,
+ * long play seconds
+ * Names are one length byte followed by their UTF-8 bytes.
+ */
+public class ProfileStore implements Closeable {
+    public static final int DEFAULT_CAPACITY = 64;
+    static final int MAGIC = 0x44455046;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int NAME_SIZE = 32;
+    static final int LANGUAGE_SIZE = 16;
+    static final int INDEX_ENTRY_SIZE = NAME_SIZE + 4;
+    static final int RECORD_SIZE = 96;
+
+    // Header fields
+    private static final int CAPACITY_AT = 8;
+    private static final int COUNT_AT = 12;
+    private static final int RECORD_SIZE_AT = 16;
+
+    // Record fields, relative to the start of the record
+    static final int HIGH_SCORE_AT = NAME_SIZE;
+    static final int TOTAL_COINS_AT = HIGH_SCORE_AT + 4;
+    static final int SHIPS_AT = TOTAL_COINS_AT + 4;
+    static final int WEAPONS_AT = SHIPS_AT + 4;
+    static final int VOLUME_AT = WEAPONS_AT + 4;
+    static final int MUTED_AT = VOLUME_AT + 8;
+    static final int QUALITY_AT = MUTED_AT + 1;
+    static final int LANGUAGE_AT = QUALITY_AT + 1;
+    static final int GAMES_AT = LANGUAGE_AT + LANGUAGE_SIZE;
+    static final int KILLS_AT = GAMES_AT + 4;
+    static final int PLAY_SECONDS_AT = KILLS_AT + 4;
+
+    // Ships 1 and 2 and weapon 1 have no unlock requirement
+    private static final int DEFAULT_SHIPS = 0b11;
+    private static final int DEFAULT_WEAPONS = 0b1;
+    // Also used when the stored quality is not a known level
+    private static final QualityLevel DEFAULT_QUALITY = QualityLevel.HIGH;
+
+    private static ProfileStore shared;
+
+    private final Path path;
+    private final Map<String, Integer> offsets = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private FileChannel channel;
+    private int capacity;
+
+    private ProfileStore(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Summary :
+     * Opens the profile file, creating an empty one when it does not exist
+     */
+    public static ProfileStore open(Path path) throws IOException {
+        return open(path, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Summary :
+     * Profiles of the players of the web server, kept in profiles.bin in the data directory
+     */
+    public static synchronized ProfileStore getShared() throws IOException {
+        if (shared == null) {
+            shared = open(PlayerDataJournal.getDataDirectory().resolve(GameConstants.PROFILES_FILE));
+        }
+        return shared;
+    }
+
+    static ProfileStore open(Path path, int initialCapacity) throws IOException {
+        ProfileStore store = new ProfileStore(path);
+        if (Files.exists(path)) {
+            store.load();
+        } else {
+            store.create(initialCapacity);
+        }
+        return store;
+    }
+
+    public synchronized boolean contains(String name) {
+        return offsets.containsKey(name);
+    }
+
+    /**
+     * Summary :
+     * Names of every profile, in the order they were created
+     */
+    public synchronized List<String> getProfileNames() {
+        return new ArrayList<>(names);
+    }
+
+    public synchronized int size() {
+        return names.size();
+    }
+
+    /**
+     * Summary :
+     * Reads a profile, or returns null when there is no profile with this name
+     */
+    public synchronized PlayerProfile getProfile(String name) throws IOException {
+        Integer offset = offsets.get(name);
+        if (offset == null) {
+            return null;
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        readFully(record, offset);
+        record.flip();
+        return readRecord(record);
+    }
+
+    /**
+     * Summary :
+     * Reads a profile, creating it with the default unlocks and settings when it does not exist
+     */
+    public synchronized PlayerProfile getOrCreateProfile(String name) throws IOException {
+        PlayerProfile profile = getProfile(name);
+        if (profile != null) {
+            return profile;
+        }
+        profile = new PlayerProfile(name);
+        profile.setUnlockedShips(DEFAULT_SHIPS);
+        profile.setUnlockedWeapons(DEFAULT_WEAPONS);
+        Settings settings = profile.getSettings();
+        settings.setVolume(1.0);
+        settings.setLanguage("English");
+        settings.setQuality(DEFAULT_QUALITY);
+        saveProfile(profile);
+        return profile;
+    }
+
+    /**
+     * Summary :
+     * Writes the whole profile, adding it to the file if it is new
+     */
+    public synchronized void saveProfile(PlayerProfile profile) throws IOException {
+        Integer offset = offsets.get(profile.getName());
+        if (offset == null) {
+            offset = addEntry(profile.getName());
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        writeRecord(record, profile);
+        record.flip();
+        writeFully(record, offset);
+    }
+
+    public void setHighScore(String name, int highScore) throws IOException {
+        writeInt(name, HIGH_SCORE_AT, highScore);
+    }
+
+    public void setTotalCoins(String name, int totalCoins) throws IOException {
+        writeInt(name, TOTAL_COINS_AT, totalCoins);
+    }
+
+    public void setUnlockedShips(String name, int shipMask) throws IOException {
+        writeInt(name, SHIPS_AT, shipMask);
+    }
+
+    public void setUnlockedWeapons(String name, int weaponMask) throws IOException {
+        writeInt(name, WEAPONS_AT, weaponMask);
+    }
+
+    /**
+     * Summary :
+     * Writes the volume, mute, quality and language of the profile in place
+     */
+    public synchronized void setSettings(String name, Settings settings) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(LANGUAGE_AT + LANGUAGE_SIZE - VOLUME_AT);
+        writeSettings(buffer, settings);
+        buffer.flip();
+        writeFully(buffer, requireOffset(name) + VOLUME_AT);
+    }
+
+    /**
+     * Summary :
+     * Adds one finished game to the stats of the profile
+     */
+    public synchronized void recordGame(String name, int dinosaursKilled, long playSeconds) throws IOException {
+        int offset = requireOffset(name);
+        ByteBuffer stats = ByteBuffer.allocate(16);
+        readFully(stats, offset + GAMES_AT);
+        int games = stats.getInt(0) + 1;
+        int kills = stats.getInt(4) + dinosaursKilled;
+        long seconds = stats.getLong(8) + playSeconds;
+        stats.clear();
+        stats.putInt(games).putInt(kills).putLong(seconds).flip();
+        writeFully(stats, offset + GAMES_AT);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private synchronized void writeInt(String name, int field, int value) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        buffer.putInt(value).flip();
+        writeFully(buffer, requireOffset(name) + field);
+    }
+
+    private int requireOffset(String name) {
+        Integer offset = offsets.get(name);
+        if (offset == null) {
+            throw new IllegalArgumentException("No profile named " + name);
+        }
+        return offset;
+    }
+
+    private void create(int initialCapacity) throws IOException {
+        Files.deleteIfExists(temporaryPath());
+        writeEmptyFile(temporaryPath(), initialCapacity);
+        Files.move(temporaryPath(), path, StandardCopyOption.ATOMIC_MOVE);
+        load();
+    }
+
+    private void load() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(header, 0);
+        if (header.getInt(0) != MAGIC || header.getShort(4) != VERSION || header.getInt(RECORD_SIZE_AT) != RECORD_SIZE) {
+            channel.close();
+            throw new IOException("Not a profile file: " + path);
+        }
+        int fileCapacity = header.getInt(CAPACITY_AT);
+        int count = header.getInt(COUNT_AT);
+        // A torn or damaged header would size the index wrongly and let new entries overwrite records
+        if (fileCapacity <= 0 || count < 0 || count > fileCapacity || channel.size() != fileSize(fileCapacity)) {
+            channel.close();
+            throw new IOException("Damaged profile file: " + path);
+        }
+        capacity = fileCapacity;
+
+        ByteBuffer index = ByteBuffer.allocate(count * INDEX_ENTRY_SIZE);
+        readFully(index, HEADER_SIZE);
+        index.flip();
+        offsets.clear();
+        names.clear();
+        for (int i = 0; i < count; i++) {
+            String name = readName(index);
+            offsets.put(name, index.getInt());
+            names.add(name);
+        }
+    }
+
+    private int addEntry(String name) throws IOException {
+        if (names.size() == capacity) {
+            grow();
+        }
+        int slot = names.size();
+        int offset = recordOffset(capacity, slot);
+
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+        writeName(entry, name);
+        entry.putInt(offset).flip();
+        writeFully(entry, HEADER_SIZE + (long) slot * INDEX_ENTRY_SIZE);
+
+        // The count goes last, a crash before it leaves the new entry unused
+        ByteBuffer count = ByteBuffer.allocate(4);
+        count.putInt(slot + 1).flip();
+        writeFully(count, COUNT_AT);
+
+        offsets.put(name, offset);
+        names.add(name);
+        return offset;
+    }
+
+    // The records start after the index, a larger index moves them so the file is rewritten
+    private void grow() throws IOException {
+        int larger = capacity * 2;
+        Path temporary = temporaryPath();
+        Files.deleteIfExists(temporary);
+        writeEmptyFile(temporary, larger);
+        try (FileChannel target = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.max(RECORD_SIZE, INDEX_ENTRY_SIZE));
+            for (int slot = 0; slot < names.size(); slot++) {
+                String name = names.get(slot);
+                int offset = recordOffset(larger, slot);
+
+                buffer.clear();
+                writeName(buffer, name);
+                buffer.putInt(offset).flip();
+                target.write(buffer, HEADER_SIZE + (long) slot * INDEX_ENTRY_SIZE);
+
+                buffer.clear().limit(RECORD_SIZE);
+                readFully(buffer, offsets.get(name));
+                buffer.flip();
+                target.write(buffer, offset);
+            }
+            ByteBuffer count = ByteBuffer.allocate(4);
+            count.putInt(names.size()).flip();
+            target.write(count, COUNT_AT);
+            target.force(true);
+        }
+        channel.close();
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        load();
+    }
+
+    private static void writeEmptyFile(Path file, int fileCapacity) throws IOException {
+        try (FileChannel target = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putShort(VERSION).putShort((short) 0)
+                    .putInt(fileCapacity).putInt(0).putInt(RECORD_SIZE).clear();
+            target.write(header, 0);
+            // Reserve the whole file so the records never move until the next growth
+            target.write(ByteBuffer.allocate(1), recordOffset(fileCapacity, fileCapacity) - 1L);
+            target.force(true);
+        }
+    }
+
+    private Path temporaryPath() {
+        return path.resolveSibling(path.getFileName() + ".tmp");
+    }
+
+    // Computed in long, the capacity may come from a damaged header
+    private static long fileSize(int fileCapacity) {
+        return HEADER_SIZE + (long) fileCapacity * (INDEX_ENTRY_SIZE + RECORD_SIZE);
+    }
+
+    static int recordOffset(int fileCapacity, int slot) {
+        return HEADER_SIZE + fileCapacity * INDEX_ENTRY_SIZE + slot * RECORD_SIZE;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Profile file is truncated: " + path);
+            }
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private static PlayerProfile readRecord(ByteBuffer record) {
+        PlayerProfile profile = new PlayerProfile(readName(record));
+        profile.setHighScore(record.getInt(HIGH_SCORE_AT));
+        profile.setTotalCoins(record.getInt(TOTAL_COINS_AT));
+        profile.setUnlockedShips(record.getInt(SHIPS_AT));
+        profile.setUnlockedWeapons(record.getInt(WEAPONS_AT));
+
+        Settings settings = new Settings();
+        settings.setVolume(record.getDouble(VOLUME_AT));
+        settings.setMuted(record.get(MUTED_AT) != 0);
+        settings.setQuality(readQuality(record.get(QUALITY_AT)));
+        record.position(LANGUAGE_AT);
+        settings.setLanguage(readString(record, LANGUAGE_SIZE));
+        profile.setSettings(settings);
+
+        profile.setGamesPlayed(record.getInt(GAMES_AT));
+        profile.setDinosaursKilled(record.getInt(KILLS_AT));
+        profile.setPlaySeconds(record.getLong(PLAY_SECONDS_AT));
+        return profile;
+    }
+
+    // A damaged or newer file may hold a level this version does not know
+    private static QualityLevel readQuality(byte stored) {
+        QualityLevel[] levels = QualityLevel.values();
+        return stored >= 0 && stored < levels.length ? levels[stored] : DEFAULT_QUALITY;
+    }
+
+    private static void writeRecord(ByteBuffer record, PlayerProfile profile) {
+        writeName(record, profile.getName());
+        record.putInt(profile.getHighScore());
+        record.putInt(profile.getTotalCoins());
+        record.putInt(profile.getUnlockedShips());
+        record.putInt(profile.getUnlockedWeapons());
+
+        writeSettings(record, profile.getSettings());
+
+        record.putInt(profile.getGamesPlayed());
+        record.putInt(profile.getDinosaursKilled());
+        record.putLong(profile.getPlaySeconds());
+        record.position(RECORD_SIZE);
+    }
+
+    private static void writeSettings(ByteBuffer buffer, Settings settings) {
+        buffer.putDouble(settings.getVolume());
+        buffer.put((byte) (settings.isMuted() ? 1 : 0));
+        buffer.put((byte) settings.getQuality().ordinal());
+        writeString(buffer, settings.getLanguage() == null ? "" : settings.getLanguage(), LANGUAGE_SIZE);
+    }
+
+    private static String readName(ByteBuffer buffer) {
+        return readString(buffer, NAME_SIZE);
+    }
+
+    private static void writeName(ByteBuffer buffer, String name) {
+        writeString(buffer, name, NAME_SIZE);
+    }
+
+    private static String readString(ByteBuffer buffer, int size) {
+        int start = buffer.position();
+        int length = buffer.get() & 0xFF;
+        String value = new String(buffer.array(), buffer.arrayOffset() + start + 1, length, StandardCharsets.UTF_8);
+        buffer.position(start + size);
+        return value;
+    }
+
+    private static void writeString(ByteBuffer buffer, String value, int size) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= size) {
+            throw new IllegalArgumentException("Too long to store in a profile: " + value);
+        }
+        int start = buffer.position();
+        buffer.put((byte) bytes.length);
+        buffer.put(bytes);
+        buffer.position(start + size);
+    }
+}
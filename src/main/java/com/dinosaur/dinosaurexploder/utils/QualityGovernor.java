@@ -0,0 +1,144 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+
+/**
+ * Summary :
+ * Watches the frame time and steps the graphics quality down when frames run long,
+ * then back up when there is headroom again. It never goes above the quality chosen in the settings.
+ * Stepping down is quick and stepping up is slow, and the thresholds are far apart,
+ * so the quality does not flicker between two tiers.
+ */
+public class QualityGovernor {
+    public static final double TARGET_FRAME_TIME = 1.0 / 60;
+    // Frames slower than this (about 44 fps) count against the current tier
+    static final double DOWNGRADE_FRAME_TIME = TARGET_FRAME_TIME * 1.35;
+    // Frames faster than this count as headroom for the next tier
+    static final double UPGRADE_FRAME_TIME = TARGET_FRAME_TIME * 1.1;
+    // About half a second of slow frames before stepping down
+    static final int DOWNGRADE_FRAMES = 30;
+    // About three seconds of fast frames before stepping up
+    static final int UPGRADE_FRAMES = 180;
+    private static final double SMOOTHING = 0.1;
+    // Longer frames are pauses or window drags, not load
+    private static final double MAX_SAMPLE = 0.25;
+
+    private static QualityGovernor instance;
+
+    private final ObjectProperty<QualityLevel> tier = new SimpleObjectProperty<>(QualityLevel.HIGH);
+    private QualityLevel maxTier = QualityLevel.HIGH;
+    private QualityLevel ceiling = QualityLevel.HIGH;
+    private double averageFrameTime = TARGET_FRAME_TIME;
+    private int slowFrames = 0;
+    private int fastFrames = 0;
+
+    public QualityGovernor() {}
+
+    public static QualityGovernor getInstance() {
+        if (instance == null) {
+            instance = new QualityGovernor();
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Feeds the duration of the last frame in seconds
+     */
+    public void sample(double frameTime) {
+        if (frameTime <= 0 || frameTime > MAX_SAMPLE) return;
+
+        averageFrameTime += (frameTime - averageFrameTime) * SMOOTHING;
+
+        if (averageFrameTime > DOWNGRADE_FRAME_TIME) {
+            fastFrames = 0;
+            if (++slowFrames >= DOWNGRADE_FRAMES) {
+                step(-1);
+            }
+        } else if (averageFrameTime < UPGRADE_FRAME_TIME) {
+            slowFrames = 0;
+            if (++fastFrames >= UPGRADE_FRAMES) {
+                step(1);
+            }
+        } else {
+            slowFrames = 0;
+            fastFrames = 0;
+        }
+    }
+
+    private void step(int direction) {
+        int next = getTier().ordinal() + direction;
+        if (next >= 0 && next <= getAllowedTier().ordinal()) {
+            tier.set(QualityLevel.values()[next]);
+        }
+        slowFrames = 0;
+        fastFrames = 0;
+    }
+
+    /**
+     * Summary :
+     * Sets the highest tier the governor may use, usually the quality from the settings
+     */
+    public void setMaxTier(QualityLevel maxTier) {
+        this.maxTier = maxTier;
+        clampTier();
+    }
+
+    public QualityLevel getMaxTier() {
+        return maxTier;
+    }
+
+    /**
+     * Summary :
+     * Caps the tier below the settings, used by the server when a session uses more than its share
+     * of the frame. Setting HIGH lifts the cap again.
+     */
+    public void setCeiling(QualityLevel ceiling) {
+        this.ceiling = ceiling;
+        clampTier();
+    }
+
+    public QualityLevel getCeiling() {
+        return ceiling;
+    }
+
+    private QualityLevel getAllowedTier() {
+        return ceiling.ordinal() < maxTier.ordinal() ? ceiling : maxTier;
+    }
+
+    private void clampTier() {
+        if (getTier().ordinal() > getAllowedTier().ordinal()) {
+            tier.set(getAllowedTier());
+        }
+    }
+
+    /**
+     * Summary :
+     * Starts again from the highest allowed tier with a clean frame history
+     */
+    public void reset() {
+        averageFrameTime = TARGET_FRAME_TIME;
+        slowFrames = 0;
+        fastFrames = 0;
+        tier.set(getAllowedTier());
+    }
+
+    public QualityLevel getTier() {
+        return tier.get();
+    }
+
+    public ReadOnlyObjectProperty<QualityLevel> tierProperty() {
+        return tier;
+    }
+
+    /**
+     * Summary :
+     * Smoothed frame time in seconds
+     */
+    public double getAverageFrameTime() {
+        return averageFrameTime;
+    }
+}
@@ -0,0 +1,113 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.EntityWorldListener;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Text;
+
+import java.util.Objects;
+
+/**
+ * Summary :
+ * Counts the scene graph changes of one session per frame. On the web every node added or removed
+ * and every property changed is sent to the browser, so this is the bandwidth of the session.
+ * The set methods only touch the node when the value really changes, a JavaFX property
+ * set with an equal but new String or value still counts as a change.
+ * Entities added to and removed from the game world are counted as one change each.
+ */
+public class SceneMutationCounter implements EntityWorldListener {
+    private static final double SMOOTHING = 0.1;
+
+    private int frameMutations = 0;
+    private int lastFrameMutations = 0;
+    private double averageMutations = 0;
+    private long totalMutations = 0;
+
+    public void count() {
+        count(1);
+    }
+
+    public void count(int mutations) {
+        frameMutations += mutations;
+        totalMutations += mutations;
+    }
+
+    /**
+     * Summary :
+     * Closes the current frame, called once per frame by the game loop
+     */
+    public void endFrame() {
+        lastFrameMutations = frameMutations;
+        averageMutations += (frameMutations - averageMutations) * SMOOTHING;
+        frameMutations = 0;
+    }
+
+    public boolean setText(Text text, String value) {
+        if (Objects.equals(text.getText(), value)) {
+            return false;
+        }
+        text.setText(value);
+        count();
+        return true;
+    }
+
+    public boolean setImage(ImageView view, Image image) {
+        if (view.getImage() == image) {
+            return false;
+        }
+        view.setImage(image);
+        count();
+        return true;
+    }
+
+    public boolean setVisible(Node node, boolean visible) {
+        if (node.isVisible() == visible) {
+            return false;
+        }
+        node.setVisible(visible);
+        count();
+        return true;
+    }
+
+    public boolean setWidth(Rectangle rectangle, double width) {
+        if (rectangle.getWidth() == width) {
+            return false;
+        }
+        rectangle.setWidth(width);
+        count();
+        return true;
+    }
+
+    @Override
+    public void onEntityAdded(Entity entity) {
+        count();
+    }
+
+    @Override
+    public void onEntityRemoved(Entity entity) {
+        count();
+    }
+
+    /**
+     * Summary :
+     * Changes made during the last complete frame
+     */
+    public int getLastFrameMutations() {
+        return lastFrameMutations;
+    }
+
+    /**
+     * Summary :
+     * Smoothed changes per frame
+     */
+    public double getAverageMutations() {
+        return averageMutations;
+    }
+
+    public long getTotalMutations() {
+        return totalMutations;
+    }
+}
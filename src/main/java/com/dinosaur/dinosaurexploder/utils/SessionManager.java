@@ -0,0 +1,239 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.AdmissionResult;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import javafx.application.Platform;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Summary :
+ * Admission control of the web server. A new session only starts when there is room for it:
+ * below the session limit, with enough heap left for its estimated size and with enough of the
+ * JavaFX thread left after the measured tick cost of the running sessions.
+ * Otherwise it waits in a short queue, or is refused when the queue is full too.
+ * Sessions idle or paused for too long are closed so they give their room to the queue,
+ * and the queue is checked again on every sweep in case the load dropped meanwhile.
+ * The limits can be changed with the dinosaur.maxSessions, dinosaur.maxQueued,
+ * dinosaur.idleTimeout and dinosaur.pauseTimeout system properties (timeouts in seconds).
+ */
+public class SessionManager {
+    public static final int DEFAULT_MAX_SESSIONS = 24;
+    public static final int DEFAULT_MAX_QUEUED = 16;
+    public static final double DEFAULT_IDLE_TIMEOUT = 180;
+    public static final double DEFAULT_PAUSE_TIMEOUT = 300;
+    // Rough heap of one running game, the images and translations are shared by the AssetRegistry
+    static final long SESSION_HEAP_ESTIMATE = 48L * 1024 * 1024;
+    // Heap kept free for the garbage collector and the JPro server itself
+    static final double HEAP_SHARE = 0.8;
+    // Part of the session update time that may be used before new sessions have to wait
+    static final double CPU_SHARE = 0.9;
+    private static final long SWEEP_PERIOD_SECONDS = 10;
+
+    private static SessionManager instance;
+
+    private final int maxSessions;
+    private final int maxQueued;
+    private final double idleTimeout;
+    private final double pauseTimeout;
+    private final long maxHeap;
+    private final LongSupplier usedHeap;
+    private final LongSupplier clock;
+    private final Executor callbacks;
+
+    private final List<GameSession> live = new ArrayList<>();
+    private final Deque<GameSession> queue = new ArrayDeque<>();
+    private ScheduledExecutorService sweeper;
+
+    public SessionManager() {
+        this(Integer.getInteger("dinosaur.maxSessions", DEFAULT_MAX_SESSIONS),
+                Integer.getInteger("dinosaur.maxQueued", DEFAULT_MAX_QUEUED),
+                Double.parseDouble(System.getProperty("dinosaur.idleTimeout", String.valueOf(DEFAULT_IDLE_TIMEOUT))),
+                Double.parseDouble(System.getProperty("dinosaur.pauseTimeout", String.valueOf(DEFAULT_PAUSE_TIMEOUT))),
+                Runtime.getRuntime().maxMemory(),
+                SessionManager::heapUsedAfterCollection,
+                System::nanoTime,
+                Platform::runLater);
+    }
+
+    SessionManager(int maxSessions, int maxQueued, double idleTimeout, double pauseTimeout, long maxHeap,
+                   LongSupplier usedHeap, LongSupplier clock, Executor callbacks) {
+        this.maxSessions = maxSessions;
+        this.maxQueued = maxQueued;
+        this.idleTimeout = idleTimeout;
+        this.pauseTimeout = pauseTimeout;
+        this.maxHeap = maxHeap;
+        this.usedHeap = usedHeap;
+        this.clock = clock;
+        this.callbacks = callbacks;
+    }
+
+    public static synchronized SessionManager getInstance() {
+        if (instance == null) {
+            instance = new SessionManager();
+            instance.startSweeping();
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Creates a session, onStart runs on the JavaFX thread once it is admitted
+     * and onEvict closes it when it has been idle or paused for too long
+     */
+    public GameSession createSession(String id, GameContext context, Consumer<GameSession> onStart, Runnable onEvict) {
+        return new GameSession(id, context, onStart, onEvict, clock);
+    }
+
+    /**
+     * Summary :
+     * Starts the session when there is room, queues it or refuses it otherwise
+     */
+    public synchronized AdmissionResult admit(GameSession session) {
+        if (queue.isEmpty() && hasCapacity()) {
+            start(session);
+            return AdmissionResult.ADMITTED;
+        }
+        if (queue.size() < maxQueued) {
+            queue.addLast(session);
+            return AdmissionResult.QUEUED;
+        }
+        return AdmissionResult.REJECTED;
+    }
+
+    /**
+     * Summary :
+     * Forgets a closed session, releases what it holds and starts the waiting sessions that now fit
+     */
+    public synchronized void release(GameSession session) {
+        if (queue.remove(session)) {
+            return;
+        }
+        if (!live.remove(session)) {
+            return;
+        }
+        callbacks.execute(session::release);
+        admitWaiting();
+    }
+
+    /**
+     * Summary :
+     * Starts the waiting sessions that fit now. Sessions queued on the heap or the tick cost may
+     * fit once the load drops, even when no running session leaves.
+     */
+    public synchronized void admitWaiting() {
+        while (!queue.isEmpty() && hasCapacity()) {
+            start(queue.pollFirst());
+        }
+    }
+
+    /**
+     * Summary :
+     * Closes the sessions idle or paused past their timeout, returns how many were closed
+     */
+    public int evictIdleSessions() {
+        List<GameSession> expired = new ArrayList<>();
+        synchronized (this) {
+            for (GameSession session : live) {
+                if (session.getIdleTime() > idleTimeout || session.getPausedTime() > pauseTimeout) {
+                    expired.add(session);
+                }
+            }
+        }
+        for (GameSession session : expired) {
+            release(session);
+            callbacks.execute(session::evict);
+        }
+        return expired.size();
+    }
+
+    /**
+     * Summary :
+     * Heap still in use after the last collection of each heap pool. The garbage left since then
+     * would be freed by the next collection, so it does not keep a new session out.
+     * Pools that were never collected count as empty, the per session estimate covers them.
+     */
+    static long heapUsedAfterCollection() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP) {
+                continue;
+            }
+            MemoryUsage afterCollection = pool.getCollectionUsage();
+            if (afterCollection != null) {
+                used += afterCollection.getUsed();
+            }
+        }
+        return used;
+    }
+
+    private boolean hasCapacity() {
+        if (live.size() >= maxSessions) {
+            return false;
+        }
+        long estimatedHeap = Math.max(usedHeap.getAsLong(), live.size() * SESSION_HEAP_ESTIMATE);
+        if (estimatedHeap + SESSION_HEAP_ESTIMATE > maxHeap * HEAP_SHARE) {
+            return false;
+        }
+        double cpu = 0;
+        for (GameSession session : live) {
+            cpu += session.getTickCost();
+        }
+        return cpu < SessionTickScheduler.FRAME_BUDGET * SessionTickScheduler.UPDATE_SHARE * CPU_SHARE;
+    }
+
+    private void start(GameSession session) {
+        live.add(session);
+        callbacks.execute(session::start);
+    }
+
+    private void startSweeping() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleAtFixedRate(this::sweep, SWEEP_PERIOD_SECONDS, SWEEP_PERIOD_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private void sweep() {
+        evictIdleSessions();
+        admitWaiting();
+    }
+
+    public synchronized int getLiveCount() {
+        return live.size();
+    }
+
+    public synchronized int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Summary :
+     * Position of a waiting session in the queue starting at 1, 0 when it is not waiting
+     */
+    public synchronized int getQueuePosition(GameSession session) {
+        int position = 1;
+        for (GameSession waiting : queue) {
+            if (waiting == session) {
+                return position;
+            }
+            position++;
+        }
+        return 0;
+    }
+}
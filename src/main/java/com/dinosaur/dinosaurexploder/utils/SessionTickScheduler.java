@@ -0,0 +1,84 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+
+/**
+ * Summary :
+ * Shares the JavaFX application thread fairly between the sessions of a web server.
+ * Every JPro session runs its game loop on the same thread, so each one gets an equal slice
+ * of the frame as its tick budget. A session whose ticks keep going over its slice is degraded
+ * through its SessionTicker, so one busy boss fight does not slow down every other player.
+ */
+public class SessionTickScheduler {
+    public static final double FRAME_BUDGET = 1.0 / 60;
+    // The rest of the frame is left to the JavaFX pulse itself: css, layout and sending to the browsers
+    static final double UPDATE_SHARE = 0.6;
+    // Below this a tick cannot do its basic work, whatever the number of sessions
+    static final double MIN_SESSION_BUDGET = 0.001;
+
+    private static SessionTickScheduler instance;
+
+    private final List<SessionTicker> sessions = new CopyOnWriteArrayList<>();
+    private final LongSupplier clock;
+
+    public SessionTickScheduler() {
+        this(System::nanoTime);
+    }
+
+    SessionTickScheduler(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public static synchronized SessionTickScheduler getInstance() {
+        if (instance == null) {
+            instance = new SessionTickScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Adds a session, the returned ticker measures its ticks and degrades it through its governor
+     */
+    public SessionTicker register(String sessionId, QualityGovernor governor) {
+        SessionTicker ticker = new SessionTicker(sessionId, this, governor, clock);
+        sessions.add(ticker);
+        return ticker;
+    }
+
+    public void unregister(SessionTicker ticker) {
+        sessions.remove(ticker);
+    }
+
+    /**
+     * Summary :
+     * Tick budget of one session in seconds, the update part of the frame split evenly
+     */
+    public double getSessionBudget() {
+        int count = Math.max(1, sessions.size());
+        return Math.max(MIN_SESSION_BUDGET, FRAME_BUDGET * UPDATE_SHARE / count);
+    }
+
+    public List<SessionTicker> getSessions() {
+        return Collections.unmodifiableList(sessions);
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Summary :
+     * Highest smoothed tick latency of all sessions in seconds, the number to watch on a shared node
+     */
+    public double getWorstAverageLatency() {
+        double worst = 0;
+        for (SessionTicker ticker : sessions) {
+            worst = Math.max(worst, ticker.getAverageLatency());
+        }
+        return worst;
+    }
+}
@@ -0,0 +1,189 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.almasb.fxgl.time.Timer;
+import com.almasb.fxgl.time.TimerAction;
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+import javafx.util.Duration;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Summary :
+ * Tick measurements and degradation state of one session of the SessionTickScheduler.
+ * A tick is the whole frame of the session: it begins from the scene timer, before the world
+ * and the physics are updated, and the game ends it after its own per frame work. When the smoothed cost stays
+ * over the session budget the session is degraded one level at a time: first the quality is capped
+ * at medium, then at low, then the effects are only redrawn every second and every third frame.
+ * It recovers one level at a time once the cost is well under the budget again.
+ */
+public class SessionTicker {
+    public static final int MAX_LEVEL = 4;
+    // About half a second over budget before degrading
+    static final int DEGRADE_TICKS = 30;
+    // About three seconds under budget before recovering
+    static final int RECOVER_TICKS = 180;
+    // The cost must be this far under the budget to count as recovered
+    static final double RECOVER_SHARE = 0.7;
+    private static final double SMOOTHING = 0.1;
+    private static final double NANOS = 1_000_000_000.0;
+
+    private final String sessionId;
+    private final SessionTickScheduler scheduler;
+    private final QualityGovernor governor;
+    private final LongSupplier clock;
+
+    private long tickStart = -1;
+    private long lastTickStart = -1;
+    private double averageCost = 0;
+    private double averageLatency = SessionTickScheduler.FRAME_BUDGET;
+    private double maxLatency = 0;
+    private long tickCount = 0;
+    private long overBudgetTicks = 0;
+    private int level = 0;
+    private int overTicks = 0;
+    private int underTicks = 0;
+
+    SessionTicker(String sessionId, SessionTickScheduler scheduler, QualityGovernor governor, LongSupplier clock) {
+        this.sessionId = sessionId;
+        this.scheduler = scheduler;
+        this.governor = governor;
+        this.clock = clock;
+    }
+
+    /**
+     * Summary :
+     * Begins a tick on every update of the scene timer. The scene updates its timer before its world,
+     * so the tick includes the entities, the physics and the other timer actions.
+     * The timer is cleared on every new game, this must be called again from initGame.
+     */
+    public TimerAction beginTicksOn(Timer timer) {
+        return timer.runAtInterval(this::beginTick, Duration.ZERO);
+    }
+
+    /**
+     * Summary :
+     * Marks the start of a tick, the time since the previous start is the tick latency
+     */
+    public void beginTick() {
+        tickStart = clock.getAsLong();
+        if (lastTickStart >= 0) {
+            double latency = (tickStart - lastTickStart) / NANOS;
+            averageLatency += (latency - averageLatency) * SMOOTHING;
+            maxLatency = Math.max(maxLatency, latency);
+        }
+        lastTickStart = tickStart;
+    }
+
+    /**
+     * Summary :
+     * Marks the end of a tick and adjusts the degradation level from the smoothed cost
+     */
+    public void endTick() {
+        if (tickStart < 0) {
+            return;
+        }
+        double cost = (clock.getAsLong() - tickStart) / NANOS;
+        tickStart = -1;
+        tickCount++;
+        averageCost += (cost - averageCost) * SMOOTHING;
+
+        double budget = scheduler.getSessionBudget();
+        if (cost > budget) {
+            overBudgetTicks++;
+        }
+
+        if (averageCost > budget) {
+            underTicks = 0;
+            if (++overTicks >= DEGRADE_TICKS) {
+                setLevel(level + 1);
+            }
+        } else if (averageCost < budget * RECOVER_SHARE) {
+            overTicks = 0;
+            if (++underTicks >= RECOVER_TICKS) {
+                setLevel(level - 1);
+            }
+        } else {
+            overTicks = 0;
+            underTicks = 0;
+        }
+    }
+
+    private void setLevel(int next) {
+        overTicks = 0;
+        underTicks = 0;
+        if (next < 0 || next > MAX_LEVEL) {
+            return;
+        }
+        level = next;
+        governor.setCeiling(getCeiling());
+    }
+
+    /**
+     * Summary :
+     * Highest quality the session may use at its current level
+     */
+    public QualityLevel getCeiling() {
+        return switch (level) {
+            case 0 -> QualityLevel.HIGH;
+            case 1 -> QualityLevel.MEDIUM;
+            default -> QualityLevel.LOW;
+        };
+    }
+
+    /**
+     * Summary :
+     * How often the effects are redrawn, 1 means every frame
+     */
+    public int getRenderStride() {
+        return level <= 2 ? 1 : level - 1;
+    }
+
+    /**
+     * Summary :
+     * Removes the session from the scheduler, the other sessions get its share of the frame
+     */
+    public void close() {
+        scheduler.unregister(this);
+        governor.setCeiling(QualityLevel.HIGH);
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Summary :
+     * Smoothed tick cost in seconds
+     */
+    public double getAverageCost() {
+        return averageCost;
+    }
+
+    /**
+     * Summary :
+     * Smoothed time between two ticks in seconds, it grows when other sessions hold the thread
+     */
+    public double getAverageLatency() {
+        return averageLatency;
+    }
+
+    public double getMaxLatency() {
+        return maxLatency;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public long getOverBudgetTicks() {
+        return overBudgetTicks;
+    }
+
+    public double getBudget() {
+        return scheduler.getSessionBudget();
+    }
+}
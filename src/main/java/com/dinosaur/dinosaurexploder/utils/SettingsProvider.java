@@ -1,9 +1,8 @@
 package com.dinosaur.dinosaurexploder.utils;
 
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
 import com.dinosaur.dinosaurexploder.model.Settings;
 
-import java.io.FileInputStream;
-import java.io.FileWriter;
 import java.util.Properties;
 
 public class SettingsProvider {
@@ -12,17 +11,22 @@ public class SettingsProvider {
     public static final String SETTING_VOLUME = "soundVolume";
     public static final String SETTINGS_MUTED = "soundMuted";
     public static final String SETTINGS_LANGUAGE = "selectedLanguage";
+    public static final String SETTINGS_QUALITY = "graphicsQuality";
 
     public static Settings loadSettings() {
-        Properties properties = new Properties();
+        return loadSettings(PlayerDataJournal.getDefault());
+    }
 
-        try {
-            FileInputStream in = new FileInputStream(SETTINGS_FILE);
-            properties.load(in);
-            in.close();
-        } catch (Exception ex) {
+    /**
+     * Summary :
+     * Settings stored in the journal, the default settings are stored and returned when there are none
+     */
+    public static Settings loadSettings(PlayerDataJournal journal) {
+        Properties properties = journal.getSettings();
+
+        if (properties == null) {
             Settings defaultSettings = generateDefaultSettings();
-            saveSettings(defaultSettings);
+            saveSettings(defaultSettings, journal);
             return defaultSettings;
         }
 
@@ -30,13 +34,12 @@ public class SettingsProvider {
     }
 
     public static void saveSettings(Settings settings) {
-        Properties properties = createPropertiesFormSettings(settings);
+        saveSettings(settings, PlayerDataJournal.getDefault());
+    }
 
-        try {
-            properties.store(new FileWriter(SETTINGS_FILE), "store properties");
-        }catch(Exception ex){
-            System.err.println("Error saving settings " + ex.getMessage());
-        }
+    public static void saveSettings(Settings settings, PlayerDataJournal journal) {
+        Properties properties = createPropertiesFormSettings(settings);
+        journal.setSettings(properties);
     }
 
     private static Settings createSettingsFromProperties(Properties props){
@@ -44,6 +47,7 @@ public class SettingsProvider {
         settings.setVolume(Double.parseDouble(props.getProperty(SETTING_VOLUME)));
         settings.setMuted(Boolean.parseBoolean(props.getProperty(SETTINGS_MUTED)));
         settings.setLanguage(props.getProperty(SETTINGS_LANGUAGE));
+        settings.setQuality(QualityLevel.fromName(props.getProperty(SETTINGS_QUALITY)));
 
         return settings;
     }
@@ -53,15 +57,17 @@ public class SettingsProvider {
         properties.put(SETTING_VOLUME, String.valueOf(settings.getVolume()));
         properties.put(SETTINGS_MUTED, String.valueOf(settings.isMuted()));
         properties.put(SETTINGS_LANGUAGE, settings.getLanguage());
+        properties.put(SETTINGS_QUALITY, settings.getQuality().name());
 
         return properties;
     }
 
-    private static Settings generateDefaultSettings(){
+    static Settings generateDefaultSettings(){
         Settings defaultSettings = new Settings();
         defaultSettings.setVolume(1.0);
         defaultSettings.setMuted(false);
         defaultSettings.setLanguage("English");
+        defaultSettings.setQuality(QualityLevel.HIGH);
 
         return defaultSettings;
     }
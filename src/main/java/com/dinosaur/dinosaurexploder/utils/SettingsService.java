@@ -0,0 +1,172 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+import com.dinosaur.dinosaurexploder.model.Settings;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Summary :
+ * Settings of one game session kept in memory, loaded once and shared by its menus and its game.
+ * Changes go through the setters, which notify the listeners right away and save the settings
+ * in the background once no change came for a short while. Dragging the volume slider then
+ * saves once when the slider stops instead of on every step.
+ * Every session loads and saves its settings through the data provider of its context,
+ * only the thread writing the saves is shared.
+ * The settings returned by getSettings must be treated as read only.
+ */
+public class SettingsService {
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 300;
+
+    // Shared by every session, a save is a short write to the player data
+    private static final ScheduledExecutorService SAVE_EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "settings-save");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Settings settings;
+    private final Consumer<Settings> saver;
+    private final long debounceMillis;
+    private final List<Consumer<Settings>> listeners = new CopyOnWriteArrayList<>();
+
+    private ScheduledFuture<?> pendingSave;
+    // Identifies the last scheduled save, an older one that already started does nothing
+    private long saveGeneration = 0;
+
+    SettingsService(Supplier<Settings> loader, Consumer<Settings> saver, long debounceMillis) {
+        this.settings = loader.get();
+        this.saver = saver;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Summary :
+     * Settings of a new session, loaded from and saved through the data provider of the session.
+     * A save still waiting when the game exits is written before the provider closes.
+     */
+    public static SettingsService create(DataProvider dataProvider) {
+        SettingsService service = new SettingsService(dataProvider::loadSettings, dataProvider::saveSettings,
+                DEFAULT_DEBOUNCE_MILLIS);
+        dataProvider.addCloseAction(service::flush);
+        return service;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    public void setVolume(double volume) {
+        synchronized (this) {
+            if (settings.getVolume() == volume) {
+                return;
+            }
+            settings.setVolume(volume);
+        }
+        changed();
+    }
+
+    public void setMuted(boolean muted) {
+        synchronized (this) {
+            if (settings.isMuted() == muted) {
+                return;
+            }
+            settings.setMuted(muted);
+        }
+        changed();
+    }
+
+    public void setLanguage(String language) {
+        synchronized (this) {
+            if (Objects.equals(settings.getLanguage(), language)) {
+                return;
+            }
+            settings.setLanguage(language);
+        }
+        changed();
+    }
+
+    public void setQuality(QualityLevel quality) {
+        synchronized (this) {
+            if (settings.getQuality() == quality) {
+                return;
+            }
+            settings.setQuality(quality);
+        }
+        changed();
+    }
+
+    /**
+     * Summary :
+     * Listener called with the settings after every change, on the thread that made the change
+     */
+    public void addListener(Consumer<Settings> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<Settings> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Summary :
+     * Saves a pending change now instead of waiting for the end of the debounce delay
+     */
+    public void flush() {
+        synchronized (this) {
+            if (pendingSave == null) {
+                return;
+            }
+            pendingSave.cancel(false);
+            clearPendingSave();
+        }
+        save();
+    }
+
+    private void changed() {
+        for (Consumer<Settings> listener : listeners) {
+            listener.accept(settings);
+        }
+        synchronized (this) {
+            // Every change pushes the save back, only the last one of a burst is written
+            if (pendingSave != null) {
+                pendingSave.cancel(false);
+            }
+            long generation = ++saveGeneration;
+            pendingSave = SAVE_EXECUTOR.schedule(() -> saveScheduled(generation), debounceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void saveScheduled(long generation) {
+        synchronized (this) {
+            // A later change or a flush took over this save
+            if (generation != saveGeneration || pendingSave == null) {
+                return;
+            }
+            clearPendingSave();
+        }
+        save();
+    }
+
+    private void clearPendingSave() {
+        pendingSave = null;
+    }
+
+    private void save() {
+        Settings copy = new Settings();
+        synchronized (this) {
+            copy.setVolume(settings.getVolume());
+            copy.setMuted(settings.isMuted());
+            copy.setLanguage(settings.getLanguage());
+            copy.setQuality(settings.getQuality());
+        }
+        saver.accept(copy);
+    }
+}
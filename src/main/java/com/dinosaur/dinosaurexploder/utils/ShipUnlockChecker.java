@@ -1,5 +1,6 @@
 package com.dinosaur.dinosaurexploder.utils;
 
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
 import com.dinosaur.dinosaurexploder.exception.LockedShipException;
 import com.dinosaur.dinosaurexploder.model.HighScore;
 import com.dinosaur.dinosaurexploder.model.TotalCoins;
@@ -7,7 +8,7 @@ import com.dinosaur.dinosaurexploder.model.TotalCoins;
 import java.util.Map;
 
 public class ShipUnlockChecker {
-    public LanguageManager languageManager = LanguageManager.getInstance();
+    public LanguageManager languageManager;
 
     private static final Map<Integer, Integer> scoreMap = Map.of(   //key: shipNumber, value: lower limit score
             1, 0,
@@ -36,7 +37,12 @@ public class ShipUnlockChecker {
     private final DataProvider dataProvider;
 
     public ShipUnlockChecker(DataProvider dataProvider) {
+        this(dataProvider, LanguageManager.getInstance());
+    }
+
+    public ShipUnlockChecker(DataProvider dataProvider, LanguageManager languageManager) {
         this.dataProvider = dataProvider;
+        this.languageManager = languageManager;
     }
 
     public int check(int shipNumber) {
@@ -55,16 +61,16 @@ public class ShipUnlockChecker {
         if (lowerScoreLimit <= highScore.getHigh() && lowerCoinLimit <= totalCoins.getTotal())
             return;
         else if (lowerScoreLimit > highScore.getHigh() && lowerCoinLimit <= totalCoins.getTotal()) {
-            throw new LockedShipException(languageManager.getTranslation("ship_locked") + "\n" +
-                    languageManager.getTranslation("unlock_highScore").replace("##", String.valueOf(lowerScoreLimit)));
+            throw new LockedShipException(languageManager.getTranslation(TranslationKey.SHIP_LOCKED) + "\n" +
+                    languageManager.getTranslation(TranslationKey.UNLOCK_HIGH_SCORE).replace("##", String.valueOf(lowerScoreLimit)));
         } else if (lowerScoreLimit <= highScore.getHigh() && lowerCoinLimit > totalCoins.getTotal()) {
-            throw new LockedShipException(languageManager.getTranslation("ship_locked") + "\n" +
-                    languageManager.getTranslation("unlock_totalCoins").replace("##", String.valueOf(lowerCoinLimit)));
+            throw new LockedShipException(languageManager.getTranslation(TranslationKey.SHIP_LOCKED) + "\n" +
+                    languageManager.getTranslation(TranslationKey.UNLOCK_TOTAL_COINS).replace("##", String.valueOf(lowerCoinLimit)));
         } else {
-            throw new LockedShipException(languageManager.getTranslation("ship_locked") + "\n"
-                    + languageManager.getTranslation("unlock_highScore").replace("##", String.valueOf(lowerScoreLimit))
+            throw new LockedShipException(languageManager.getTranslation(TranslationKey.SHIP_LOCKED) + "\n"
+                    + languageManager.getTranslation(TranslationKey.UNLOCK_HIGH_SCORE).replace("##", String.valueOf(lowerScoreLimit))
                     + "\n" +
-                    languageManager.getTranslation("unlock_totalCoins").replace("##", String.valueOf(lowerCoinLimit)));
+                    languageManager.getTranslation(TranslationKey.UNLOCK_TOTAL_COINS).replace("##", String.valueOf(lowerCoinLimit)));
         }
 
     }
@@ -0,0 +1,154 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.model.WorldSnapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Summary :
+ * Turns world snapshots into the binary spectator messages. A delta only carries what changed
+ * since the previous snapshot: new and moved entities with their changed fields, removed ids,
+ * and the changed HUD values. Every value is absolute, so applying a delta twice is harmless.
+ * <p>
+ * Message layout, big endian:
+ * u8 kind (0 full, 1 delta), u32 tick, u8 hud mask (1 score, 2 lives, 4 level),
+ * [i32 score] [i8 lives] [u16 level],
+ * full messages only: u8 type count, then per type: u8 type id, u8 name length, name in ASCII,
+ * u16 changed count, then per entity: u32 id, u8 field mask (1 type, 2 x, 4 y), [u8 type] [i16 x] [i16 y],
+ * u16 removed count, then per entity: u32 id.
+ * The viewer knows the types by name from the table of the full message, which every spectator
+ * receives first, so the type ids may change with the EntityType enum.
+ */
+public class SnapshotEncoder {
+    public static final int KIND_FULL = 0;
+    public static final int KIND_DELTA = 1;
+    public static final int HUD_SCORE = 1;
+    public static final int HUD_LIVES = 2;
+    public static final int HUD_LEVEL = 4;
+    public static final int FIELD_TYPE = 1;
+    public static final int FIELD_X = 2;
+    public static final int FIELD_Y = 4;
+
+    private final WorldSnapshot previous = new WorldSnapshot(64);
+    private final Map<Integer, Integer> previousIndex = new HashMap<>();
+    private boolean hasPrevious = false;
+    private long tick = 0;
+
+    /**
+     * Summary :
+     * Encodes the changes since the previous call, the first call sends the full world
+     */
+    public byte[] encodeDelta(WorldSnapshot current) {
+        if (!hasPrevious) {
+            remember(current);
+            return encodeFull();
+        }
+        tick++;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(KIND_DELTA);
+            out.writeInt((int) tick);
+
+            int hudMask = 0;
+            if (current.getScore() != previous.getScore()) hudMask |= HUD_SCORE;
+            if (current.getLives() != previous.getLives()) hudMask |= HUD_LIVES;
+            if (current.getLevel() != previous.getLevel()) hudMask |= HUD_LEVEL;
+            writeHud(out, current, hudMask);
+
+            // Entities first, the count is only known once they are compared
+            ByteArrayOutputStream changedBytes = new ByteArrayOutputStream();
+            DataOutputStream changed = new DataOutputStream(changedBytes);
+            int changedCount = 0;
+            for (int i = 0; i < current.getCount(); i++) {
+                Integer old = previousIndex.remove(current.getId(i));
+                int mask = FIELD_TYPE | FIELD_X | FIELD_Y;
+                if (old != null) {
+                    mask = 0;
+                    if (previous.getType(old) != current.getType(i)) mask |= FIELD_TYPE;
+                    if (previous.getX(old) != current.getX(i)) mask |= FIELD_X;
+                    if (previous.getY(old) != current.getY(i)) mask |= FIELD_Y;
+                }
+                if (mask != 0) {
+                    writeEntity(changed, current, i, mask);
+                    changedCount++;
+                }
+            }
+            out.writeShort(changedCount);
+            changedBytes.writeTo(out);
+
+            // Whatever is left in the index was not seen this tick
+            out.writeShort(previousIndex.size());
+            for (int id : previousIndex.keySet()) {
+                out.writeInt(id);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        remember(current);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Summary :
+     * Encodes the whole last snapshot, sent to spectators who just connected
+     */
+    public byte[] encodeFull() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(KIND_FULL);
+            out.writeInt((int) tick);
+            writeHud(out, previous, HUD_SCORE | HUD_LIVES | HUD_LEVEL);
+            writeTypeTable(out);
+            out.writeShort(previous.getCount());
+            for (int i = 0; i < previous.getCount(); i++) {
+                writeEntity(out, previous, i, FIELD_TYPE | FIELD_X | FIELD_Y);
+            }
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void remember(WorldSnapshot current) {
+        previous.copyFrom(current);
+        previousIndex.clear();
+        for (int i = 0; i < previous.getCount(); i++) {
+            previousIndex.put(previous.getId(i), i);
+        }
+        hasPrevious = true;
+    }
+
+    private static void writeHud(DataOutputStream out, WorldSnapshot snapshot, int mask) throws IOException {
+        out.writeByte(mask);
+        if ((mask & HUD_SCORE) != 0) out.writeInt(snapshot.getScore());
+        if ((mask & HUD_LIVES) != 0) out.writeByte(snapshot.getLives());
+        if ((mask & HUD_LEVEL) != 0) out.writeShort(snapshot.getLevel());
+    }
+
+    private static void writeTypeTable(DataOutputStream out) throws IOException {
+        EntityType[] types = EntityType.values();
+        out.writeByte(types.length);
+        for (EntityType type : types) {
+            byte[] name = type.name().getBytes(StandardCharsets.US_ASCII);
+            out.writeByte(WorldSnapshot.typeId(type));
+            out.writeByte(name.length);
+            out.write(name);
+        }
+    }
+
+    private static void writeEntity(DataOutputStream out, WorldSnapshot snapshot, int index, int mask) throws IOException {
+        out.writeInt(snapshot.getId(index));
+        out.writeByte(mask);
+        if ((mask & FIELD_TYPE) != 0) out.writeByte(snapshot.getType(index));
+        if ((mask & FIELD_X) != 0) out.writeShort(snapshot.getX(index));
+        if ((mask & FIELD_Y) != 0) out.writeShort(snapshot.getY(index));
+    }
+}
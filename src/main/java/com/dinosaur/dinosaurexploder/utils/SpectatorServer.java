@@ -0,0 +1,247 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Summary :
+ * Small local server for spectator screens. The page at / is the bundled viewer, which connects
+ * to the WebSocket at /stream and receives the binary snapshots of the SnapshotEncoder.
+ * Only the server to client direction of WebSocket is implemented, spectators never send anything.
+ * It listens on the loopback address and is only started when the dinosaur.spectatorPort
+ * system property is set, and only the desktop game streams to it.
+ */
+public class SpectatorServer {
+    public static final String PORT_PROPERTY = "dinosaur.spectatorPort";
+    static final String VIEWER_PAGE = "/assets/spectator/viewer.html";
+    static final String STREAM_PATH = "/stream";
+    private static final int REQUEST_TIMEOUT_MILLIS = 2000;
+    private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    private static SpectatorServer instance;
+
+    private final ServerSocket serverSocket;
+    // Clients that still need a full snapshot before they can follow the deltas
+    private final List<Socket> pending = new CopyOnWriteArrayList<>();
+    private final List<Socket> clients = new CopyOnWriteArrayList<>();
+    // Sending happens off the game thread, one task at a time so messages keep their order
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "spectator-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SpectatorServer(int port) throws IOException {
+        this.serverSocket = new ServerSocket(port, 16, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Summary :
+     * Returns the running server when a spectator port is configured, null otherwise
+     */
+    public static synchronized SpectatorServer getConfigured() {
+        Integer port = Integer.getInteger(PORT_PROPERTY);
+        if (instance == null && port != null) {
+            try {
+                instance = new SpectatorServer(port);
+                instance.start();
+            } catch (IOException e) {
+                System.err.println("Could not start the spectator server: " + e.getMessage());
+            }
+        }
+        return instance;
+    }
+
+    public void start() {
+        Thread acceptor = new Thread(this::acceptLoop, "spectator-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            Socket socket = null;
+            try {
+                socket = serverSocket.accept();
+                handle(socket);
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Spectator connection failed: " + e.getMessage());
+                }
+                closeQuietly(socket);
+            }
+        }
+    }
+
+    private void handle(Socket socket) throws IOException {
+        // A client that connects without sending its request must not hold the acceptor
+        socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+        String requestLine = reader.readLine();
+        String key = null;
+        String line;
+        while ((line = reader.readLine()) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("Sec-WebSocket-Key")) {
+                key = line.substring(colon + 1).trim();
+            }
+        }
+
+        String[] request = requestLine == null ? new String[0] : requestLine.split(" ");
+        String path = request.length > 1 ? request[1] : "";
+        OutputStream out = socket.getOutputStream();
+        if (STREAM_PATH.equals(path) && key != null) {
+            out.write(("HTTP/1.1 101 Switching Protocols\r\n"
+                    + "Upgrade: websocket\r\n"
+                    + "Connection: Upgrade\r\n"
+                    + "Sec-WebSocket-Accept: " + acceptKey(key) + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(0);
+            pending.add(socket);
+        } else {
+            serveViewer(out);
+            socket.close();
+        }
+    }
+
+    private void serveViewer(OutputStream out) throws IOException {
+        try (InputStream page = SpectatorServer.class.getResourceAsStream(VIEWER_PAGE)) {
+            if (page == null) {
+                out.write("HTTP/1.1 404 Not Found\r\nContent-Length: 0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                return;
+            }
+            byte[] body = page.readAllBytes();
+            out.write(("HTTP/1.1 200 OK\r\n"
+                    + "Content-Type: text/html; charset=utf-8\r\n"
+                    + "Content-Length: " + body.length + "\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            out.write(body);
+            out.flush();
+        }
+    }
+
+    public boolean hasPendingClients() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Summary :
+     * Sends the full snapshot to the clients that just connected, they then get the deltas like the others
+     */
+    public void welcome(byte[] fullSnapshot) {
+        List<Socket> joining = new ArrayList<>(pending);
+        pending.removeAll(joining);
+        sender.execute(() -> {
+            for (Socket socket : joining) {
+                if (send(socket, fullSnapshot)) {
+                    clients.add(socket);
+                }
+            }
+        });
+    }
+
+    public void broadcast(byte[] message) {
+        if (clients.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> {
+            for (Socket socket : clients) {
+                if (!send(socket, message)) {
+                    clients.remove(socket);
+                }
+            }
+        });
+    }
+
+    private static boolean send(Socket socket, byte[] message) {
+        try {
+            writeFrame(socket.getOutputStream(), message);
+            return true;
+        } catch (IOException e) {
+            closeQuietly(socket);
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        if (socket == null) {
+            return;
+        }
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // Already gone
+        }
+    }
+
+    public int getClientCount() {
+        return clients.size() + pending.size();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public void close() throws IOException {
+        serverSocket.close();
+        sender.shutdown();
+        for (Socket socket : clients) {
+            socket.close();
+        }
+        for (Socket socket : pending) {
+            socket.close();
+        }
+    }
+
+    /**
+     * Summary :
+     * Value of the Sec-WebSocket-Accept header for the key sent by the browser
+     */
+    static String acceptKey(String key) {
+        try {
+            MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+            byte[] digest = sha1.digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.ISO_8859_1));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    }
+
+    /**
+     * Summary :
+     * Writes one unmasked binary WebSocket frame
+     */
+    static void writeFrame(OutputStream out, byte[] payload) throws IOException {
+        out.write(0x82);
+        if (payload.length < 126) {
+            out.write(payload.length);
+        } else if (payload.length <= 0xFFFF) {
+            out.write(126);
+            out.write(payload.length >>> 8);
+            out.write(payload.length);
+        } else {
+            out.write(127);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) ((long) payload.length >>> shift));
+            }
+        }
+        out.write(payload);
+        out.flush();
+    }
+}
@@ -1,5 +1,6 @@
 package com.dinosaur.dinosaurexploder.utils;
 
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
 import com.dinosaur.dinosaurexploder.exception.LockedWeaponException;
 import com.dinosaur.dinosaurexploder.model.HighScore;
 import com.dinosaur.dinosaurexploder.model.TotalCoins;
@@ -10,17 +11,21 @@ import java.io.ObjectInputStream;
 import java.util.Map;
 
 public class WeaponUnlockChecker {
-    LanguageManager languageManager = LanguageManager.getInstance();
+    LanguageManager languageManager;
 
     private static final Map<Integer, Integer> scoreMap = Map.of( // key: weaponNumber, value: lower limit score
             1, 0,
             2, 50,
-            3, 100);
+            3, 100,
+            4, 150,
+            5, 200);
 
     private static final Map<Integer, Integer> coinMap = Map.of( // key: weaponNumber, value: lower limit total coins
             1, 0,
             2, 5,
-            3, 10);
+            3, 10,
+            4, 15,
+            5, 20);
 
     private HighScore highScore = new HighScore();
     private TotalCoins totalCoins = new TotalCoins();
@@ -28,7 +33,12 @@ public class WeaponUnlockChecker {
     private final DataProvider dataProvider;
 
     public WeaponUnlockChecker(DataProvider dataProvider) {
+        this(dataProvider, LanguageManager.getInstance());
+    }
+
+    public WeaponUnlockChecker(DataProvider dataProvider, LanguageManager languageManager) {
         this.dataProvider = dataProvider;
+        this.languageManager = languageManager;
     }
 
     public int check(int weaponNumber) {
@@ -47,16 +57,16 @@ public class WeaponUnlockChecker {
         if (lowerScoreLimit <= highScore.getHigh() && lowerCoinLimit <= totalCoins.getTotal())
             return;
         else if (lowerScoreLimit > highScore.getHigh() && lowerCoinLimit <= totalCoins.getTotal()) {
-            throw new LockedWeaponException(languageManager.getTranslation("weapon_locked") + "\n" +
-                    languageManager.getTranslation("unlock_highScore").replace("##", String.valueOf(lowerScoreLimit)));
+            throw new LockedWeaponException(languageManager.getTranslation(TranslationKey.WEAPON_LOCKED) + "\n" +
+                    languageManager.getTranslation(TranslationKey.UNLOCK_HIGH_SCORE).replace("##", String.valueOf(lowerScoreLimit)));
         } else if (lowerScoreLimit <= highScore.getHigh() && lowerCoinLimit > totalCoins.getTotal()) {
-            throw new LockedWeaponException(languageManager.getTranslation("weapon_locked") + "\n" +
-                    languageManager.getTranslation("unlock_totalCoins").replace("##", String.valueOf(lowerCoinLimit)));
+            throw new LockedWeaponException(languageManager.getTranslation(TranslationKey.WEAPON_LOCKED) + "\n" +
+                    languageManager.getTranslation(TranslationKey.UNLOCK_TOTAL_COINS).replace("##", String.valueOf(lowerCoinLimit)));
         } else {
-            throw new LockedWeaponException(languageManager.getTranslation("weapon_locked") + "\n"
-                    + languageManager.getTranslation("unlock_highScore").replace("##", String.valueOf(lowerScoreLimit))
+            throw new LockedWeaponException(languageManager.getTranslation(TranslationKey.WEAPON_LOCKED) + "\n"
+                    + languageManager.getTranslation(TranslationKey.UNLOCK_HIGH_SCORE).replace("##", String.valueOf(lowerScoreLimit))
                     + "\n" +
-                    languageManager.getTranslation("unlock_totalCoins").replace("##", String.valueOf(lowerCoinLimit)));
+                    languageManager.getTranslation(TranslationKey.UNLOCK_TOTAL_COINS).replace("##", String.valueOf(lowerCoinLimit)));
         }
 
     }
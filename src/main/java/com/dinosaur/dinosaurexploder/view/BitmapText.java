@@ -0,0 +1,89 @@
+package com.dinosaur.dinosaurexploder.view;
+
+import com.dinosaur.dinosaurexploder.model.GlyphAtlas;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * Summary :
+ * Single line of HUD text drawn on a canvas from the regions of a GlyphAtlas.
+ * Changing the text only draws glyph pictures, there is no text layout and no glyph rasterizing,
+ * so a number changing every frame costs the same as one changing once a minute.
+ * The canvas grows with the text and never shrinks, so the HUD around it does not move.
+ */
+public class BitmapText extends Canvas {
+    private final GlyphAtlas atlas;
+    private char[] shown = new char[32];
+    private int shownLength = -1;
+
+    public BitmapText(GlyphAtlas atlas) {
+        super(0, atlas.getLineHeight());
+        this.atlas = atlas;
+    }
+
+    /**
+     * Summary :
+     * Shows the first characters of the array, returns false when they are already shown
+     */
+    public boolean setText(char[] text, int length) {
+        if (isShown(text, length)) {
+            return false;
+        }
+        if (shown.length < length) {
+            shown = new char[Math.max(length, shown.length * 2)];
+        }
+        System.arraycopy(text, 0, shown, 0, length);
+        shownLength = length;
+        draw();
+        return true;
+    }
+
+    public boolean setText(String text) {
+        return setText(text.toCharArray(), text.length());
+    }
+
+    public String getText() {
+        return shownLength < 0 ? "" : new String(shown, 0, shownLength);
+    }
+
+    // Lets an HBox line the canvas up with the Text nodes next to it
+    @Override
+    public double getBaselineOffset() {
+        return atlas.getAscent();
+    }
+
+    private boolean isShown(char[] text, int length) {
+        if (length != shownLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (text[i] != shown[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void draw() {
+        double width = Math.ceil(atlas.measure(shown, shownLength));
+        if (width > getWidth()) {
+            setWidth(width);
+        }
+        GraphicsContext graphics = getGraphicsContext2D();
+        graphics.clearRect(0, 0, getWidth(), getHeight());
+
+        double x = 0;
+        double height = atlas.getLineHeight();
+        for (int i = 0; i < shownLength; i++) {
+            int glyph = atlas.indexOf(shown[i]);
+            if (glyph < 0) {
+                x += atlas.getMissingAdvance();
+                continue;
+            }
+            double glyphWidth = atlas.getWidth(glyph);
+            graphics.drawImage(atlas.getImage(), atlas.getX(glyph), atlas.getY(glyph), glyphWidth, height,
+                    x, 0, glyphWidth, height);
+            x += glyphWidth;
+        }
+    }
+}
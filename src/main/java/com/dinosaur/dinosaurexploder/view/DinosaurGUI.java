@@ -4,6 +4,7 @@ import com.almasb.fxgl.app.GameSettings;
 import com.almasb.fxgl.app.scene.FXGLMenu;
 import com.almasb.fxgl.app.scene.SceneFactory;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.model.GameContext;
 import org.jetbrains.annotations.NotNull;
 
 public class DinosaurGUI {
@@ -11,6 +12,16 @@ public class DinosaurGUI {
     public static final int HEIGHT = 750;
     public static final String ARCADE_CLASSIC_FONT = "arcade_classic.ttf";
 
+    private final GameContext context;
+
+    public DinosaurGUI() {
+        this(GameContext.getDefault());
+    }
+
+    public DinosaurGUI(GameContext context) {
+        this.context = context;
+    }
+
     public void initSettings(GameSettings settings) {
         settings.setWidth(WIDTH);
         settings.setHeight(HEIGHT);
@@ -21,13 +32,13 @@ public class DinosaurGUI {
             @NotNull
             @Override
             public FXGLMenu newMainMenu() {
-                return new DinosaurMenu();
+                return new DinosaurMenu(context);
             }
 
             @NotNull
             @Override
             public FXGLMenu newGameMenu() {
-                return new PauseMenu();
+                return new PauseMenu(context);
             }
 
             
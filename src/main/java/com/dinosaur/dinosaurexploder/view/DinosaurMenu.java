@@ -6,13 +6,15 @@ import com.almasb.fxgl.app.scene.MenuType;
 import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.scene.Scene;
 import com.almasb.fxgl.ui.FontType;
-import com.dinosaur.dinosaurexploder.utils.SettingsProvider;
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import com.dinosaur.dinosaurexploder.utils.SettingsService;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
+import com.dinosaur.dinosaurexploder.utils.LanguageSubscription;
 import com.dinosaur.dinosaurexploder.model.Settings;
-import javafx.animation.Interpolator;
-import javafx.animation.TranslateTransition;
+import javafx.geometry.Orientation;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -28,11 +30,9 @@ import javafx.scene.media.MediaPlayer;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 
-import javafx.util.Duration;
 import java.io.InputStream;
 
 import javafx.scene.layout.HBox;
-import org.jetbrains.annotations.NotNull;
 
 import java.io.FileNotFoundException;
 import java.util.Objects;
@@ -40,26 +40,41 @@ import com.dinosaur.dinosaurexploder.utils.AudioManager;
 
 public class DinosaurMenu extends FXGLMenu {
     private final MediaPlayer mainMenuSound;
-    LanguageManager languageManager = LanguageManager.getInstance();
+    private final GameContext context;
+    private final LanguageManager languageManager;
+    private final AudioManager audioManager;
+    // The menu lives as long as the game, the subscription only has to stay reachable
+    private final LanguageSubscription languageSubscription;
     private final Button startButton = new Button("Start Game");
     private final Button quitButton = new Button("Quit");
     private final Label languageLabel = new Label("Select Language:");
 
-    private final Settings settings = SettingsProvider.loadSettings();
+    private final SettingsService settingsService;
+    private final Settings settings;
 
     public DinosaurMenu() {
+        this(GameContext.getDefault());
+    }
+
+    public DinosaurMenu(GameContext context) {
         super(MenuType.MAIN_MENU);
+        this.context = context;
+        this.languageManager = context.getLanguageManager();
+        this.settingsService = context.getSettingsService();
+        this.settings = settingsService.getSettings();
+        this.audioManager = context.getAudioManager();
         
         mainMenuSound = new MediaPlayer(
             new Media(Objects.requireNonNull(getClass().getResource("/assets/sounds/mainMenu.wav")).toExternalForm())
         );
+        audioManager.registerPlayer(mainMenuSound);
 
         // Listen for language changes and update menu text
-        languageManager.selectedLanguageProperty().addListener((observable, oldValue, newValue) -> updateTexts());
+        languageSubscription = languageManager.onLanguageChange(this::updateTexts);
 
         // Load the main menu sound
-        AudioManager.getInstance().playMusic(GameConstants.MAIN_MENU_SOUND);
-        AudioManager.getInstance().stopMusic();
+        audioManager.playMusic(GameConstants.MAIN_MENU_SOUND);
+        audioManager.stopMusic();
 
         
 
@@ -111,10 +126,8 @@ public class DinosaurMenu extends FXGLMenu {
         // Sets the volume label
         Label volumeLabel = new Label(String.format("%.0f%%", settings.getVolume() * 100));
         volumeSlider.valueProperty().addListener((observable, oldValue, newValue) -> {
-        AudioManager.getInstance().setVolume(newValue.doubleValue()); // <--- THIS LINE IS IMPORTANT
         mainMenuSound.setVolume(newValue.doubleValue());
-        settings.setVolume(newValue.doubleValue());
-        SettingsProvider.saveSettings(settings);
+        settingsService.setVolume(newValue.doubleValue());
         volumeLabel.setText(String.format("%.0f%%", newValue.doubleValue() * 100));
         });
 
@@ -133,23 +146,10 @@ public class DinosaurMenu extends FXGLMenu {
             if (soundButton == null) {
                 throw new FileNotFoundException("Resource not found: assets/textures/playing.png");
             }
-            InputStream backGround = getClass().getClassLoader().getResourceAsStream("assets/textures/background.png");
-            if (backGround == null) {
-                throw new FileNotFoundException("Resource not found: assets/textures/background.png");
-            }
-
-            Image Background = new Image(backGround);
-            ImageView imageViewB = new ImageView(Background);
-            imageViewB.setFitHeight(DinosaurGUI.HEIGHT);
-            imageViewB.setX(0);
-            imageViewB.setY(0);
-            imageViewB.setPreserveRatio(true);
-
-            // Create a TranslateTransition for horizontal scrolling
-            TranslateTransition translateTransition = getTranslateTransition(imageViewB, Background);
-
-            // Start the transition
-            translateTransition.play();
+            // Procedural starfield scrolling horizontally behind the menu
+            StarfieldView starfield = new StarfieldView(getAppWidth(), getAppHeight(), Orientation.HORIZONTAL,
+                    settings.getQuality(), 0.5);
+            addListener(starfield);
 
             // image for dino in main menu
             Image image = new Image(menuImage);
@@ -208,23 +208,21 @@ public class DinosaurMenu extends FXGLMenu {
             BorderPane.setAlignment(quitButton, Pos.BOTTOM_CENTER);
 
             startButton.setOnAction(event -> {
-                FXGL.getSceneService().pushSubScene(new ShipSelectionMenu());
+                FXGL.getSceneService().pushSubScene(new ShipSelectionMenu(context));
                 mainMenuSound.stop();
             });
 
             imageViewPlaying.setOnMouseClicked(mouseEvent -> {
-                boolean newMutedState = !AudioManager.getInstance().isMuted();
-                AudioManager.getInstance().setMuted(newMutedState); // <--- THIS LINE IS IMPORTANT
+                boolean newMutedState = !audioManager.isMuted();
                 mainMenuSound.setMute(newMutedState);
-                settings.setMuted(newMutedState);
+                settingsService.setMuted(newMutedState);
                 imageViewPlaying.setImage(newMutedState ? mute : audioOn);
-                SettingsProvider.saveSettings(settings);
             });
 
             quitButton.setOnAction(event -> fireExit());
 
             getContentRoot().getChildren().addAll(
-                    imageViewB, title, startButton, quitButton, imageView, imageViewPlaying, volumeLabel, volumeSlider, languageBox
+                    starfield, title, startButton, quitButton, imageView, imageViewPlaying, volumeLabel, volumeSlider, languageBox
             );
         }
         catch (FileNotFoundException e){
@@ -232,32 +230,16 @@ public class DinosaurMenu extends FXGLMenu {
         }
     }
 
-    @NotNull
-    private static TranslateTransition getTranslateTransition(ImageView imageViewB, Image Background) {
-        TranslateTransition translateTransition = new TranslateTransition();
-        translateTransition.setNode(imageViewB);
-        translateTransition.setDuration(Duration.seconds(50)); // Set the duration for one cycle
-        translateTransition.setFromX(0);
-        translateTransition.setToX(-Background.getWidth() + DinosaurGUI.WIDTH * 3.8); // Move to the left by the
-        // width of the image
-        translateTransition.setCycleCount(TranslateTransition.INDEFINITE); // Repeat indefinitely
-        translateTransition.setInterpolator(Interpolator.LINEAR); // Smooth linear transition
-        translateTransition.setAutoReverse(true);
-        return translateTransition;
-    }
-
     private void changeLanguage(String selectedLanguage){
         languageManager.setSelectedLanguage(selectedLanguage);
-        languageManager.loadTranslations(selectedLanguage);
 
-        settings.setLanguage(selectedLanguage);
-        SettingsProvider.saveSettings(settings);
+        settingsService.setLanguage(selectedLanguage);
     }
 
     private void updateTexts() {
-        startButton.setText(languageManager.getTranslation("start"));
-        quitButton.setText(languageManager.getTranslation("quit"));
-        languageLabel.setText(languageManager.getTranslation("language_label"));
+        startButton.setText(languageManager.getTranslation(TranslationKey.START));
+        quitButton.setText(languageManager.getTranslation(TranslationKey.QUIT));
+        languageLabel.setText(languageManager.getTranslation(TranslationKey.LANGUAGE_LABEL));
     }
 
     @Override
@@ -265,7 +247,7 @@ public class DinosaurMenu extends FXGLMenu {
         super.onEnteredFrom(prevState);
         FXGL.getAudioPlayer().stopAllSounds();
         mainMenuSound.play();
-        mainMenuSound.setMute(AudioManager.getInstance().isMuted()); // Optional: sync menu music with global mute
-        mainMenuSound.setVolume(AudioManager.getInstance().getVolume()); // Optional: sync menu music with global volume
+        mainMenuSound.setMute(audioManager.isMuted()); // Optional: sync menu music with global mute
+        mainMenuSound.setVolume(audioManager.getVolume()); // Optional: sync menu music with global volume
         }
 }
\ No newline at end of file
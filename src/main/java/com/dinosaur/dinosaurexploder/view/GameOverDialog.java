@@ -1,5 +1,6 @@
 package com.dinosaur.dinosaurexploder.view;
 
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
@@ -19,7 +20,7 @@ public class GameOverDialog {
     }
 
     public void createDialog(){
-        Button btnYes = getUIFactoryService().newButton(languageManager.getTranslation("yes"));
+        Button btnYes = getUIFactoryService().newButton(languageManager.getTranslation(TranslationKey.YES));
         btnYes.setPrefWidth(200);
         btnYes.defaultButtonProperty();
         // action event for the yes Button
@@ -28,7 +29,7 @@ public class GameOverDialog {
         // when button is pressed
         btnYes.setOnAction(startNewGameEvent);
 
-        Button btnNo = getUIFactoryService().newButton(languageManager.getTranslation("no"));
+        Button btnNo = getUIFactoryService().newButton(languageManager.getTranslation(TranslationKey.NO));
         btnNo.setPrefWidth(200);
 
         // action event for the no Button
@@ -37,7 +38,7 @@ public class GameOverDialog {
         // when button is pressed
         btnNo.setOnAction(backToMenuEvent);
 
-        getDialogService().showBox(languageManager.getTranslation("new_game"), new VBox(), btnYes, btnNo);
+        getDialogService().showBox(languageManager.getTranslation(TranslationKey.NEW_GAME), new VBox(), btnYes, btnNo);
     }
 
 }
@@ -4,7 +4,10 @@ import com.almasb.fxgl.app.scene.FXGLMenu;
 import com.almasb.fxgl.app.scene.MenuType;
 import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.ui.FontType;
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.model.GameContext;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
+import com.dinosaur.dinosaurexploder.utils.LanguageSubscription;
 import javafx.beans.binding.Bindings;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
@@ -22,34 +25,42 @@ import static com.almasb.fxgl.dsl.FXGLForKtKt.getUIFactoryService;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 
 public class PauseMenu extends FXGLMenu {
-    LanguageManager languageManager = LanguageManager.getInstance();
-    PauseButton btnBack = new PauseButton(languageManager.getTranslation("back"), this::fireResume);
-    PauseButton btnQuitGame = new PauseButton(languageManager.getTranslation("quit"), this::exit);
-    ControlButton btnControls = new ControlButton(languageManager.getTranslation("controls"));
+    private final GameContext context;
+    private final LanguageManager languageManager;
+    private final LanguageSubscription languageSubscription;
+    PauseButton btnBack = new PauseButton("", this::fireResume);
+    PauseButton btnQuitGame = new PauseButton("", this::exit);
+    ControlButton btnControls = new ControlButton("");
 
     // Store OptionButtons as fields so they can be updated
-    OptionsButton btnMoveUp = new OptionsButton("↑ / W : " + languageManager.getTranslation("move_up"));
-    OptionsButton btnMoveDown = new OptionsButton("↓ / S : " + languageManager.getTranslation("move_down"));
-    OptionsButton btnMoveRight = new OptionsButton("→ / D : " + languageManager.getTranslation("move_right"));
-    OptionsButton btnMoveLeft = new OptionsButton("← / A : " + languageManager.getTranslation("move_left"));
-    OptionsButton btnPauseGame = new OptionsButton(languageManager.getTranslation("pause_game"));
-    OptionsButton btnShoot = new OptionsButton(languageManager.getTranslation("shoot"));
-    OptionsButton btnBomb = new OptionsButton("B: " + languageManager.getTranslation("bomb"));
+    OptionsButton btnMoveUp = new OptionsButton("");
+    OptionsButton btnMoveDown = new OptionsButton("");
+    OptionsButton btnMoveRight = new OptionsButton("");
+    OptionsButton btnMoveLeft = new OptionsButton("");
+    OptionsButton btnPauseGame = new OptionsButton("");
+    OptionsButton btnShoot = new OptionsButton("");
+    OptionsButton btnBomb = new OptionsButton("");
 
     public PauseMenu() {
+        this(GameContext.getDefault());
+    }
+
+    public PauseMenu(GameContext context) {
         super(MenuType.GAME_MENU);
+        this.context = context;
+        this.languageManager = context.getLanguageManager();
 
         updateTexts();
 
         // Listen for language changes and update UI automatically
-        languageManager.selectedLanguageProperty().addListener((observable, oldValue, newValue) -> updateTexts());
+        languageSubscription = languageManager.onLanguageChange(this::updateTexts);
 
         btnControls.setControlAction(() -> {
             var bg = new Rectangle(getAppWidth(), getAppHeight(), Color.color(0, 0, 0, 0.5));
             var controlsBox = new VBox(15);
 
             controlsBox.getChildren().addAll(
-                    new PauseButton(languageManager.getTranslation("back"), () -> {
+                    new PauseButton(languageManager.getTranslation(TranslationKey.BACK), () -> {
                         controlsBox.getChildren().removeAll(controlsBox.getChildren());
                         removeChild(bg);
                         btnBack.enable();
@@ -99,6 +110,16 @@ public class PauseMenu extends FXGLMenu {
                 bg, title, version, box);
     }
 
+    @Override
+    public void onCreate() {
+        context.setPaused(true);
+    }
+
+    @Override
+    public void onDestroy() {
+        context.setPaused(false);
+    }
+
     private static class OptionsButton extends StackPane {
 
         private final String description;
@@ -235,20 +256,20 @@ public class PauseMenu extends FXGLMenu {
         }
     }
     private void updateTexts() {
-        btnBack.setText(languageManager.getTranslation("back"));
-        btnQuitGame.setText(languageManager.getTranslation("quit"));
-        btnControls.setText(languageManager.getTranslation("controls"));
-        btnMoveUp.setText("↑ / W : " + languageManager.getTranslation("move_up"));
-        btnMoveDown.setText("↓ / S : " + languageManager.getTranslation("move_down"));
-        btnMoveRight.setText("→ / D : " + languageManager.getTranslation("move_right"));
-        btnMoveLeft.setText("← / A : " + languageManager.getTranslation("move_left"));
-        btnPauseGame.setText(languageManager.getTranslation("pause_game"));
-        btnShoot.setText(languageManager.getTranslation("shoot"));
-        btnBomb.setText("B: " + languageManager.getTranslation("bomb"));
+        btnBack.setText(languageManager.getTranslation(TranslationKey.BACK));
+        btnQuitGame.setText(languageManager.getTranslation(TranslationKey.QUIT));
+        btnControls.setText(languageManager.getTranslation(TranslationKey.CONTROLS));
+        btnMoveUp.setText("↑ / W : " + languageManager.getTranslation(TranslationKey.MOVE_UP));
+        btnMoveDown.setText("↓ / S : " + languageManager.getTranslation(TranslationKey.MOVE_DOWN));
+        btnMoveRight.setText("→ / D : " + languageManager.getTranslation(TranslationKey.MOVE_RIGHT));
+        btnMoveLeft.setText("← / A : " + languageManager.getTranslation(TranslationKey.MOVE_LEFT));
+        btnPauseGame.setText(languageManager.getTranslation(TranslationKey.PAUSE_GAME));
+        btnShoot.setText(languageManager.getTranslation(TranslationKey.SHOOT));
+        btnBomb.setText("B: " + languageManager.getTranslation(TranslationKey.BOMB));
     }
 
     public void exit() {
-        Button btnYes = getUIFactoryService().newButton(languageManager.getTranslation("yes"));
+        Button btnYes = getUIFactoryService().newButton(languageManager.getTranslation(TranslationKey.YES));
         btnYes.setPrefWidth(200);
         btnYes.defaultButtonProperty();
         // action event for the yes Button
@@ -257,7 +278,7 @@ public class PauseMenu extends FXGLMenu {
         // when button is pressed
         btnYes.setOnAction(backToHomeEvent);
 
-        Button btnNo = getUIFactoryService().newButton(languageManager.getTranslation("no"));
+        Button btnNo = getUIFactoryService().newButton(languageManager.getTranslation(TranslationKey.NO));
         btnNo.setPrefWidth(200);
 
         // action event for the no Button
@@ -266,6 +287,6 @@ public class PauseMenu extends FXGLMenu {
         // when button is pressed
         btnNo.setOnAction(resumeEvent);
 
-        getDialogService().showBox(languageManager.getTranslation("quit_game"), new VBox(), btnYes, btnNo);
+        getDialogService().showBox(languageManager.getTranslation(TranslationKey.QUIT_GAME), new VBox(), btnYes, btnNo);
     }
 }
\ No newline at end of file
@@ -4,14 +4,14 @@ import com.almasb.fxgl.app.scene.FXGLMenu;
 import com.almasb.fxgl.app.scene.MenuType;
 import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.ui.FontType;
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.utils.AssetRegistry;
 import com.dinosaur.dinosaurexploder.exception.LockedShipException;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
 import com.dinosaur.dinosaurexploder.model.Settings;
-import com.dinosaur.dinosaurexploder.model.GameData;
-import com.dinosaur.dinosaurexploder.utils.SettingsProvider;
-import javafx.animation.Interpolator;
-import javafx.animation.TranslateTransition;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import javafx.geometry.Orientation;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.effect.ColorAdjust;
@@ -26,9 +26,7 @@ import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
-import javafx.util.Duration;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
-import java.io.InputStream;
 import java.util.Objects;
 
 import static com.almasb.fxgl.dsl.FXGLForKtKt.getDialogService;
@@ -36,50 +34,45 @@ import static com.almasb.fxgl.dsl.FXGLForKtKt.getUIFactoryService;
 
 public class ShipSelectionMenu extends FXGLMenu {
   
-    private final LanguageManager languageManager = LanguageManager.getInstance();
-    private final Settings settings = SettingsProvider.loadSettings();
+    private final GameContext context;
+    private final LanguageManager languageManager;
+    private final AudioManager audioManager;
+    private final Settings settings;
 
     public ShipSelectionMenu() {
+        this(GameContext.getDefault());
+    }
+
+    public ShipSelectionMenu(GameContext context) {
         super(MenuType.MAIN_MENU);
+        this.context = context;
+        this.settings = context.getSettingsService().getSettings();
+        this.languageManager = context.getLanguageManager();
+        this.audioManager = context.getAudioManager();
 
 
         // Background music
-        AudioManager.getInstance().playMusic(GameConstants.MAIN_MENU_SOUND);
+        audioManager.playMusic(GameConstants.MAIN_MENU_SOUND);
         
 
-        // background image
-        InputStream backGround = getClass().getClassLoader().getResourceAsStream("assets/textures/background.png");
-        Image Background = new Image(backGround);
-        ImageView imageViewB = new ImageView(Background);
-        imageViewB.setFitHeight(DinosaurGUI.HEIGHT);
-        imageViewB.setX(0);
-        imageViewB.setY(0);
-        imageViewB.setPreserveRatio(true);
-
-        // Background animation
-        TranslateTransition translateTransition = new TranslateTransition();
-        translateTransition.setNode(imageViewB);
-        translateTransition.setDuration(Duration.seconds(50));
-        translateTransition.setFromX(0);
-        translateTransition.setToX(-Background.getWidth() + DinosaurGUI.WIDTH * 3.8);
-        translateTransition.setCycleCount(TranslateTransition.INDEFINITE);
-        translateTransition.setInterpolator(Interpolator.LINEAR);
-        translateTransition.setAutoReverse(true);
-        translateTransition.play();
+        // background starfield
+        StarfieldView starfield = new StarfieldView(getAppWidth(), getAppHeight(), Orientation.HORIZONTAL,
+                settings.getQuality(), 0.5);
+        addListener(starfield);
 
         // Title
-        var title = FXGL.getUIFactoryService().newText(languageManager.getTranslation("select_ship"), Color.LIME,
+        var title = FXGL.getUIFactoryService().newText(languageManager.getTranslation(TranslationKey.SELECT_SHIP), Color.LIME,
                 FontType.MONO, 35);
 
         // High Score display
         var highScore = FXGL.getUIFactoryService().newText(
-                languageManager.getTranslation("high_score") + ": " + GameData.getHighScore(),
+                languageManager.getTranslation(TranslationKey.HIGH_SCORE) + ": " + context.getDataProvider().getHighScore().getHigh(),
                 Color.LIME,
                 FontType.MONO, 25);
 
         // Total Coin display
         var totalCoins = FXGL.getUIFactoryService().newText(
-                languageManager.getTranslation("total_coins") + ": " + GameData.getTotalCoins(),
+                languageManager.getTranslation(TranslationKey.TOTAL_COINS) + ": " + context.getDataProvider().getTotalCoins().getTotal(),
                 Color.LIME,
                 FontType.MONO, 25);
 
@@ -97,13 +90,13 @@ public class ShipSelectionMenu extends FXGLMenu {
         showSelectionButton(imageSize, columns, shipGrid);
 
         // Back button
-        var backButton = new Button(languageManager.getTranslation("back"));
+        var backButton = new Button(languageManager.getTranslation(TranslationKey.BACK));
         backButton.getStylesheets()
                 .add(Objects.requireNonNull(getClass().getResource("/styles/styles.css")).toExternalForm());
         backButton.setMinSize(140, 60);
         backButton.setStyle("-fx-font-size: 20px;");
         backButton.setOnAction(event -> {
-            AudioManager.getInstance().stopMusic();
+            audioManager.stopMusic();
             fireResume();
         });
 
@@ -126,24 +119,22 @@ public class ShipSelectionMenu extends FXGLMenu {
         layout.setMaxWidth(getAppWidth());
         layout.setMaxHeight(getAppHeight());
 
-        getContentRoot().getChildren().add(imageViewB);
+        getContentRoot().getChildren().add(starfield);
         getContentRoot().getChildren().add(layout);
     }
 
     private void showSelectionButton(double imageSize, int columns, GridPane shipGrid) {
         // button for each ship
         for (int i = 1; i <= 8; i++) {
-            Image shipImage = new Image(
-                    Objects.requireNonNull(getClass().getResourceAsStream("/assets/textures/spaceship" + i + ".png")));
-            boolean isLocked = !GameData.checkUnlockedShip(i);
+            Image shipImage = AssetRegistry.getInstance().getImage("assets/textures/spaceship" + i + ".png");
+            boolean isLocked = !context.checkUnlockedShip(i);
 
             ImageView shipView = new ImageView(shipImage);
             shipView.setFitHeight(imageSize);
             shipView.setFitWidth(imageSize);
             applyDarkFilterIfLocked(isLocked, shipView);
 
-            ImageView lockIcon = new ImageView(
-                    new Image(Objects.requireNonNull(getClass().getResourceAsStream("/assets/textures/lock.png"))));
+            ImageView lockIcon = new ImageView(AssetRegistry.getInstance().getImage(GameConstants.LOCK_IMAGE_PATH));
             setLockProperties(lockIcon, isLocked);
 
             Button shipButton = new Button();
@@ -154,7 +145,7 @@ public class ShipSelectionMenu extends FXGLMenu {
                 try {
                     selectShip(finalI);
                 } catch (LockedShipException exception) {
-                    Button btn = getUIFactoryService().newButton(languageManager.getTranslation("ok"));
+                    Button btn = getUIFactoryService().newButton(languageManager.getTranslation(TranslationKey.OK));
                     btn.setOnAction(event1 -> showSelectionButton(imageSize, columns, shipGrid));
                     getDialogService().showBox(languageManager.getTranslation(exception.getMessage()), new VBox(), btn);
                 }
@@ -201,11 +192,11 @@ public class ShipSelectionMenu extends FXGLMenu {
     }
 
     private void selectShip(int shipNumber) {
-        // Save the selected ship in GameData
-        GameData.setSelectedShip(shipNumber);
+        // Save the selected ship in the session
+        context.setSelectedShip(shipNumber);
         // Selected spaceship in console
         System.out.println("Selected Spaceship: " + shipNumber);
-        FXGL.getSceneService().pushSubScene(new WeaponSelectionMenu());
+        FXGL.getSceneService().pushSubScene(new WeaponSelectionMenu(context));
       
     }
 }
@@ -0,0 +1,261 @@
+package com.dinosaur.dinosaurexploder.view;
+
+import com.almasb.fxgl.core.View;
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.Random;
+
+/**
+ * Summary :
+ * Procedurally generated parallax starfield used as the game and menu background.
+ * It is made of two small seamless nebula tiles and three layers of point stars whose
+ * positions are kept in primitive arrays, so it costs a fraction of the memory of a full bitmap.
+ * The number of stars scales with the selected QualityLevel.
+ */
+public class StarfieldView extends Canvas implements View {
+    private static final int TILE_SIZE = 128;
+    private static final int STARS_PER_LAYER = 140;
+    private static final long SEED = 1500;
+
+    // Far layers are dim, small and slow, near layers are bright, big and fast
+    private static final double[] LAYER_SPEEDS = {10, 24, 48};
+    private static final double[] LAYER_SIZES = {1.0, 1.5, 2.2};
+    private static final Color[] LAYER_COLORS = {
+            Color.rgb(150, 160, 200),
+            Color.rgb(200, 205, 230),
+            Color.WHITE
+    };
+    private static final double NEBULA_SPEED = 6;
+    private static final double NEBULA_OPACITY = 0.55;
+    // Cells after which the nebula pattern repeats, the skip pattern repeats every 4 and the tiles every 3
+    private static final int NEBULA_PATTERN_PERIOD = 12;
+
+    // Shared by every starfield, the tiles never change once generated
+    private static Image[] nebulaTiles;
+
+    private final Orientation orientation;
+    private final double speedFactor;
+
+    private float[] starX = new float[0];
+    private float[] starY = new float[0];
+    private int[] layerEnd = new int[LAYER_SPEEDS.length];
+    private final double[] layerOffset = new double[LAYER_SPEEDS.length];
+    private double nebulaOffset = 0;
+    // Whole tiles scrolled so far, modulo the pattern period, so the cells keep their tile when the offset wraps
+    private int nebulaScroll = 0;
+    private QualityLevel quality;
+    private boolean scrolling = true;
+    private int renderStride = 1;
+    private int framesSinceDraw = 0;
+
+    public StarfieldView(double width, double height, Orientation orientation, QualityLevel quality) {
+        this(width, height, orientation, quality, 1.0);
+    }
+
+    public StarfieldView(double width, double height, Orientation orientation, QualityLevel quality, double speedFactor) {
+        super(width, height);
+        this.orientation = orientation;
+        this.speedFactor = speedFactor;
+        setQuality(quality);
+        draw();
+    }
+
+    /**
+     * Summary :
+     * Regenerates the star layers for the given quality, more stars for a higher quality
+     */
+    public void setQuality(QualityLevel quality) {
+        if (quality == this.quality) {
+            return;
+        }
+        this.quality = quality;
+
+        int perLayer = (int) Math.round(STARS_PER_LAYER * quality.getDensity());
+        int total = perLayer * LAYER_SPEEDS.length;
+        starX = new float[total];
+        starY = new float[total];
+
+        // Same seed for every quality, so lowering the quality only removes stars
+        Random random = new Random(SEED);
+        for (int layer = 0; layer < LAYER_SPEEDS.length; layer++) {
+            int start = layer * perLayer;
+            for (int i = start; i < start + perLayer; i++) {
+                starX[i] = (float) (random.nextDouble() * getWidth());
+                starY[i] = (float) (random.nextDouble() * getHeight());
+            }
+            layerEnd[layer] = start + perLayer;
+        }
+    }
+
+    public QualityLevel getQuality() {
+        return quality;
+    }
+
+    /**
+     * Summary :
+     * Freezes or resumes the parallax scrolling, the stars stay drawn either way
+     */
+    public void setScrolling(boolean scrolling) {
+        this.scrolling = scrolling;
+    }
+
+    public boolean isScrolling() {
+        return scrolling;
+    }
+
+    /**
+     * Summary :
+     * Redraws only once every renderStride frames, the layers still move at the same speed
+     */
+    public void setRenderStride(int renderStride) {
+        this.renderStride = Math.max(1, renderStride);
+    }
+
+    public int getRenderStride() {
+        return renderStride;
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        if (!scrolling) {
+            return;
+        }
+        double extent = orientation == Orientation.VERTICAL ? getHeight() : getWidth();
+        for (int layer = 0; layer < LAYER_SPEEDS.length; layer++) {
+            layerOffset[layer] = (layerOffset[layer] + LAYER_SPEEDS[layer] * speedFactor * tpf) % extent;
+        }
+        nebulaOffset += NEBULA_SPEED * speedFactor * tpf;
+        int wraps = (int) (nebulaOffset / TILE_SIZE);
+        nebulaOffset -= wraps * TILE_SIZE;
+        nebulaScroll = (nebulaScroll + wraps) % NEBULA_PATTERN_PERIOD;
+        if (++framesSinceDraw >= renderStride) {
+            framesSinceDraw = 0;
+            draw();
+        }
+    }
+
+    private void draw() {
+        GraphicsContext g = getGraphicsContext2D();
+        double width = getWidth();
+        double height = getHeight();
+
+        g.setGlobalAlpha(1.0);
+        g.setFill(Color.BLACK);
+        g.fillRect(0, 0, width, height);
+
+        drawNebula(g, width, height);
+        drawStars(g, width, height);
+    }
+
+    private void drawNebula(GraphicsContext g, double width, double height) {
+        Image[] tiles = getNebulaTiles();
+        g.setGlobalAlpha(NEBULA_OPACITY);
+
+        double shift = nebulaOffset - TILE_SIZE;
+        int column = 0;
+        for (double x = 0; x < width + TILE_SIZE; x += TILE_SIZE, column++) {
+            int row = 0;
+            for (double y = 0; y < height + TILE_SIZE; y += TILE_SIZE, row++) {
+                // Cell of the scrolling pattern, the screen moves over it one tile at every wrap
+                int patternColumn = orientation == Orientation.VERTICAL ? column : column + nebulaScroll;
+                int patternRow = orientation == Orientation.VERTICAL ? row - nebulaScroll : row;
+                // Only every other cell gets a tile, that keeps the repetition hard to spot
+                if (Math.floorMod(patternColumn * 3 + patternRow, 4) != 0) {
+                    continue;
+                }
+                Image tile = tiles[Math.floorMod(patternColumn + patternRow, tiles.length)];
+                if (orientation == Orientation.VERTICAL) {
+                    g.drawImage(tile, x, y + shift);
+                } else {
+                    g.drawImage(tile, x - shift - TILE_SIZE, y);
+                }
+            }
+        }
+        g.setGlobalAlpha(1.0);
+    }
+
+    private void drawStars(GraphicsContext g, double width, double height) {
+        int start = 0;
+        for (int layer = 0; layer < LAYER_SPEEDS.length; layer++) {
+            double size = LAYER_SIZES[layer];
+            double offset = layerOffset[layer];
+            g.setFill(LAYER_COLORS[layer]);
+
+            for (int i = start; i < layerEnd[layer]; i++) {
+                double x = starX[i];
+                double y = starY[i];
+                if (orientation == Orientation.VERTICAL) {
+                    y = (y + offset) % height;
+                } else {
+                    x = (x - offset + width) % width;
+                }
+                g.fillRect(x, y, size, size);
+            }
+            start = layerEnd[layer];
+        }
+    }
+
+    private static synchronized Image[] getNebulaTiles() {
+        if (nebulaTiles == null) {
+            nebulaTiles = new Image[]{
+                    createNebulaTile(new Random(SEED + 1), Color.rgb(90, 60, 170)),
+                    createNebulaTile(new Random(SEED + 2), Color.rgb(40, 110, 150)),
+                    createNebulaTile(new Random(SEED + 3), Color.rgb(170, 110, 30))
+            };
+        }
+        return nebulaTiles;
+    }
+
+    /**
+     * Summary :
+     * Builds a seamless haze tile. Only whole periods of sine waves are used so the
+     * borders of the tile match and it can be repeated without visible seams.
+     */
+    private static Image createNebulaTile(Random random, Color tint) {
+        WritableImage tile = new WritableImage(TILE_SIZE, TILE_SIZE);
+        PixelWriter writer = tile.getPixelWriter();
+
+        int waves = 4;
+        int[] fx = new int[waves];
+        int[] fy = new int[waves];
+        double[] phase = new double[waves];
+        for (int i = 0; i < waves; i++) {
+            fx[i] = 1 + random.nextInt(3);
+            fy[i] = 1 + random.nextInt(3);
+            phase[i] = random.nextDouble() * Math.PI * 2;
+        }
+
+        for (int y = 0; y < TILE_SIZE; y++) {
+            for (int x = 0; x < TILE_SIZE; x++) {
+                double u = (double) x / TILE_SIZE * Math.PI * 2;
+                double v = (double) y / TILE_SIZE * Math.PI * 2;
+                double noise = 0;
+                for (int i = 0; i < waves; i++) {
+                    noise += Math.sin(fx[i] * u + fy[i] * v + phase[i]);
+                }
+                // noise is in [-waves, waves], keep only the denser half as haze
+                double density = Math.max(0, noise / waves);
+                writer.setColor(x, y, Color.color(tint.getRed(), tint.getGreen(), tint.getBlue(), density * 0.6));
+            }
+        }
+        return tile;
+    }
+
+    @Override
+    public Node getNode() {
+        return this;
+    }
+
+    @Override
+    public void dispose() {
+        // Nothing to release, the tiles are shared by every starfield
+    }
+}
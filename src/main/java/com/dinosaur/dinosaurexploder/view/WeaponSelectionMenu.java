@@ -4,14 +4,14 @@ import com.almasb.fxgl.app.scene.FXGLMenu;
 import com.almasb.fxgl.app.scene.MenuType;
 import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.ui.FontType;
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.utils.AssetRegistry;
 import com.dinosaur.dinosaurexploder.exception.LockedWeaponException;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
 import com.dinosaur.dinosaurexploder.model.Settings;
-import com.dinosaur.dinosaurexploder.model.GameData;
-import com.dinosaur.dinosaurexploder.utils.SettingsProvider;
-import javafx.animation.Interpolator;
-import javafx.animation.TranslateTransition;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import javafx.geometry.Orientation;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.effect.ColorAdjust;
@@ -26,9 +26,7 @@ import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
-import javafx.util.Duration;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
-import java.io.InputStream;
 import java.util.Objects;
 
 import static com.almasb.fxgl.dsl.FXGLForKtKt.getDialogService;
@@ -36,38 +34,33 @@ import static com.almasb.fxgl.dsl.FXGLForKtKt.getUIFactoryService;
 
 public class WeaponSelectionMenu extends FXGLMenu {
     
-    LanguageManager languageManager = LanguageManager.getInstance();
-    private final Settings settings = SettingsProvider.loadSettings();
+    private final GameContext context;
+    private final LanguageManager languageManager;
+    private final AudioManager audioManager;
+    private final Settings settings;
 
     public WeaponSelectionMenu() {
+        this(GameContext.getDefault());
+    }
+
+    public WeaponSelectionMenu(GameContext context) {
         super(MenuType.MAIN_MENU);
+        this.context = context;
+        this.settings = context.getSettingsService().getSettings();
+        this.languageManager = context.getLanguageManager();
+        this.audioManager = context.getAudioManager();
 
         // Background music
-        AudioManager.getInstance().playMusic(GameConstants.MAIN_MENU_SOUND);
+        audioManager.playMusic(GameConstants.MAIN_MENU_SOUND);
         
 
-        // background image
-        InputStream backGround = getClass().getClassLoader().getResourceAsStream("assets/textures/background.png");
-        Image Background = new Image(backGround);
-        ImageView imageViewB = new ImageView(Background);
-        imageViewB.setFitHeight(DinosaurGUI.HEIGHT);
-        imageViewB.setX(0);
-        imageViewB.setY(0);
-        imageViewB.setPreserveRatio(true);
-
-        // Background animation
-        TranslateTransition translateTransition = new TranslateTransition();
-        translateTransition.setNode(imageViewB);
-        translateTransition.setDuration(Duration.seconds(50)); // Duración del ciclo
-        translateTransition.setFromX(0);
-        translateTransition.setToX(-Background.getWidth() + DinosaurGUI.WIDTH * 3.8);
-        translateTransition.setCycleCount(TranslateTransition.INDEFINITE);
-        translateTransition.setInterpolator(Interpolator.LINEAR);
-        translateTransition.setAutoReverse(true);
-        translateTransition.play();
+        // background starfield
+        StarfieldView starfield = new StarfieldView(getAppWidth(), getAppHeight(), Orientation.HORIZONTAL,
+                settings.getQuality(), 0.5);
+        addListener(starfield);
 
         // Title
-        var title = FXGL.getUIFactoryService().newText(languageManager.getTranslation("select_weapon"), Color.LIME,
+        var title = FXGL.getUIFactoryService().newText(languageManager.getTranslation(TranslationKey.SELECT_WEAPON), Color.LIME,
                 FontType.MONO, 35);
 
         // GridPane for weapons
@@ -84,13 +77,13 @@ public class WeaponSelectionMenu extends FXGLMenu {
         showSelectionButton(imageSize, columns, weaponGrid);
 
         // Back button
-        var backButton = new Button(languageManager.getTranslation("back"));
+        var backButton = new Button(languageManager.getTranslation(TranslationKey.BACK));
         backButton.getStylesheets()
                 .add(Objects.requireNonNull(getClass().getResource("/styles/styles.css")).toExternalForm());
         backButton.setMinSize(140, 60);
         backButton.setStyle("-fx-font-size: 20px;");
         backButton.setOnAction(event -> {
-            AudioManager.getInstance().stopMusic();
+            audioManager.stopMusic();
             fireResume();
         });
 
@@ -113,26 +106,29 @@ public class WeaponSelectionMenu extends FXGLMenu {
         layout.setMaxWidth(getAppWidth());
         layout.setMaxHeight(getAppHeight());
 
-        getContentRoot().getChildren().add(imageViewB);
+        getContentRoot().getChildren().add(starfield);
         getContentRoot().getChildren().add(layout);
     }
 
     private void showSelectionButton(double imageSize, int columns, GridPane weaponGrid) {
-        int selectedShip = GameData.getSelectedShip();
+        int selectedShip = context.getSelectedShip();
         // button for each weapon
-        for (int i = 1; i <= 3; i++) {
-            Image weaponImage = new Image(
-                    Objects.requireNonNull(getClass().getResourceAsStream(
-                            "/assets/textures/projectiles/projectile" + selectedShip + "_" + i + ".png")));
-            boolean isLocked = !GameData.checkUnlockedWeapon(i);
+        for (int i = 1; i <= GameConstants.WEAPON_COUNT; i++) {
+            Image weaponImage = AssetRegistry.getInstance().getImage(AssetRegistry.getProjectileImagePath(selectedShip, i));
+            boolean isLocked = !context.checkUnlockedWeapon(i);
 
             ImageView weaponView = new ImageView(weaponImage);
             weaponView.setRotate(-90);
             weaponView.setFitHeight(imageSize);
             weaponView.setFitWidth(imageSize);
+            if (i == GameConstants.HOMING_WEAPON) {
+                weaponView.setEffect(new ColorAdjust(GameConstants.HOMING_PROJECTILE_HUE, 0, 0, 0));
+            } else if (i == GameConstants.LASER_WEAPON) {
+                weaponView.setEffect(new ColorAdjust(GameConstants.LASER_HUE, 0, 0, 0));
+            }
             applyDarkFilterIfLocked(isLocked, weaponView);
 
-            ImageView lockIcon = new ImageView(new Image(getClass().getResourceAsStream("/assets/textures/lock.png")));
+            ImageView lockIcon = new ImageView(AssetRegistry.getInstance().getImage(GameConstants.LOCK_IMAGE_PATH));
             setLockProperties(lockIcon, isLocked);
 
             Button weaponButton = new Button();
@@ -143,7 +139,7 @@ public class WeaponSelectionMenu extends FXGLMenu {
                 try {
                     selectWeapon(finalI);
                 } catch (LockedWeaponException exception) {
-                    Button btn = getUIFactoryService().newButton(languageManager.getTranslation("ok"));
+                    Button btn = getUIFactoryService().newButton(languageManager.getTranslation(TranslationKey.OK));
                     btn.setOnAction(event1 -> showSelectionButton(imageSize, columns, weaponGrid));
                     getDialogService().showBox(languageManager.getTranslation(exception.getMessage()), new VBox(), btn);
                 }
@@ -190,11 +186,11 @@ public class WeaponSelectionMenu extends FXGLMenu {
     }
 
     private void selectWeapon(int weaponNumber) {
-        // Save the selected wapon in GameData
-        GameData.setSelectedWeapon(weaponNumber);
+        // Save the selected wapon in the session
+        context.setSelectedWeapon(weaponNumber);
         // Selected weapon in console
         System.out.println("Selected Weapon: " + weaponNumber);
         fireNewGame();
-        AudioManager.getInstance().stopMusic();
+        audioManager.stopMusic();
     }
 }
@@ -1,15 +1,41 @@
 package com.dinosaur.dinosaurexploder.components;
 
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import com.almasb.fxgl.entity.Entity;
-
+import com.dinosaur.dinosaurexploder.model.SpatialGrid;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import static org.mockito.Mockito.*;
-import java.lang.reflect.Field;
 
-import com.almasb.fxgl.entity.component.Component;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class CoinComponentTest {
 
+    private static CoinComponent createCoin(SpatialGrid<Entity> coins, double x, double y, int value) {
+        Entity coin = new Entity();
+        coin.setPosition(x, y);
+        CoinComponent component = new CoinComponent(coins, value);
+        coin.addComponent(component);
+        coins.add(coin, x, y);
+        return component;
+    }
+
+    @Test
+    @DisplayName("Overlapping coins merge into one worth both, coins apart stay apart")
+    void onUpdate_mergesOverlappingCoins() {
+        // Arrange
+        SpatialGrid<Entity> coins = new SpatialGrid<>(550, 750, 80);
+        CoinComponent first = createCoin(coins, 200, 300, 5);
+        CoinComponent second = createCoin(coins, 210, 305, 1);
+        CoinComponent apart = createCoin(coins, 400, 300, 25);
+
+        // Act
+        first.onUpdate(0);
+        second.onUpdate(0);
+        apart.onUpdate(0);
+
+        // Assert
+        assertEquals(6, first.getValue());
+        assertEquals(0, second.getValue());
+        assertEquals(25, apart.getValue());
+        assertEquals(31, first.getValue() + second.getValue() + apart.getValue());
+    }
 }
@@ -0,0 +1,118 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExplosionPoolComponentTest {
+
+    // ---------- Testable subclass (no textures, no JavaFX) ----------
+
+    static class TestableExplosionPool extends ExplosionPoolComponent {
+        int playCalls = 0;
+        int lastSlot = -1;
+
+        TestableExplosionPool(int poolSize) {
+            super(poolSize);
+        }
+
+        @Override
+        protected void playSlot(int slot, double x, double y) {
+            playCalls++;
+            lastSlot = slot;
+        }
+    }
+
+    TestableExplosionPool pool;
+
+    @BeforeEach
+    void setup() {
+        pool = new TestableExplosionPool(3);
+    }
+
+    @Test
+    @DisplayName("spawnExplosion: plays while slots are free")
+    void spawnExplosion_playsWhileSlotsAreFree() {
+        // Act
+        assertTrue(pool.spawnExplosion(0, 0));
+        assertTrue(pool.spawnExplosion(200, 0));
+        assertTrue(pool.spawnExplosion(400, 0));
+
+        // Assert
+        assertEquals(3, pool.playCalls);
+        assertEquals(3, pool.getActiveCount());
+    }
+
+    @Test
+    @DisplayName("spawnExplosion: exhausted pool merges nearby explosions")
+    void spawnExplosion_exhaustedPool_mergesNearby() {
+        // Arrange
+        pool.spawnExplosion(0, 0);
+        pool.spawnExplosion(200, 0);
+        pool.spawnExplosion(400, 0);
+
+        // Act
+        boolean played = pool.spawnExplosion(210, 10);
+
+        // Assert
+        assertFalse(played);
+        assertEquals(3, pool.playCalls);
+        assertEquals(1, pool.getMergedCount());
+        assertEquals(0, pool.getSkippedCount());
+    }
+
+    @Test
+    @DisplayName("spawnExplosion: exhausted pool skips far away explosions")
+    void spawnExplosion_exhaustedPool_skipsFarAway() {
+        // Arrange
+        pool.spawnExplosion(0, 0);
+        pool.spawnExplosion(200, 0);
+        pool.spawnExplosion(400, 0);
+
+        // Act
+        boolean played = pool.spawnExplosion(100, 500);
+
+        // Assert
+        assertFalse(played);
+        assertEquals(1, pool.getSkippedCount());
+    }
+
+    @Test
+    @DisplayName("release: a finished slot is reused by the next explosion")
+    void release_slotIsReused() {
+        // Arrange
+        pool.spawnExplosion(0, 0);
+        pool.spawnExplosion(200, 0);
+        pool.spawnExplosion(400, 0);
+
+        // Act
+        pool.release(1);
+        boolean played = pool.spawnExplosion(100, 500);
+
+        // Assert
+        assertTrue(played);
+        assertEquals(1, pool.lastSlot);
+        assertEquals(3, pool.getActiveCount());
+    }
+
+    @Test
+    @DisplayName("setQuality: low quality throttles how many explosions play at once")
+    void setQuality_low_throttlesExplosions() {
+        // Arrange
+        TestableExplosionPool bigPool = new TestableExplosionPool(10);
+        bigPool.setQuality(QualityLevel.LOW);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            bigPool.spawnExplosion(i * 200, 0);
+        }
+
+        // Assert
+        assertEquals(2, bigPool.getActiveLimit());
+        assertEquals(2, bigPool.playCalls);
+        assertEquals(3, bigPool.getSkippedCount());
+    }
+}
@@ -2,11 +2,15 @@ package com.dinosaur.dinosaurexploder.components;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import javafx.scene.shape.Rectangle;
 
+
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.dinosaur.dinosaurexploder.interfaces.Dinosaur;
+import com.dinosaur.dinosaurexploder.model.GameContext;
 
 import com.almasb.fxgl.entity.Entity;
 
@@ -31,4 +35,26 @@ public class HealthbarComponentTest {
 
 
     }
+
+    @Test
+    @DisplayName("updateBar: the width change goes through the scene change counter, only when it differs")
+    void updateBar_countsWidthChanges() {
+        // Arrange
+        Dinosaur dino = Mockito.mock(Dinosaur.class);
+        Mockito.when(dino.getLives()).thenReturn(3);
+        GameContext context = new GameContext();
+        HealthbarComponent comp = new HealthbarComponent(context);
+        comp.setDinoComponent(dino);
+        Entity e = new Entity();
+        e.addComponent(comp);
+
+        // Act
+        comp.updateBar();
+        comp.updateBar();
+
+        // Assert
+        Rectangle bar = (Rectangle) e.getViewComponent().getChildren().get(0);
+        assertEquals(150.0, bar.getWidth(), 1e-9);
+        assertEquals(1, context.getSceneMutations().getTotalMutations());
+    }
 }
@@ -0,0 +1,60 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.model.SpatialGrid;
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HomingProjectileComponentTest {
+
+    private static Entity createMissile(SpatialGrid<Entity> enemies, double turnRate) {
+        Entity missile = new Entity();
+        missile.setPosition(100, 500);
+        missile.addComponent(new HomingProjectileComponent(enemies, new Point2D(0, -1), 700, turnRate, 600));
+        return missile;
+    }
+
+    @Test
+    @DisplayName("The missile turns toward the nearest dinosaur, at most by its turn rate")
+    void onUpdate_turnsTowardNearestEnemy() {
+        // Arrange
+        SpatialGrid<Entity> enemies = new SpatialGrid<>(550, 750, 100);
+        Entity near = new Entity();
+        near.setPosition(400, 500);
+        enemies.add(near, 400, 500);
+        Entity far = new Entity();
+        far.setPosition(100, 0);
+        enemies.add(far, 100, 0);
+        Entity missile = createMissile(enemies, Math.PI);
+        HomingProjectileComponent homing = missile.getComponent(HomingProjectileComponent.class);
+
+        // Act
+        homing.onUpdate(0.25);
+
+        // Assert: a quarter second at half a turn per second is 45 degrees to the right
+        Point2D direction = homing.getDirection();
+        assertEquals(Math.cos(Math.toRadians(-45)), direction.getX(), 1e-9);
+        assertEquals(Math.sin(Math.toRadians(-45)), direction.getY(), 1e-9);
+        assertTrue(missile.getX() > 100);
+        assertTrue(missile.getY() < 500);
+    }
+
+    @Test
+    @DisplayName("Without a dinosaur in range the missile flies straight")
+    void onUpdate_keepsHeadingWithoutTarget() {
+        // Arrange
+        Entity missile = createMissile(new SpatialGrid<>(550, 750, 100), Math.PI);
+        HomingProjectileComponent homing = missile.getComponent(HomingProjectileComponent.class);
+
+        // Act
+        homing.onUpdate(0.1);
+
+        // Assert
+        assertEquals(new Point2D(0, -1), homing.getDirection());
+        assertEquals(100, missile.getX(), 1e-9);
+        assertEquals(430, missile.getY(), 1e-9);
+    }
+}
@@ -0,0 +1,78 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.model.SpatialGrid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaserComponentTest {
+
+    private static Entity createDino(SpatialGrid<Entity> enemies, double x, double y) {
+        Entity dino = new Entity();
+        dino.setPosition(x - 32.5, y - 27.5);
+        enemies.add(dino, x, y, 32.5, 27.5);
+        return dino;
+    }
+
+    private static LaserComponent createLaser(SpatialGrid<Entity> enemies, List<Entity> hits) {
+        Entity player = new Entity();
+        player.setPosition(275, 600);
+        LaserComponent laser = new LaserComponent(enemies, 900, 0.15);
+        laser.setOnHit(hits::add);
+        player.addComponent(laser);
+        return laser;
+    }
+
+    @Test
+    @DisplayName("The beam stops on the closest dinosaur above the ship")
+    void onUpdate_hitsClosestDinosaur() {
+        // Arrange
+        SpatialGrid<Entity> enemies = new SpatialGrid<>(550, 750, 100);
+        createDino(enemies, 275, 100);
+        Entity closest = createDino(enemies, 275, 300);
+        createDino(enemies, 100, 500);
+        List<Entity> hits = new ArrayList<>();
+        LaserComponent laser = createLaser(enemies, hits);
+
+        // Act
+        laser.fire();
+        laser.onUpdate(0.016);
+
+        // Assert
+        assertTrue(laser.isFiring());
+        assertSame(closest, laser.getTarget());
+        assertEquals(600 - 327.5, laser.getBeamLength(), 1e-9);
+        assertEquals(List.of(closest), hits);
+    }
+
+    @Test
+    @DisplayName("A held laser hits once per damage interval and stops when released")
+    void onUpdate_hitsEveryDamageInterval() {
+        // Arrange
+        SpatialGrid<Entity> enemies = new SpatialGrid<>(550, 750, 100);
+        createDino(enemies, 275, 300);
+        List<Entity> hits = new ArrayList<>();
+        LaserComponent laser = createLaser(enemies, hits);
+
+        // Act: held for 20 frames of 0.05 seconds
+        for (int frame = 0; frame < 20; frame++) {
+            laser.fire();
+            laser.onUpdate(0.05);
+        }
+        int heldHits = hits.size();
+        for (int frame = 0; frame < 20; frame++) {
+            laser.onUpdate(0.05);
+        }
+
+        // Assert: a second of firing at 0.15 seconds per hit
+        assertEquals(7, heldHits);
+        assertEquals(heldHits, hits.size());
+        assertFalse(laser.isFiring());
+        assertNull(laser.getTarget());
+    }
+}
@@ -0,0 +1,73 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.model.SpatialGrid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MagnetComponentTest {
+
+    private static Entity createCoin(SpatialGrid<Entity> coins, double x, double y) {
+        Entity coin = new Entity();
+        coin.setPosition(x, y);
+        coins.add(coin, x, y);
+        return coin;
+    }
+
+    private static MagnetComponent createMagnet(SpatialGrid<Entity> coins) {
+        Entity player = new Entity();
+        player.setPosition(275, 600);
+        MagnetComponent magnet = new MagnetComponent(coins, 180, 400);
+        player.addComponent(magnet);
+        return magnet;
+    }
+
+    @Test
+    @DisplayName("An active magnet pulls the coins within its radius toward the ship")
+    void onUpdate_pullsCoinsInRange() {
+        // Arrange
+        SpatialGrid<Entity> coins = new SpatialGrid<>(550, 750, 80);
+        Entity near = createCoin(coins, 275, 500);
+        Entity touching = createCoin(coins, 270, 600);
+        Entity far = createCoin(coins, 275, 200);
+        MagnetComponent magnet = createMagnet(coins);
+        magnet.activate(10);
+
+        // Act
+        magnet.onUpdate(0.1);
+
+        // Assert: 40 pixels straight down, never past the ship
+        assertEquals(275, near.getX(), 1e-9);
+        assertEquals(540, near.getY(), 1e-9);
+        assertEquals(275, touching.getX(), 1e-9);
+        assertEquals(600, touching.getY(), 1e-9);
+        assertEquals(275, far.getX(), 1e-9);
+        assertEquals(200, far.getY(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("The magnet only pulls while it lasts")
+    void onUpdate_stopsWhenExpired() {
+        // Arrange
+        SpatialGrid<Entity> coins = new SpatialGrid<>(550, 750, 80);
+        Entity coin = createCoin(coins, 275, 500);
+        MagnetComponent magnet = createMagnet(coins);
+
+        // Act
+        magnet.onUpdate(0.1);
+        double beforeActivation = coin.getY();
+        magnet.activate(0.2);
+        magnet.onUpdate(0.1);
+        magnet.onUpdate(0.1);
+        double whileActive = coin.getY();
+        magnet.onUpdate(0.1);
+
+        // Assert
+        assertEquals(500, beforeActivation, 1e-9);
+        assertEquals(580, whileActive, 1e-9);
+        assertEquals(580, coin.getY(), 1e-9);
+        assertFalse(magnet.isActive());
+    }
+}
@@ -4,11 +4,19 @@ import com.dinosaur.dinosaurexploder.model.*;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.utils.DataProvider;
+import com.dinosaur.dinosaurexploder.utils.FileDataProvider;
+import com.dinosaur.dinosaurexploder.utils.LanguageManager;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
+import com.dinosaur.dinosaurexploder.utils.PlayerDataJournal;
+import com.dinosaur.dinosaurexploder.utils.QualityGovernor;
 
 import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -67,40 +75,33 @@ class ScoreComponentTest {
     @DisplayName("incrementScore: triggers saveHighScore when new highscore reached")
     void incrementScore_triggersSaveOnNewHigh() throws Exception {
         // Arrange
-        var comp = new ScoreComponent();
+        var context = new GameContext();
+        var comp = new ScoreComponent(context);
         comp.setScore(8);
-
-        // Replace static highscore via reflection
-        Field field = ScoreComponent.class.getDeclaredField("highScore");
-        field.setAccessible(true);
-        field.set(null, new HighScore(5));
+        context.setHighScore(new HighScore(5));
 
         // Act
         comp.incrementScore(10);
 
         // Assert
-        HighScore hs = (HighScore) field.get(null);
-        assertTrue(hs.getHigh() >= 18);
+        assertTrue(context.getHighScore().getHigh() >= 18);
     }
 
     @Test
     @DisplayName("incrementScore: does not trigger saveHighScore when below highscore")
     void incrementScore_doesNotTriggerSaveWhenBelowHigh() throws Exception {
         // Arrange
-        var comp = new ScoreComponent();
+        var context = new GameContext();
+        var comp = new ScoreComponent(context);
         comp.setScore(10);
-
-        Field field = ScoreComponent.class.getDeclaredField("highScore");
-        field.setAccessible(true);
-        field.set(null, new HighScore(50));
+        context.setHighScore(new HighScore(50));
 
         // Act
         comp.incrementScore(5);
 
         // Assert
         assertEquals(15, comp.getScore());
-        HighScore hs = (HighScore) field.get(null);
-        assertEquals(50, hs.getHigh());
+        assertEquals(50, context.getHighScore().getHigh());
     }
 
     // ---------- Persistence ----------
@@ -109,10 +110,9 @@ class ScoreComponentTest {
     @DisplayName("saveHighScore: writes HighScore object without throwing")
     void saveHighScore_writesFileSafely() throws Exception {
         // Arrange
-        var comp = new ScoreComponent();
-        Field field = ScoreComponent.class.getDeclaredField("highScore");
-        field.setAccessible(true);
-        field.set(null, new HighScore(123));
+        var context = new GameContext(new FileDataProvider());
+        var comp = new ScoreComponent(context);
+        context.setHighScore(new HighScore(123));
 
         Method saveMethod = ScoreComponent.class.getDeclaredMethod("saveHighScore");
         saveMethod.setAccessible(true);
@@ -120,10 +120,57 @@ class ScoreComponentTest {
         // Act + Assert
         assertDoesNotThrow(() -> saveMethod.invoke(comp));
 
-        File file = new File(com.dinosaur.dinosaurexploder.constants.GameConstants.HIGH_SCORE_FILE);
+        File file = PlayerDataJournal.getDefault().getDirectory()
+                .resolve(com.dinosaur.dinosaurexploder.constants.GameConstants.HIGH_SCORE_FILE).toFile();
         assertTrue(file.exists(), "High score file should be created");
     }
 
+    @Test
+    @DisplayName("incrementScore: a new high score is saved through the data provider of the context")
+    void incrementScore_newHigh_savesThroughContextProvider() {
+        // Arrange
+        List<Integer> saved = new ArrayList<>();
+        DataProvider provider = new DataProvider() {
+            @Override
+            public HighScore getHighScore() {
+                return new HighScore(7);
+            }
+
+            @Override
+            public TotalCoins getTotalCoins() {
+                return new TotalCoins();
+            }
+
+            @Override
+            public void saveHighScore(HighScore highScore) {
+                saved.add(highScore.getHigh());
+            }
+
+            @Override
+            public void saveTotalCoins(TotalCoins totalCoins) {
+            }
+
+            @Override
+            public Settings loadSettings() {
+                return new Settings();
+            }
+
+            @Override
+            public void saveSettings(Settings settings) {
+            }
+        };
+        var context = new GameContext(provider, new AudioManager(), new LanguageManager(), new QualityGovernor());
+        var comp = new ScoreComponent(context);
+        context.setHighScore(provider.getHighScore());
+
+        // Act
+        comp.incrementScore(5);
+        comp.incrementScore(5);
+
+        // Assert
+        assertEquals(List.of(10), saved, "Only the score above the stored high score of 7 should be saved");
+    }
+
     @Test
     @DisplayName("loadHighScore: does not throw when file is missing")
     void loadHighScore_safeOnMissingFile() throws Exception {
@@ -142,14 +189,13 @@ class ScoreComponentTest {
     @DisplayName("updateTexts: updates text fields with score and highscore values")
     void updateTexts_setsCorrectLabels() throws Exception {
         // Arrange
-        var comp = new ScoreComponent();
+        var context = new GameContext();
+        var comp = new ScoreComponent(context);
         Field scoreTextField = ScoreComponent.class.getDeclaredField("scoreText");
         Field highTextField = ScoreComponent.class.getDeclaredField("highScoreText");
-        Field highScoreField = ScoreComponent.class.getDeclaredField("highScore");
 
         scoreTextField.setAccessible(true);
         highTextField.setAccessible(true);
-        highScoreField.setAccessible(true);
 
         var scoreText = new javafx.scene.text.Text();
         var highText = new javafx.scene.text.Text();
@@ -157,7 +203,7 @@ class ScoreComponentTest {
         highTextField.set(comp, highText);
 
         comp.setScore(42);
-        highScoreField.set(null, new HighScore(99));
+        context.setHighScore(new HighScore(99));
 
         Method updateMethod = ScoreComponent.class.getDeclaredMethod("updateTexts");
         updateMethod.setAccessible(true);
@@ -216,19 +262,16 @@ class ScoreComponentTest {
     @DisplayName("incrementScore: equal to current highscore should not trigger save")
     void incrementScore_equalToHigh_doesNotSave() throws Exception {
         // Arrange
-        var comp = new ScoreComponent();
+        var context = new GameContext();
+        var comp = new ScoreComponent(context);
         comp.setScore(10);
-
-        Field field = ScoreComponent.class.getDeclaredField("highScore");
-        field.setAccessible(true);
-        field.set(null, new HighScore(20));
+        context.setHighScore(new HighScore(20));
 
         // Act
         comp.incrementScore(10); // new score = 20, equal to current highscore
 
         // Assert
-        HighScore hs = (HighScore) field.get(null);
-        assertEquals(20, hs.getHigh(), "Equal highscore should not overwrite");
+        assertEquals(20, context.getHighScore().getHigh(), "Equal highscore should not overwrite");
     }
 
 }
@@ -0,0 +1,53 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoinDenominationsTest {
+
+    @Test
+    @DisplayName("A drop is paid exactly, with few coins that are powers of five")
+    void split_paysTheTotalWithFewCoins() {
+        for (int total = 1; total <= 5000; total++) {
+            // Act
+            int[] coins = CoinDenominations.split(total);
+
+            // Assert
+            assertEquals(total, Arrays.stream(coins).sum());
+            int digits = Integer.toString(total, CoinDenominations.BASE).length();
+            assertTrue(coins.length <= 4 * digits, total + " was split into " + coins.length + " coins");
+            for (int i = 0; i < coins.length; i++) {
+                assertEquals(coins[i], (int) Math.pow(5, CoinDenominations.tierOf(coins[i])));
+                if (i > 0) {
+                    assertTrue(coins[i] <= coins[i - 1]);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Level 80 boss drops take a handful of coins")
+    void split_bossDrops() {
+        // Act + Assert
+        assertArrayEquals(new int[]{25, 25, 25, 5}, CoinDenominations.split(80));
+        assertArrayEquals(new int[]{125, 25, 5, 5}, CoinDenominations.split(160));
+        assertArrayEquals(new int[]{1}, CoinDenominations.split(1));
+        assertEquals(0, CoinDenominations.split(0).length);
+    }
+
+    @Test
+    @DisplayName("Merged coins of any value get the tier of the biggest denomination they reach")
+    void tierOf_merged() {
+        // Act + Assert
+        assertEquals(0, CoinDenominations.tierOf(1));
+        assertEquals(0, CoinDenominations.tierOf(4));
+        assertEquals(1, CoinDenominations.tierOf(5));
+        assertEquals(1, CoinDenominations.tierOf(24));
+        assertEquals(2, CoinDenominations.tierOf(25));
+        assertEquals(13, CoinDenominations.tierOf(Integer.MAX_VALUE));
+    }
+}
@@ -125,6 +125,60 @@ class CollisionHandlerTest {
         assertEquals(MAX_BOMB_COUNT, bombComponent.getBombCount());
     }
 
+    private static CollectedCoinsComponent createCollectedCoins() {
+        return new CollectedCoinsComponent() {
+            @Override
+            protected void updateText() {
+                //do nothing
+            }
+        };
+    }
+
+    private static BombComponent createBombComponent() {
+        return new BombComponent() {
+            @Override
+            protected void updateBombUI() {
+                // do nothing
+            }
+
+            @Override
+            protected void spawnBombBullets(Entity player) {
+                // do nothing
+            }
+        };
+    }
+
+    @Test
+    void playerGetValuableCoin_thenPaysLikeSingleCoins() {
+        //given
+        CollectedCoinsComponent singleCoins = createCollectedCoins();
+        ScoreComponent singleScore = new ScoreComponent();
+        BombComponent singleBombs = createBombComponent();
+        CollectedCoinsComponent bulkCoins = createCollectedCoins();
+        ScoreComponent bulkScore = new ScoreComponent();
+        BombComponent bulkBombs = createBombComponent();
+        Entity dummyPlayer = Mockito.mock(Entity.class);
+        for (int i = 0; i < MAX_BOMB_COUNT; i++) {
+            singleBombs.useBomb(dummyPlayer);
+            bulkBombs.useBomb(dummyPlayer);
+        }
+
+        //when
+        for (int i = 0; i < 32; i++) {
+            collisionHandler.onPlayerGetCoin(singleCoins, singleScore, singleBombs);
+        }
+        collisionHandler.onPlayerGetCoin(bulkCoins, bulkScore, bulkBombs, 25);
+        collisionHandler.onPlayerGetCoin(bulkCoins, bulkScore, bulkBombs, 5);
+        collisionHandler.onPlayerGetCoin(bulkCoins, bulkScore, bulkBombs, 2);
+
+        //then
+        assertEquals(singleCoins.getCoin(), bulkCoins.getCoin());
+        assertEquals(singleScore.getScore(), bulkScore.getScore());
+        assertEquals(2, bulkBombs.getBombCount());
+        assertEquals(singleBombs.getBombCount(), bulkBombs.getBombCount());
+        assertEquals(singleBombs.getCoinCounter(), bulkBombs.getCoinCounter());
+    }
+
     @Test
     void playGetHeart_thenIncreaseLife() {
         LifeComponent lifeComponent = new LifeComponent();
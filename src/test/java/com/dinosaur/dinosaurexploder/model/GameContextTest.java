@@ -0,0 +1,96 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameContextTest {
+
+    @Test
+    @DisplayName("Two sessions keep their own selection and scores")
+    void sessions_doNotShareState() {
+        // Arrange
+        GameContext first = new GameContext();
+        GameContext second = new GameContext();
+
+        // Act
+        first.setSelectedShip(2);
+        first.setHighScore(new HighScore(42));
+        first.getTotalCoins().setTotal(7);
+
+        // Assert
+        assertEquals(2, first.getSelectedShip());
+        assertEquals(1, second.getSelectedShip());
+        assertEquals(0, second.getHighScore().getHigh());
+        assertEquals(0, second.getTotalCoins().getTotal());
+    }
+
+    @Test
+    @DisplayName("A saved high score and coin total stay in the session that saved them")
+    void sessions_doNotShareSavedProgress() {
+        // Arrange
+        GameContext first = new GameContext();
+        GameContext second = new GameContext();
+
+        // Act
+        first.getDataProvider().saveHighScore(new HighScore(500));
+        first.getDataProvider().saveTotalCoins(new TotalCoins(40));
+
+        // Assert
+        assertEquals(500, first.getDataProvider().getHighScore().getHigh());
+        assertEquals(0, second.getDataProvider().getHighScore().getHigh());
+        assertEquals(0, second.getDataProvider().getTotalCoins().getTotal());
+        assertTrue(first.checkUnlockedWeapon(3));
+        assertFalse(second.checkUnlockedWeapon(3), "Another session's progress should not unlock weapons");
+    }
+
+    @Test
+    @DisplayName("Settings saved by one session are not loaded by another")
+    void sessions_doNotShareSettings() {
+        // Arrange
+        GameContext first = new GameContext();
+        GameContext second = new GameContext();
+
+        // Act
+        first.getSettingsService().setVolume(0.3);
+        first.getSettingsService().flush();
+
+        // Assert
+        assertEquals(0.3, first.getDataProvider().loadSettings().getVolume());
+        assertEquals(1.0, second.getDataProvider().loadSettings().getVolume());
+        assertEquals(1.0, second.getSettingsService().getSettings().getVolume());
+        assertEquals(1.0, second.getAudioManager().getVolume());
+    }
+
+    @Test
+    @DisplayName("Two sessions get their own audio, language and quality governor")
+    void sessions_haveOwnServices() {
+        // Arrange
+        GameContext first = new GameContext();
+        GameContext second = new GameContext();
+
+        // Act
+        first.getLanguageManager().setSelectedLanguage("French");
+        first.getAudioManager().setVolume(0.2);
+
+        // Assert
+        assertNotSame(first.getAudioManager(), second.getAudioManager());
+        assertNotSame(first.getQualityGovernor(), second.getQualityGovernor());
+        assertEquals("English", second.getLanguageManager().selectedLanguageProperty().get());
+        assertEquals(1.0, second.getAudioManager().getVolume());
+    }
+
+    @Test
+    @DisplayName("The default context is shared by the desktop game and GameData")
+    void defaultContext_backsGameData() {
+        // Act
+        GameData.setSelectedWeapon(1);
+
+        // Assert
+        assertSame(GameContext.getDefault(), GameContext.getDefault());
+        assertTrue(GameContext.getDefault().isDefault());
+        assertFalse(new GameContext().isDefault());
+        assertEquals(1, GameContext.getDefault().getSelectedWeapon());
+    }
+}
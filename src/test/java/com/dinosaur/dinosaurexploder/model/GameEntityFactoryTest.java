@@ -1,7 +1,120 @@
 package com.dinosaur.dinosaurexploder.model;
 
+import com.almasb.fxgl.dsl.components.ProjectileComponent;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.components.CoinComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameEntityFactoryTest {
 
-}
\ No newline at end of file
+    // The offscreen cleaner needs a running game scene, a plain component takes its place
+    private static GameEntityFactory newFactory() {
+        return new GameEntityFactory(new GameContext(), () -> new Component() {});
+    }
+
+    @Test
+    @DisplayName("createBatch: one coin per slot, at its position and with its value")
+    void createBatch_coins_oneCoinPerSlot() {
+        // Arrange
+        GameEntityFactory factory = newFactory();
+        double[] x = {10, 60, 110};
+        double[] y = {20, 25, 30};
+        int[] values = {25, 5, 1};
+
+        // Act
+        List<Entity> coins = factory.createBatch("coin", x, y, null, values);
+
+        // Assert
+        assertEquals(3, coins.size());
+        for (int i = 0; i < coins.size(); i++) {
+            Entity coin = coins.get(i);
+            assertTrue(coin.isType(EntityType.COIN));
+            assertEquals(x[i], coin.getX(), 1e-9);
+            assertEquals(y[i], coin.getY(), 1e-9);
+            assertEquals(values[i], coin.getComponent(CoinComponent.class).getValue());
+        }
+        assertNotSame(coins.get(0), coins.get(1));
+    }
+
+    @Test
+    @DisplayName("createBatch: coins without values are worth one")
+    void createBatch_coinsWithoutValues_areWorthOne() {
+        // Act
+        List<Entity> coins = newFactory().createBatch("coin", new double[2], new double[2], null, null);
+
+        // Assert
+        assertEquals(2, coins.size());
+        for (Entity coin : coins) {
+            assertEquals(1, coin.getComponent(CoinComponent.class).getValue());
+        }
+    }
+
+    @Test
+    @DisplayName("createBatch: bomb volleys fly at the first weapon speed whatever weapon is selected")
+    void createBatch_bombProjectiles_ignoreSelectedWeapon() {
+        // Arrange: unlock and select the laser
+        GameContext context = new GameContext();
+        context.getDataProvider().saveHighScore(new HighScore(1000));
+        context.getDataProvider().saveTotalCoins(new TotalCoins(1000));
+        context.setSelectedWeapon(GameConstants.LASER_WEAPON);
+        GameEntityFactory factory = new GameEntityFactory(context, () -> new Component() {});
+        Point2D[] directions = {new Point2D(0, -1), new Point2D(1, -1)};
+
+        // Act
+        List<Entity> volley = factory.createBatch("bombProjectile", new double[2], new double[2], directions, null);
+
+        // Assert
+        for (Entity projectile : volley) {
+            assertEquals(600, projectile.getComponent(ProjectileComponent.class).getSpeed(), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("createBatch: every projectile flies in its own direction")
+    void createBatch_projectiles_followTheirDirections() {
+        // Arrange
+        GameEntityFactory factory = newFactory();
+        double[] x = {100, 200};
+        double[] y = {300, 300};
+        Point2D[] directions = {new Point2D(0, -1), new Point2D(1, 0)};
+
+        // Act
+        List<Entity> projectiles = factory.createBatch("basicProjectile", x, y, directions, null);
+
+        // Assert
+        assertEquals(2, projectiles.size());
+        for (int i = 0; i < projectiles.size(); i++) {
+            Entity projectile = projectiles.get(i);
+            assertTrue(projectile.isType(EntityType.PROJECTILE));
+            assertEquals(x[i], projectile.getX(), 1e-9);
+            assertEquals(y[i], projectile.getY(), 1e-9);
+            assertEquals(directions[i], projectile.getComponent(ProjectileComponent.class).getDirection().normalize());
+        }
+    }
+
+    @Test
+    @DisplayName("Batches of mismatched arrays or unknown types are refused before anything is built")
+    void createBatch_rejectsBadInput() {
+        // Arrange
+        GameEntityFactory factory = new GameEntityFactory(new GameContext());
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> factory.createBatch("coin", new double[2], new double[1], null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> factory.createBatch("coin", new double[2], new double[2], null, new int[3]));
+        assertThrows(IllegalArgumentException.class,
+                () -> factory.createBatch("basicProjectile", new double[1], new double[1], null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> factory.createBatch("greenDino", new double[1], new double[1], null, null));
+    }
+}
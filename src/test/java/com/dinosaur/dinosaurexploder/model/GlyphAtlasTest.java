@@ -0,0 +1,62 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlyphAtlasTest {
+
+    private static GlyphAtlas createAtlas() {
+        char[] chars = {' ', '1', '2', 'A', 'é'};
+        double[] x = {0, 8, 20, 32, 48};
+        double[] y = {0, 0, 0, 0, 26};
+        double[] widths = {6, 10, 10, 14, 12};
+        return new GlyphAtlas(null, chars, x, y, widths, 24, 18);
+    }
+
+    @Test
+    @DisplayName("Characters are found in the atlas, missing ones are negative")
+    void indexOf_findsGlyphs() {
+        // Arrange
+        GlyphAtlas atlas = createAtlas();
+
+        // Act
+        int a = atlas.indexOf('A');
+        int accent = atlas.indexOf('é');
+        int missing = atlas.indexOf('Z');
+
+        // Assert
+        assertEquals(32, atlas.getX(a));
+        assertEquals(26, atlas.getY(accent));
+        assertTrue(missing < 0);
+    }
+
+    @Test
+    @DisplayName("Text width adds up the glyph widths, missing glyphs take half a line")
+    void measure_addsWidths() {
+        // Arrange
+        GlyphAtlas atlas = createAtlas();
+        char[] text = {'A', ' ', '1', '2', 'Z', 'x'};
+
+        // Act
+        double width = atlas.measure(text, 4);
+        double withMissing = atlas.measure(text, 5);
+
+        // Assert
+        assertEquals(40, width);
+        assertEquals(52, withMissing);
+    }
+
+    @Test
+    @DisplayName("Characters must be sorted for the binary search")
+    void constructor_rejectsUnsortedCharacters() {
+        // Arrange
+        char[] chars = {'b', 'a'};
+        double[] values = {0, 0};
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new GlyphAtlas(null, chars, values, values, values, 24, 18));
+    }
+}
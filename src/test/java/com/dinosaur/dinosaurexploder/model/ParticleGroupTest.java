@@ -0,0 +1,70 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticleGroupTest {
+
+    @Test
+    @DisplayName("emit: drops particles once the group is full")
+    void emit_fullGroup_dropsParticles() {
+        // Arrange
+        ParticleGroup group = new ParticleGroup(2, 0);
+
+        // Act & Assert
+        assertTrue(group.emit(0, 0, 0, 0, 1));
+        assertTrue(group.emit(0, 0, 0, 0, 1));
+        assertFalse(group.emit(0, 0, 0, 0, 1));
+        assertEquals(2, group.getCount());
+    }
+
+    @Test
+    @DisplayName("update: moves particles with their velocity and gravity")
+    void update_movesParticles() {
+        // Arrange
+        ParticleGroup group = new ParticleGroup(4, 10);
+        group.emit(0, 0, 20, 0, 1);
+
+        // Act
+        group.update(0.5);
+
+        // Assert
+        assertEquals(10, group.getX(0), 1e-4);
+        assertEquals(2.5, group.getY(0), 1e-4);
+        assertEquals(0.5, group.getAlpha(0), 1e-4);
+    }
+
+    @Test
+    @DisplayName("update: removes dead particles and keeps the live ones")
+    void update_removesDeadParticles() {
+        // Arrange
+        ParticleGroup group = new ParticleGroup(4, 0);
+        group.emit(1, 0, 0, 0, 0.1);
+        group.emit(2, 0, 0, 0, 1);
+        group.emit(3, 0, 0, 0, 0.1);
+
+        // Act
+        group.update(0.2);
+
+        // Assert
+        assertEquals(1, group.getCount());
+        assertEquals(2, group.getX(0), 1e-4);
+    }
+
+    @Test
+    @DisplayName("clear: empties the group so it can be filled again")
+    void clear_emptiesGroup() {
+        // Arrange
+        ParticleGroup group = new ParticleGroup(1, 0);
+        group.emit(0, 0, 0, 0, 1);
+
+        // Act
+        group.clear();
+
+        // Assert
+        assertEquals(0, group.getCount());
+        assertTrue(group.emit(0, 0, 0, 0, 1));
+    }
+}
@@ -0,0 +1,60 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionHistoryTest {
+
+    @Test
+    @DisplayName("record: latest position is zero steps back")
+    void record_latestPositionIsZeroStepsBack() {
+        // Arrange
+        PositionHistory history = new PositionHistory(3);
+
+        // Act
+        history.record(1, 10);
+        history.record(2, 20);
+
+        // Assert
+        assertEquals(2, history.getX(0));
+        assertEquals(20, history.getY(0));
+        assertEquals(1, history.getX(1));
+        assertFalse(history.has(2));
+    }
+
+    @Test
+    @DisplayName("record: full buffer overwrites the oldest position")
+    void record_fullBuffer_overwritesOldest() {
+        // Arrange
+        PositionHistory history = new PositionHistory(3);
+
+        // Act
+        for (int i = 1; i <= 5; i++) {
+            history.record(i, 0);
+        }
+
+        // Assert
+        assertEquals(3, history.getSize());
+        assertEquals(5, history.getX(0));
+        assertEquals(3, history.getX(2));
+        assertFalse(history.has(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.getX(3));
+    }
+
+    @Test
+    @DisplayName("clear: forgets every recorded position")
+    void clear_forgetsPositions() {
+        // Arrange
+        PositionHistory history = new PositionHistory(2);
+        history.record(1, 1);
+
+        // Act
+        history.clear();
+
+        // Assert
+        assertEquals(0, history.getSize());
+        assertFalse(history.has(0));
+    }
+}
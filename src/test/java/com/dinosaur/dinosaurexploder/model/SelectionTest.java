@@ -49,5 +49,22 @@ class SelectionTest {
         public TotalCoins getTotalCoins() {
             return new TotalCoins(TOTAL_COINS);
         }
+
+        @Override
+        public void saveHighScore(HighScore highScore) {
+        }
+
+        @Override
+        public void saveTotalCoins(TotalCoins totalCoins) {
+        }
+
+        @Override
+        public Settings loadSettings() {
+            return new Settings();
+        }
+
+        @Override
+        public void saveSettings(Settings settings) {
+        }
     }
 }
@@ -0,0 +1,243 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialGridTest {
+
+    private static int bruteNearest(double[][] points, boolean[] alive, double px, double py, double maxDistance) {
+        int best = -1;
+        double bestDistance = maxDistance * maxDistance;
+        for (int i = 0; i < points.length; i++) {
+            if (!alive[i]) {
+                continue;
+            }
+            double dx = points[i][0] - px;
+            double dy = points[i][1] - py;
+            double distance = dx * dx + dy * dy;
+            if (distance <= bestDistance) {
+                bestDistance = distance;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    // Distance along the ray to the box of every item, -1 when none is hit within the distance
+    private static double[] bruteRaycast(double[][] boxes, double ox, double oy, double dx, double dy, double maxDistance) {
+        double length = Math.hypot(dx, dy);
+        dx /= length;
+        dy /= length;
+        double best = -1;
+        double bestDistance = maxDistance;
+        for (int i = 0; i < boxes.length; i++) {
+            double near = 0;
+            double far = Double.POSITIVE_INFINITY;
+            double[] origin = {ox, oy};
+            double[] direction = {dx, dy};
+            boolean missed = false;
+            for (int axis = 0; axis < 2; axis++) {
+                double min = boxes[i][axis] - boxes[i][axis + 2];
+                double max = boxes[i][axis] + boxes[i][axis + 2];
+                if (direction[axis] == 0) {
+                    missed |= origin[axis] < min || origin[axis] > max;
+                    continue;
+                }
+                double t1 = (min - origin[axis]) / direction[axis];
+                double t2 = (max - origin[axis]) / direction[axis];
+                near = Math.max(near, Math.min(t1, t2));
+                far = Math.min(far, Math.max(t1, t2));
+            }
+            if (!missed && near <= far && near <= bestDistance) {
+                bestDistance = near;
+                best = i;
+            }
+        }
+        return new double[]{best, bestDistance};
+    }
+
+    private static double distanceSquared(double[][] points, int i, double px, double py) {
+        double dx = points[i][0] - px;
+        double dy = points[i][1] - py;
+        return dx * dx + dy * dy;
+    }
+
+    @Test
+    @DisplayName("Nearest matches a full scan while items move and disappear")
+    void nearest_matchesFullScan() {
+        // Arrange
+        Random random = new Random(46);
+        SpatialGrid<Integer> grid = new SpatialGrid<>(550, 750, 100);
+        double[][] points = new double[200][2];
+        boolean[] alive = new boolean[points.length];
+        int[] handles = new int[points.length];
+        for (int i = 0; i < points.length; i++) {
+            // Some dinosaurs are still above the screen
+            points[i][0] = random.nextDouble() * 550;
+            points[i][1] = random.nextDouble() * 850 - 100;
+            handles[i] = grid.add(i, points[i][0], points[i][1]);
+            alive[i] = true;
+        }
+
+        for (int frame = 0; frame < 50; frame++) {
+            // Act
+            for (int i = 0; i < points.length; i++) {
+                if (!alive[i]) {
+                    continue;
+                }
+                if (random.nextInt(40) == 0) {
+                    grid.remove(handles[i]);
+                    alive[i] = false;
+                    continue;
+                }
+                points[i][1] += random.nextDouble() * 20;
+                points[i][0] += random.nextDouble() * 10 - 5;
+                grid.move(handles[i], points[i][0], points[i][1]);
+            }
+
+            // Assert
+            for (int query = 0; query < 20; query++) {
+                double px = random.nextDouble() * 550;
+                double py = random.nextDouble() * 750;
+                int expected = bruteNearest(points, alive, px, py, 400);
+                Integer found = grid.nearest(px, py, 400);
+                if (expected < 0) {
+                    assertNull(found);
+                } else {
+                    assertNotNull(found);
+                    assertEquals(distanceSquared(points, expected, px, py), distanceSquared(points, found, px, py), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Radius query finds exactly the items inside the circle")
+    void queryRadius_matchesFullScan() {
+        // Arrange
+        Random random = new Random(7);
+        SpatialGrid<Integer> grid = new SpatialGrid<>(550, 750, 64);
+        double[][] points = new double[300][2];
+        for (int i = 0; i < points.length; i++) {
+            points[i][0] = random.nextDouble() * 550;
+            points[i][1] = random.nextDouble() * 750;
+            grid.add(i, points[i][0], points[i][1]);
+        }
+
+        // Act
+        List<Integer> found = new ArrayList<>();
+        int count = grid.queryRadius(200, 300, 150, found);
+
+        // Assert
+        HashSet<Integer> expected = new HashSet<>();
+        for (int i = 0; i < points.length; i++) {
+            if (distanceSquared(points, i, 200, 300) <= 150 * 150) {
+                expected.add(i);
+            }
+        }
+        assertEquals(expected.size(), count);
+        assertEquals(expected, new HashSet<>(found));
+    }
+
+    @Test
+    @DisplayName("A raycast stops on the first box in its way, even one overlapping the next cells")
+    void raycast_hitsFirstBox() {
+        // Arrange
+        SpatialGrid<String> grid = new SpatialGrid<>(550, 750, 100);
+        grid.add("behind", 275, 100, 32.5, 27.5);
+        grid.add("front", 275, 400, 32.5, 27.5);
+        // Its center is in the cell left of the ray but its box reaches it
+        grid.add("wide", 180, 250, 100, 20);
+        grid.add("aside", 100, 500, 32.5, 27.5);
+
+        // Act
+        String first = grid.raycast(275, 700, 0, -1, 900);
+        double firstDistance = grid.getLastRayDistance();
+        String second = grid.raycast(275, 350, 0, -1, 900);
+        double secondDistance = grid.getLastRayDistance();
+        String tooShort = grid.raycast(275, 350, 0, -1, 50);
+
+        // Assert
+        assertEquals("front", first);
+        assertEquals(700 - 427.5, firstDistance, 1e-9);
+        assertEquals("wide", second);
+        assertEquals(350 - 270, secondDistance, 1e-9);
+        assertNull(tooShort);
+        assertTrue(Double.isNaN(grid.getLastRayDistance()));
+    }
+
+    @Test
+    @DisplayName("Raycasts in every direction match a test of every box")
+    void raycast_matchesFullScan() {
+        // Arrange
+        Random random = new Random(47);
+        SpatialGrid<Integer> grid = new SpatialGrid<>(550, 750, 100);
+        double[][] boxes = new double[150][4];
+        for (int i = 0; i < boxes.length; i++) {
+            boxes[i][0] = random.nextDouble() * 550;
+            boxes[i][1] = random.nextDouble() * 750;
+            boxes[i][2] = 5 + random.nextDouble() * 60;
+            boxes[i][3] = 5 + random.nextDouble() * 40;
+            grid.add(i, boxes[i][0], boxes[i][1], boxes[i][2], boxes[i][3]);
+        }
+
+        for (int ray = 0; ray < 500; ray++) {
+            double ox = random.nextDouble() * 550;
+            double oy = random.nextDouble() * 750;
+            double angle = random.nextDouble() * 2 * Math.PI;
+            // Axis aligned rays take the other branches of the traversal
+            if (ray % 10 == 0) {
+                angle = Math.PI / 2 * (ray / 10 % 4);
+            }
+            double dx = Math.cos(angle);
+            double dy = Math.sin(angle);
+            if (Math.abs(dx) < 1e-12) {
+                dx = 0;
+            }
+            if (Math.abs(dy) < 1e-12) {
+                dy = 0;
+            }
+
+            // Act
+            Integer hit = grid.raycast(ox, oy, dx, dy, 400);
+
+            // Assert: the same box or one at the same distance
+            double[] expected = bruteRaycast(boxes, ox, oy, dx, dy, 400);
+            if (expected[0] < 0) {
+                assertNull(hit);
+            } else {
+                assertNotNull(hit);
+                assertEquals(expected[1], grid.getLastRayDistance(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Removed handles are reused and a cleared grid is empty")
+    void removeAndClear_keepTheGridConsistent() {
+        // Arrange
+        SpatialGrid<String> grid = new SpatialGrid<>(550, 750, 100);
+        int first = grid.add("first", 10, 10);
+        grid.add("second", 500, 700);
+
+        // Act
+        grid.remove(first);
+        grid.remove(first);
+        int third = grid.add("third", 20, 20);
+
+        // Assert
+        assertEquals(first, third);
+        assertEquals(2, grid.size());
+        assertEquals("third", grid.nearest(0, 0, 1000));
+        grid.clear();
+        assertEquals(0, grid.size());
+        assertNull(grid.nearest(0, 0, 1000));
+    }
+}
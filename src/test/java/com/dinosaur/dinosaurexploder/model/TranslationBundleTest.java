@@ -0,0 +1,59 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.utils.AssetRegistry;
+import com.dinosaur.dinosaurexploder.utils.LanguageManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranslationBundleTest {
+
+    @Test
+    @DisplayName("translation files: every language defines exactly the keys of TranslationKey")
+    void translationFiles_defineEveryKey() {
+        for (String language : GameConstants.LANGUAGES) {
+            // Arrange
+            Map<String, String> table = AssetRegistry.getInstance().getTranslations(language);
+
+            // Act
+            TranslationBundle bundle = TranslationBundle.fromTable(language, table);
+            List<String> unknown = table.keySet().stream().filter(key -> TranslationKey.fromKey(key) == null).toList();
+
+            // Assert
+            assertEquals(List.of(), bundle.getMissingKeys(), "Missing translations in " + language);
+            assertEquals(List.of(), unknown, "Keys without a TranslationKey in " + language);
+        }
+    }
+
+    @Test
+    @DisplayName("fromTable: a missing key shows the key itself")
+    void fromTable_missingKey_fallsBackToKey() {
+        // Act
+        TranslationBundle bundle = TranslationBundle.fromTable("test", Map.of("score", "Points"));
+
+        // Assert
+        assertEquals("Points", bundle.get(TranslationKey.SCORE));
+        assertEquals("bombs_left", bundle.get(TranslationKey.BOMBS_LEFT));
+        assertTrue(bundle.getMissingKeys().contains(TranslationKey.BOMBS_LEFT));
+    }
+
+    @Test
+    @DisplayName("getTranslation: key constants and key names give the same text, unknown names give the name")
+    void getTranslation_constantAndNameAgree() {
+        // Arrange
+        LanguageManager languageManager = new LanguageManager();
+        languageManager.setSelectedLanguage("German");
+
+        // Act & Assert
+        assertEquals(languageManager.getTranslation("bombs_left"), languageManager.getTranslation(TranslationKey.BOMBS_LEFT));
+        assertSame(AssetRegistry.getInstance().getBundle("German").get(TranslationKey.LEVEL),
+                languageManager.getTranslation(TranslationKey.LEVEL));
+        assertEquals("not a key", languageManager.getTranslation("not a key"));
+    }
+}
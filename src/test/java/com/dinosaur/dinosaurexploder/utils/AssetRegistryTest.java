@@ -0,0 +1,78 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetRegistryTest {
+
+    @Test
+    @DisplayName("getImage: every caller gets the same decoded image")
+    void getImage_isSharedByReference() {
+        // Arrange
+        AssetRegistry registry = new AssetRegistry();
+
+        // Act
+        Image first = registry.getImage(GameConstants.HEART_IMAGE_PATH);
+        Image second = registry.getImage("/" + GameConstants.HEART_IMAGE_PATH);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, registry.getCachedImageCount());
+    }
+
+    @Test
+    @DisplayName("getImage: sized images are decoded at the requested size")
+    void getImage_sized_decodesAtRequestedSize() {
+        // Arrange
+        AssetRegistry registry = new AssetRegistry();
+
+        // Act
+        Image coin = registry.getImage(GameConstants.COIN_IMAGE_PATH, 40, 40);
+
+        // Assert
+        assertEquals(40, coin.getWidth());
+        assertEquals(40, coin.getHeight());
+        assertEquals(1, registry.getCachedImageCount());
+    }
+
+    @Test
+    @DisplayName("getTranslations: tables are shared and read-only")
+    void getTranslations_sharedAndReadOnly() {
+        // Arrange
+        AssetRegistry registry = new AssetRegistry();
+
+        // Act
+        Map<String, String> english = registry.getTranslations("English");
+
+        // Assert
+        assertSame(english, registry.getTranslations("english"));
+        assertEquals("Score", english.get("score"));
+        assertThrows(UnsupportedOperationException.class, () -> english.put("score", "x"));
+    }
+
+    @Test
+    @DisplayName("preload: loads every language and picture once")
+    void preload_loadsEverything() {
+        // Arrange
+        AssetRegistry registry = new AssetRegistry();
+
+        // Act
+        registry.preload().join();
+
+        // Assert
+        assertSame(registry.preload(), registry.preload());
+        assertTrue(registry.getCachedImageCount() > GameConstants.SHIP_COUNT * GameConstants.WEAPON_COUNT);
+        assertFalse(registry.getTranslations("Japanese").isEmpty());
+        // The dinosaurs are shown from the preloaded pictures, nothing new is decoded
+        int cached = registry.getCachedImageCount();
+        registry.getImage(GameConstants.GREEN_DINO_IMAGE_PATH, 80, 60);
+        registry.getImage(GameConstants.ORANGE_DINO_IMAGE_PATH, 100, 150);
+        assertEquals(cached, registry.getCachedImageCount());
+    }
+}
@@ -0,0 +1,121 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.model.GlyphAtlas;
+import com.dinosaur.dinosaurexploder.view.BitmapText;
+import javafx.scene.text.Text;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class HudTextFormatterTest {
+
+    @Test
+    @DisplayName("Numbers are written like Integer.toString after the label")
+    void format_writesNumbers() {
+        // Arrange
+        LanguageManager languageManager = new LanguageManager();
+        HudTextFormatter formatter = new HudTextFormatter(languageManager, TranslationKey.SCORE, new SceneMutationCounter());
+        String label = languageManager.getTranslation(TranslationKey.SCORE);
+
+        // Act + Assert
+        for (int value : new int[]{0, 7, 10, 99, 100, 123456, -1, -250, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            assertEquals(label + ": " + value, formatter.format(value));
+        }
+    }
+
+    @Test
+    @DisplayName("The label follows the selected language")
+    void format_followsLanguage() {
+        // Arrange
+        LanguageManager languageManager = new LanguageManager();
+        HudTextFormatter formatter = new HudTextFormatter(languageManager, TranslationKey.LIVES, "", new SceneMutationCounter());
+        String english = formatter.format(3);
+
+        // Act
+        languageManager.setSelectedLanguage("French");
+        String french = formatter.format(3);
+
+        // Assert
+        assertNotEquals(english, french);
+        assertEquals(languageManager.getTranslation(TranslationKey.LIVES) + "3", french);
+    }
+
+    @Test
+    @DisplayName("The text is only touched when the shown value changes")
+    void update_onlyOnChange() {
+        // Arrange
+        SceneMutationCounter mutations = new SceneMutationCounter();
+        HudTextFormatter formatter = new HudTextFormatter(new LanguageManager(), TranslationKey.BOMBS_LEFT, mutations);
+        Text text = new Text();
+
+        // Act
+        boolean first = formatter.update(text, 3);
+        boolean same = formatter.update(text, 3);
+        boolean changed = formatter.update(text, 2);
+
+        // Assert
+        assertTrue(first);
+        assertFalse(same);
+        assertTrue(changed);
+        assertEquals(2, mutations.getTotalMutations());
+    }
+
+    @Test
+    @DisplayName("A bitmap text is drawn from the buffer and only redrawn on change")
+    void updateBitmap_onlyOnChange() {
+        // Arrange
+        SceneMutationCounter mutations = new SceneMutationCounter();
+        LanguageManager languageManager = new LanguageManager();
+        HudTextFormatter formatter = new HudTextFormatter(languageManager, TranslationKey.COIN, mutations);
+        char[] digits = "0123456789".toCharArray();
+        double[] x = {0, 10, 20, 30, 40, 50, 60, 70, 80, 90};
+        double[] y = new double[10];
+        double[] widths = {10, 10, 10, 10, 10, 10, 10, 10, 10, 10};
+        BitmapText text = new BitmapText(new GlyphAtlas(null, digits, x, y, widths, 24, 18));
+
+        // Act
+        boolean first = formatter.update(text, 42);
+        boolean same = formatter.update(text, 42);
+        boolean changed = formatter.update(text, 43);
+
+        // Assert
+        assertTrue(first);
+        assertFalse(same);
+        assertTrue(changed);
+        assertEquals(2, mutations.getTotalMutations());
+        assertEquals(languageManager.getTranslation(TranslationKey.COIN) + ": 43", text.getText());
+        assertEquals(formatter.format(43), text.getText());
+    }
+
+    @Test
+    @DisplayName("Updating the HUD with unchanged values allocates nothing")
+    void update_unchangedAllocatesNothing() {
+        // Arrange
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        HudTextFormatter formatter = new HudTextFormatter(new LanguageManager(), TranslationKey.SCORE, new SceneMutationCounter());
+        Text text = new Text();
+        for (int frame = 0; frame < 20_000; frame++) {
+            formatter.update(text, 1234);
+        }
+
+        // Act
+        int frames = 100_000;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int frame = 0; frame < frames; frame++) {
+            formatter.update(text, 1234);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Assert: one String per frame would be several megabytes, the few bytes left come from the JIT
+        assertTrue(allocated < frames, "Unchanged HUD updates allocated " + allocated + " bytes");
+    }
+}
@@ -0,0 +1,58 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.TranslationKey;
+import com.dinosaur.dinosaurexploder.model.TranslationBundle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LanguageIndexTest {
+
+    @Test
+    @DisplayName("discoverLanguages: finds every shipped language in the menu order")
+    void discoverLanguages_findsShippedLanguages() {
+        // Act
+        List<String> languages = LanguageIndex.discoverLanguages();
+
+        // Assert
+        assertEquals(List.of("English", "French", "German", "Spanish", "Japanese", "Russian", "Portuguese"), languages);
+    }
+
+    @Test
+    @DisplayName("load: a language that fails to load is left out of the index")
+    void load_failingLanguage_isLeftOut() {
+        // Arrange
+        TranslationBundle english = TranslationBundle.fromTable("english", Map.of("score", "Score"));
+
+        // Act
+        LanguageIndex index = LanguageIndex.load(List.of("English", "Klingon"), language -> {
+            if (language.equals("Klingon")) {
+                throw new IllegalArgumentException("Translation file not found");
+            }
+            return english;
+        }, Runnable::run).join();
+
+        // Assert
+        assertEquals(List.of("English"), index.getLanguages());
+        assertSame(english, index.getBundle("english"));
+        assertNull(index.getBundle("Klingon"));
+    }
+
+    @Test
+    @DisplayName("ready: the shared index holds the cached bundles and the same language list every time")
+    void ready_sharedIndex() {
+        // Act
+        LanguageIndex index = LanguageIndex.ready().join();
+        LanguageManager languageManager = new LanguageManager();
+        languageManager.setSelectedLanguage("French");
+
+        // Assert
+        assertSame(AssetRegistry.getInstance().getBundle("French"), index.getBundle("French"));
+        assertSame(languageManager.getAvailableLanguages(), new LanguageManager().getAvailableLanguages());
+        assertEquals(index.getBundle("French").get(TranslationKey.START), languageManager.getTranslation(TranslationKey.START));
+    }
+}
@@ -0,0 +1,99 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.components.BombComponent;
+import com.dinosaur.dinosaurexploder.components.LifeComponent;
+import com.dinosaur.dinosaurexploder.components.ScoreComponent;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LanguageSubscriptionTest {
+
+    // The HUD of one game, the same components the game adds to its HUD entities
+    private static Entity newHud(GameContext context) {
+        Entity hud = new Entity();
+        hud.addComponent(new ScoreComponent(context));
+        hud.addComponent(new LifeComponent(context));
+        hud.addComponent(new BombComponent(context));
+        return hud;
+    }
+
+    private static void removeHud(Entity hud) {
+        hud.removeComponent(ScoreComponent.class);
+        hud.removeComponent(LifeComponent.class);
+        hud.removeComponent(BombComponent.class);
+    }
+
+    // Texts changed in the context when the language switches to French
+    private static long switchToFrench(GameContext context) {
+        long before = context.getSceneMutations().getTotalMutations();
+        context.getLanguageManager().setSelectedLanguage("French");
+        return context.getSceneMutations().getTotalMutations() - before;
+    }
+
+    @Test
+    @DisplayName("A disposed subscription no longer follows the language")
+    void dispose_stopsUpdates() {
+        // Arrange
+        LanguageManager languageManager = new LanguageManager();
+        AtomicInteger updates = new AtomicInteger();
+        LanguageSubscription subscription = languageManager.onLanguageChange(updates::incrementAndGet);
+
+        // Act
+        languageManager.setSelectedLanguage("French");
+        subscription.dispose();
+        languageManager.setSelectedLanguage("German");
+
+        // Assert
+        assertEquals(1, updates.get());
+    }
+
+    @Test
+    @DisplayName("1000 games do not keep their HUD components alive through the language manager")
+    void manyGames_leaveNoListenerBehind() throws InterruptedException {
+        // Arrange
+        GameContext single = new GameContext();
+        Entity singleHud = newHud(single);
+        long singleHudUpdates = switchToFrench(single);
+
+        GameContext context = new GameContext();
+        List<WeakReference<Component>> oldComponents = new ArrayList<>();
+        Entity currentHud = null;
+
+        // Act: every new game replaces the HUD, half of the old ones are removed, the others just dropped
+        for (int game = 0; game < 1000; game++) {
+            if (currentHud != null) {
+                for (Component component : currentHud.getComponents()) {
+                    oldComponents.add(new WeakReference<>(component));
+                }
+                if (game % 2 == 0) {
+                    removeHud(currentHud);
+                }
+            }
+            currentHud = newHud(context);
+        }
+        for (int attempt = 0; attempt < 50 && oldComponents.stream().anyMatch(ref -> ref.get() != null); attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        long updates = switchToFrench(context);
+
+        // Assert
+        for (WeakReference<Component> oldComponent : oldComponents) {
+            assertNull(oldComponent.get(), "Old HUD components should be collected");
+        }
+        assertTrue(singleHudUpdates > 0, "The HUD texts should follow the language");
+        assertEquals(singleHudUpdates, updates, "Only the current HUD should follow the language");
+        assertNotNull(currentHud);
+        assertNotNull(singleHud);
+    }
+}
@@ -0,0 +1,135 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.model.LeaderboardEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardIndexTest {
+    private LeaderboardIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new LeaderboardIndex(4);
+    }
+
+    private static List<String> ids(List<LeaderboardEntry> entries) {
+        return entries.stream().map(LeaderboardEntry::getPlayerId).toList();
+    }
+
+    @Test
+    @DisplayName("getTop: returns the best scores first, ties go to the earliest submission")
+    void getTop_returnsBestScoresInOrder() {
+        // Arrange
+        index.submit("a", 100);
+        index.submit("b", 300);
+        index.submit("c", 200);
+        index.submit("d", 300);
+
+        // Act
+        List<LeaderboardEntry> top = index.getTop(3);
+
+        // Assert
+        assertEquals(List.of("b", "d", "c"), ids(top));
+    }
+
+    @Test
+    @DisplayName("submit: only a better score replaces the best score of a player")
+    void submit_onlyImprovementsCount() {
+        // Arrange
+        index.submit("a", 100);
+
+        // Act
+        LeaderboardEntry worse = index.submit("a", 50);
+        LeaderboardEntry better = index.submit("a", 150);
+
+        // Assert
+        assertNull(worse);
+        assertNotNull(better);
+        assertEquals(1, index.size());
+        assertEquals(150, index.getEntry("a").getScore());
+        assertEquals(List.of(better), index.getAllEntries());
+    }
+
+    @Test
+    @DisplayName("getRank: counts the players above, unknown players have rank 0")
+    void getRank_countsPlayersAbove() {
+        // Arrange
+        for (int i = 1; i <= 10; i++) {
+            index.submit("p" + i, i * 10);
+        }
+
+        // Act & Assert
+        assertEquals(1, index.getRank("p10"));
+        assertEquals(10, index.getRank("p1"));
+        assertEquals(4, index.getRank("p7"));
+        assertEquals(0, index.getRank("nobody"));
+    }
+
+    @Test
+    @DisplayName("getAround: returns the neighbours of the player in leaderboard order")
+    void getAround_returnsNeighbours() {
+        // Arrange
+        for (int i = 1; i <= 10; i++) {
+            index.submit("p" + i, i * 10);
+        }
+
+        // Act
+        List<LeaderboardEntry> around = index.getAround("p5", 2);
+        List<LeaderboardEntry> atTop = index.getAround("p10", 2);
+
+        // Assert
+        assertEquals(List.of("p7", "p6", "p5", "p4", "p3"), ids(around));
+        assertEquals(List.of("p10", "p9", "p8"), ids(atTop));
+    }
+
+    @Test
+    @Tag("slow")
+    @DisplayName("submit: one million players submitted from eight threads keep a consistent ranking")
+    void submit_millionEntriesConcurrently_rankingStaysConsistent() throws Exception {
+        // Arrange
+        LeaderboardIndex large = new LeaderboardIndex();
+        int threads = 8;
+        int perThread = 125_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+            tasks.add(executor.submit(() -> {
+                for (int i = offset; i < offset + perThread; i++) {
+                    // Scores are unique: player i scores i, shuffled so stripes fill in random order
+                    int player = (int) ((i * 2_654_435_761L) % 1_000_000);
+                    large.submit("player" + player, player);
+                }
+            }));
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executor.shutdown();
+
+        int rank = large.getRank("player500000");
+        List<LeaderboardEntry> top = large.getTop(10);
+        List<LeaderboardEntry> around = large.getAround("player500000", 5);
+
+        // Assert
+        assertEquals(1_000_000, large.size());
+        assertEquals(500_000, rank);
+        assertEquals("player999999", top.get(0).getPlayerId());
+        assertEquals("player999990", top.get(9).getPlayerId());
+        assertEquals(11, around.size());
+        assertEquals("player500005", around.get(0).getPlayerId());
+        assertEquals("player499995", around.get(10).getPlayerId());
+    }
+}
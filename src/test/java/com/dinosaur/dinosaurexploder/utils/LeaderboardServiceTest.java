@@ -0,0 +1,84 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("open: scores submitted before closing are found again after reopening")
+    void open_afterClose_recoversScores() throws IOException {
+        // Arrange
+        try (LeaderboardService service = LeaderboardService.open(directory)) {
+            service.submit("a", 100);
+            service.submit("b", 200);
+            service.submit("a", 300);
+        }
+
+        // Act
+        try (LeaderboardService reopened = LeaderboardService.open(directory)) {
+            // Assert
+            assertEquals(2, reopened.size());
+            assertEquals(1, reopened.getRank("a"));
+            assertEquals(2, reopened.getRank("b"));
+            assertTrue(reopened.submit("c", 50));
+            assertEquals(3, reopened.getRank("c"));
+        }
+    }
+
+    @Test
+    @DisplayName("open: a half written last log entry is dropped")
+    void open_truncatedLog_dropsLastEntry() throws IOException {
+        // Arrange
+        try (LeaderboardService service = LeaderboardService.open(directory, new LeaderboardIndex(4), 1000)) {
+            service.submit("a", 100);
+        }
+        // Leave an entry in the log, then cut its last bytes as a crash while writing would
+        try (LeaderboardService service = LeaderboardService.open(directory, new LeaderboardIndex(4), 1000)) {
+            service.submit("b", 200);
+        }
+        Path log = directory.resolve(LeaderboardService.LOG_FILE);
+        byte[] bytes = Files.readAllBytes(log);
+        Files.write(log, java.util.Arrays.copyOf(bytes, bytes.length - 3), StandardOpenOption.TRUNCATE_EXISTING);
+
+        // Act
+        try (LeaderboardService reopened = LeaderboardService.open(directory, new LeaderboardIndex(4), 1000)) {
+            // Assert
+            assertEquals(1, reopened.size());
+            assertEquals(1, reopened.getRank("a"));
+            assertEquals(0, reopened.getRank("b"));
+        }
+    }
+
+    @Test
+    @DisplayName("compact: the log is folded into the snapshot")
+    void compact_foldsLogIntoSnapshot() throws IOException {
+        // Arrange
+        try (LeaderboardService service = LeaderboardService.open(directory, new LeaderboardIndex(4), 1000)) {
+            service.submit("a", 100);
+            service.submit("b", 200);
+
+            // Act
+            service.compact();
+
+            // Assert
+            assertEquals(0, Files.size(directory.resolve(LeaderboardService.LOG_FILE)));
+            assertFalse(Files.exists(directory.resolve(LeaderboardService.OLD_LOG_FILE)));
+            assertTrue(Files.exists(directory.resolve(LeaderboardService.SNAPSHOT_FILE)));
+        }
+        try (LeaderboardService reopened = LeaderboardService.open(directory)) {
+            assertEquals(2, reopened.size());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.model.HighScore;
+import com.dinosaur.dinosaurexploder.model.TotalCoins;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerDataJournalTest {
+    // Long enough that the background flush never runs during a test
+    private static final long NO_AUTO_FLUSH = 60_000;
+
+    @TempDir
+    Path directory;
+
+    private PlayerDataJournal open() throws IOException {
+        return PlayerDataJournal.open(directory, NO_AUTO_FLUSH, PlayerDataJournal.DEFAULT_COMPACT_EVERY);
+    }
+
+    private Path journalFile() {
+        return directory.resolve(GameConstants.JOURNAL_FILE);
+    }
+
+    @Test
+    @DisplayName("open: values flushed to the journal are recovered after a crash")
+    void open_afterCrash_replaysJournal() throws IOException {
+        // Arrange
+        PlayerDataJournal journal = open();
+        journal.setHighScore(new HighScore(420));
+        journal.setTotalCoins(new TotalCoins(33));
+        Properties settings = new Properties();
+        settings.setProperty("soundVolume", "0.5");
+        journal.setSettings(settings);
+        journal.flush();
+        // Copy the files as they are before a clean close compacts them
+        Path crashed = Files.createDirectory(directory.resolve("crashed"));
+        Files.copy(journalFile(), crashed.resolve(GameConstants.JOURNAL_FILE));
+        journal.close();
+
+        // Act
+        try (PlayerDataJournal recovered = PlayerDataJournal.open(crashed, NO_AUTO_FLUSH, 1000)) {
+            // Assert
+            assertEquals(420, recovered.getHighScore().getHigh());
+            assertEquals(33, recovered.getTotalCoins().getTotal());
+            assertEquals("0.5", recovered.getSettings().getProperty("soundVolume"));
+        }
+    }
+
+    @Test
+    @DisplayName("open: a damaged record ends the replay at the last valid value")
+    void open_damagedRecord_keepsLastValidValue() throws IOException {
+        // Arrange
+        Path crashed = Files.createDirectory(directory.resolve("crashed"));
+        try (PlayerDataJournal journal = open()) {
+            journal.setTotalCoins(new TotalCoins(10));
+            journal.flush();
+            journal.setTotalCoins(new TotalCoins(20));
+            journal.flush();
+            Files.copy(journalFile(), crashed.resolve(GameConstants.JOURNAL_FILE));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(crashed.resolve(GameConstants.JOURNAL_FILE).toFile(), "rw")) {
+            // Flip the last byte of the value of the second record
+            file.seek(file.length() - 1);
+            int last = file.read();
+            file.seek(file.length() - 1);
+            file.write(last ^ 0xFF);
+        }
+
+        // Act
+        try (PlayerDataJournal recovered = PlayerDataJournal.open(crashed, NO_AUTO_FLUSH, 1000)) {
+            // Assert
+            assertEquals(10, recovered.getTotalCoins().getTotal());
+            assertEquals(0, Files.size(crashed.resolve(GameConstants.JOURNAL_FILE)));
+        }
+    }
+
+    @Test
+    @DisplayName("flush: many coin changes between two flushes are written as one record")
+    void flush_batchesChanges() throws IOException {
+        try (PlayerDataJournal journal = open()) {
+            // Act
+            for (int coins = 1; coins <= 100; coins++) {
+                journal.setTotalCoins(new TotalCoins(coins));
+            }
+            journal.flush();
+
+            // Assert: 8 bytes of header, 1 byte of kind and 4 bytes of value
+            assertEquals(13, Files.size(journalFile()));
+            assertEquals(100, journal.getTotalCoins().getTotal());
+        }
+    }
+
+    @Test
+    @DisplayName("compact: writes the snapshot files and empties the journal")
+    void compact_writesSnapshots() throws Exception {
+        try (PlayerDataJournal journal = open()) {
+            // Arrange
+            journal.setHighScore(new HighScore(99));
+            journal.flush();
+
+            // Act
+            journal.compact();
+
+            // Assert
+            assertEquals(0, Files.size(journalFile()));
+            try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(directory.resolve(GameConstants.HIGH_SCORE_FILE)))) {
+                assertEquals(99, ((HighScore) in.readObject()).getHigh());
+            }
+            assertFalse(Files.exists(directory.resolve(GameConstants.HIGH_SCORE_FILE + ".tmp")));
+        }
+    }
+
+    @Test
+    @DisplayName("flush: coins picked up while batches and snapshots are written all reach the disk")
+    void flush_concurrentChanges_keepsLatestValue() throws Exception {
+        // Arrange: compact every few batches so the writes also overlap the snapshots
+        int lastCoins = 5000;
+        PlayerDataJournal journal = PlayerDataJournal.open(directory, NO_AUTO_FLUSH, 3);
+        Thread game = new Thread(() -> {
+            for (int coins = 1; coins <= lastCoins; coins++) {
+                journal.setTotalCoins(new TotalCoins(coins));
+            }
+        });
+
+        // Act
+        game.start();
+        while (game.isAlive()) {
+            journal.flush();
+        }
+        game.join();
+        journal.close();
+
+        // Assert
+        try (PlayerDataJournal reopened = open()) {
+            assertEquals(lastCoins, reopened.getTotalCoins().getTotal());
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.components.CollectedCoinsComponent;
+import com.dinosaur.dinosaurexploder.components.ScoreComponent;
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import com.dinosaur.dinosaurexploder.model.HighScore;
+import com.dinosaur.dinosaurexploder.model.PlayerProfile;
+import com.dinosaur.dinosaurexploder.model.Settings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfileStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file() {
+        return directory.resolve("profiles.bin");
+    }
+
+    @Test
+    @DisplayName("saveProfile: every field of the profile is read back after reopening")
+    void saveProfile_reopened_readsEveryField() throws IOException {
+        // Arrange
+        PlayerProfile profile = new PlayerProfile("Ada");
+        profile.setHighScore(1200);
+        profile.setTotalCoins(75);
+        profile.setUnlockedShips(0b1011);
+        profile.setUnlockedWeapons(0b111);
+        profile.getSettings().setVolume(0.4);
+        profile.getSettings().setMuted(true);
+        profile.getSettings().setLanguage("Japanese");
+        profile.getSettings().setQuality(QualityLevel.MEDIUM);
+        profile.setGamesPlayed(9);
+        profile.setDinosaursKilled(321);
+        profile.setPlaySeconds(4000);
+
+        // Act
+        try (ProfileStore store = ProfileStore.open(file())) {
+            store.saveProfile(profile);
+        }
+        PlayerProfile read;
+        try (ProfileStore store = ProfileStore.open(file())) {
+            read = store.getProfile("Ada");
+        }
+
+        // Assert
+        assertEquals(1200, read.getHighScore());
+        assertEquals(75, read.getTotalCoins());
+        assertTrue(read.isShipUnlocked(4));
+        assertFalse(read.isShipUnlocked(3));
+        assertTrue(read.isWeaponUnlocked(3));
+        assertEquals(0.4, read.getSettings().getVolume());
+        assertTrue(read.getSettings().isMuted());
+        assertEquals("Japanese", read.getSettings().getLanguage());
+        assertEquals(QualityLevel.MEDIUM, read.getSettings().getQuality());
+        assertEquals(9, read.getGamesPlayed());
+        assertEquals(321, read.getDinosaursKilled());
+        assertEquals(4000, read.getPlaySeconds());
+    }
+
+    @Test
+    @DisplayName("setHighScore: updates the record in place without changing the file size")
+    void setHighScore_updatesInPlace() throws IOException {
+        // Arrange
+        try (ProfileStore store = ProfileStore.open(file())) {
+            store.getOrCreateProfile("Ada");
+            store.getOrCreateProfile("Bob");
+            long size = Files.size(file());
+
+            // Act
+            store.setHighScore("Bob", 500);
+            store.setTotalCoins("Bob", 30);
+            store.recordGame("Bob", 12, 90);
+
+            // Assert
+            assertEquals(size, Files.size(file()));
+            PlayerProfile bob = store.getProfile("Bob");
+            assertEquals(500, bob.getHighScore());
+            assertEquals(30, bob.getTotalCoins());
+            assertEquals(1, bob.getGamesPlayed());
+            assertEquals(12, bob.getDinosaursKilled());
+            assertEquals(0, store.getProfile("Ada").getHighScore());
+        }
+    }
+
+    @Test
+    @DisplayName("saveProfile: the file grows past its capacity and keeps every profile")
+    void saveProfile_beyondCapacity_growsFile() throws IOException {
+        // Arrange
+        try (ProfileStore store = ProfileStore.open(file(), 2)) {
+            // Act
+            for (int i = 0; i < 5; i++) {
+                PlayerProfile profile = new PlayerProfile("player" + i);
+                profile.setHighScore(i * 100);
+                store.saveProfile(profile);
+            }
+        }
+
+        // Assert
+        try (ProfileStore store = ProfileStore.open(file())) {
+            assertEquals(List.of("player0", "player1", "player2", "player3", "player4"), store.getProfileNames());
+            assertEquals(400, store.getProfile("player4").getHighScore());
+            assertEquals(100, store.getProfile("player1").getHighScore());
+            assertFalse(Files.exists(directory.resolve("profiles.bin.tmp")));
+        }
+    }
+
+    @Test
+    @DisplayName("getOrCreateProfile: new profiles start with the free ships and weapon unlocked")
+    void getOrCreateProfile_newProfile_hasDefaults() throws IOException {
+        try (ProfileStore store = ProfileStore.open(file())) {
+            // Act
+            PlayerProfile profile = store.getOrCreateProfile("New");
+
+            // Assert
+            assertTrue(profile.isShipUnlocked(1));
+            assertTrue(profile.isShipUnlocked(2));
+            assertFalse(profile.isShipUnlocked(3));
+            assertTrue(profile.isWeaponUnlocked(1));
+            assertEquals(1.0, profile.getSettings().getVolume());
+            assertEquals(1, store.size());
+        }
+    }
+
+    @Test
+    @DisplayName("getProfile: an unknown stored quality falls back to the default quality")
+    void getProfile_unknownQuality_fallsBackToDefault() throws IOException {
+        // Arrange
+        try (ProfileStore store = ProfileStore.open(file())) {
+            store.getOrCreateProfile("Ada");
+        }
+        int qualityAt = ProfileStore.recordOffset(ProfileStore.DEFAULT_CAPACITY, 0) + ProfileStore.QUALITY_AT;
+        try (RandomAccessFile raw = new RandomAccessFile(file().toFile(), "rw")) {
+            raw.seek(qualityAt);
+            raw.writeByte(42);
+        }
+
+        try (ProfileStore store = ProfileStore.open(file())) {
+            // Act
+            PlayerProfile profile = store.getProfile("Ada");
+
+            // Assert
+            assertEquals(QualityLevel.HIGH, profile.getSettings().getQuality());
+        }
+    }
+
+    @Test
+    @DisplayName("open: a profile count above the capacity is refused")
+    void open_countAboveCapacity_throws() throws IOException {
+        // Arrange: the count is the int at byte 12 of the header
+        try (ProfileStore store = ProfileStore.open(file(), 2)) {
+            store.getOrCreateProfile("Ada");
+        }
+        try (RandomAccessFile raw = new RandomAccessFile(file().toFile(), "rw")) {
+            raw.seek(12);
+            raw.writeInt(3);
+        }
+
+        // Act + Assert
+        assertThrows(IOException.class, () -> ProfileStore.open(file()));
+    }
+
+    @Test
+    @DisplayName("open: a file shorter than its capacity is refused")
+    void open_truncatedFile_throws() throws IOException {
+        // Arrange
+        try (ProfileStore store = ProfileStore.open(file())) {
+            store.getOrCreateProfile("Ada");
+        }
+        try (RandomAccessFile raw = new RandomAccessFile(file().toFile(), "rw")) {
+            raw.setLength(raw.length() - ProfileStore.RECORD_SIZE);
+        }
+
+        // Act + Assert
+        assertThrows(IOException.class, () -> ProfileStore.open(file()));
+    }
+
+    @Test
+    @DisplayName("saveProfile: names longer than the record allows are refused")
+    void saveProfile_nameTooLong_throws() throws IOException {
+        try (ProfileStore store = ProfileStore.open(file())) {
+            PlayerProfile profile = new PlayerProfile("x".repeat(ProfileStore.NAME_SIZE));
+
+            assertThrows(IllegalArgumentException.class, () -> store.saveProfile(profile));
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    @DisplayName("ProfileDataProvider: reads and writes the data of its own profile only")
+    void profileDataProvider_usesItsProfile() throws IOException {
+        try (ProfileStore store = ProfileStore.open(file())) {
+            // Arrange
+            ProfileDataProvider ada = new ProfileDataProvider(store, "Ada");
+            ProfileDataProvider bob = new ProfileDataProvider(store, "Bob");
+
+            // Act
+            ada.saveHighScore(new HighScore(700));
+
+            // Assert
+            assertEquals(700, ada.getHighScore().getHigh());
+            assertEquals(0, bob.getHighScore().getHigh());
+            assertEquals(0, bob.getTotalCoins().getTotal());
+        }
+    }
+
+    @Test
+    @DisplayName("ProfileDataProvider: the score and coins of a game session are saved to its profile")
+    void profileDataProvider_gameSession_savesToProfile() throws IOException {
+        try (ProfileStore store = ProfileStore.open(file())) {
+            // Arrange
+            GameContext context = new GameContext(new ProfileDataProvider(store, "Ada"));
+            ScoreComponent score = new ScoreComponent(context);
+            CollectedCoinsComponent coins = new CollectedCoinsComponent(context);
+
+            // Act
+            score.incrementScore(250);
+            coins.addCoins(12);
+
+            // Assert
+            PlayerProfile profile = store.getProfile("Ada");
+            assertEquals(250, profile.getHighScore());
+            assertEquals(12, profile.getTotalCoins());
+        }
+    }
+
+    @Test
+    @DisplayName("ProfileDataProvider: settings are saved to the profile and leave its score alone")
+    void profileDataProvider_saveSettings_writesProfileSettings() throws IOException {
+        try (ProfileStore store = ProfileStore.open(file())) {
+            // Arrange
+            ProfileDataProvider ada = new ProfileDataProvider(store, "Ada");
+            ada.saveHighScore(new HighScore(300));
+            Settings settings = ada.loadSettings();
+            settings.setVolume(0.25);
+            settings.setMuted(true);
+            settings.setLanguage("German");
+            settings.setQuality(QualityLevel.LOW);
+
+            // Act
+            ada.saveSettings(settings);
+
+            // Assert
+            Settings read = new ProfileDataProvider(store, "Ada").loadSettings();
+            assertEquals(0.25, read.getVolume());
+            assertTrue(read.isMuted());
+            assertEquals("German", read.getLanguage());
+            assertEquals(QualityLevel.LOW, read.getQuality());
+            assertEquals(300, ada.getHighScore().getHigh());
+            assertEquals(1.0, new ProfileDataProvider(store, "Bob").loadSettings().getVolume());
+        }
+    }
+}
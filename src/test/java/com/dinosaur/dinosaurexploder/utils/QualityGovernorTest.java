@@ -0,0 +1,113 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QualityGovernorTest {
+    private static final double SLOW_FRAME = 1.0 / 30;
+    private static final double FAST_FRAME = 1.0 / 60;
+
+    QualityGovernor governor;
+
+    @BeforeEach
+    void setup() {
+        governor = new QualityGovernor();
+    }
+
+    private void feed(double frameTime, int frames) {
+        for (int i = 0; i < frames; i++) {
+            governor.sample(frameTime);
+        }
+    }
+
+    @Test
+    @DisplayName("sample: sustained slow frames step the tier down one level at a time")
+    void sample_slowFrames_stepDown() {
+        // Act
+        feed(SLOW_FRAME, QualityGovernor.DOWNGRADE_FRAMES + 20);
+
+        // Assert
+        assertEquals(QualityLevel.MEDIUM, governor.getTier());
+
+        // Act
+        feed(SLOW_FRAME, QualityGovernor.DOWNGRADE_FRAMES);
+
+        // Assert
+        assertEquals(QualityLevel.LOW, governor.getTier());
+    }
+
+    @Test
+    @DisplayName("sample: a short hitch does not change the tier")
+    void sample_shortHitch_keepsTier() {
+        // Act
+        feed(FAST_FRAME, 60);
+        feed(SLOW_FRAME, 5);
+        feed(FAST_FRAME, 60);
+
+        // Assert
+        assertEquals(QualityLevel.HIGH, governor.getTier());
+    }
+
+    @Test
+    @DisplayName("sample: headroom steps back up only after the longer upgrade delay")
+    void sample_headroom_stepsUpSlowly() {
+        // Arrange
+        feed(SLOW_FRAME, QualityGovernor.DOWNGRADE_FRAMES + 20);
+        assertEquals(QualityLevel.MEDIUM, governor.getTier());
+
+        // Act
+        feed(FAST_FRAME, QualityGovernor.DOWNGRADE_FRAMES);
+
+        // Assert
+        assertEquals(QualityLevel.MEDIUM, governor.getTier());
+
+        // Act
+        feed(FAST_FRAME, QualityGovernor.UPGRADE_FRAMES);
+
+        // Assert
+        assertEquals(QualityLevel.HIGH, governor.getTier());
+    }
+
+    @Test
+    @DisplayName("setMaxTier: the tier never goes above the settings quality")
+    void setMaxTier_capsTier() {
+        // Act
+        governor.setMaxTier(QualityLevel.MEDIUM);
+        feed(FAST_FRAME, QualityGovernor.UPGRADE_FRAMES * 3);
+
+        // Assert
+        assertEquals(QualityLevel.MEDIUM, governor.getTier());
+    }
+
+    @Test
+    @DisplayName("setCeiling: the server cap lowers the tier and lifting it lets the tier climb back")
+    void setCeiling_capsUntilLifted() {
+        // Act
+        governor.setCeiling(QualityLevel.LOW);
+
+        // Assert
+        assertEquals(QualityLevel.LOW, governor.getTier());
+
+        // Act
+        governor.setCeiling(QualityLevel.HIGH);
+        feed(FAST_FRAME, QualityGovernor.UPGRADE_FRAMES * 2);
+
+        // Assert
+        assertEquals(QualityLevel.HIGH, governor.getTier());
+    }
+
+    @Test
+    @DisplayName("sample: pauses longer than a quarter second are ignored")
+    void sample_pause_isIgnored() {
+        // Act
+        feed(2.0, QualityGovernor.DOWNGRADE_FRAMES * 2);
+
+        // Assert
+        assertEquals(QualityLevel.HIGH, governor.getTier());
+        assertEquals(QualityGovernor.TARGET_FRAME_TIME, governor.getAverageFrameTime(), 1e-9);
+    }
+}
@@ -0,0 +1,73 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.almasb.fxgl.entity.Entity;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Text;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SceneMutationCounterTest {
+
+    SceneMutationCounter counter;
+
+    @BeforeEach
+    void setup() {
+        counter = new SceneMutationCounter();
+    }
+
+    @Test
+    @DisplayName("setText: an equal text is not set again and not counted")
+    void setText_equalValue_isSkipped() {
+        // Arrange
+        Text text = new Text("Score: 1");
+
+        // Act
+        boolean same = counter.setText(text, new String("Score: 1"));
+        boolean changed = counter.setText(text, "Score: 2");
+
+        // Assert
+        assertFalse(same);
+        assertTrue(changed);
+        assertEquals("Score: 2", text.getText());
+        assertEquals(1, counter.getTotalMutations());
+    }
+
+    @Test
+    @DisplayName("setVisible and setWidth: only real changes are counted")
+    void setters_countRealChangesOnly() {
+        // Arrange
+        Rectangle rectangle = new Rectangle(200, 25);
+
+        // Act
+        counter.setVisible(rectangle, true);
+        counter.setWidth(rectangle, 200);
+        counter.setVisible(rectangle, false);
+        counter.setWidth(rectangle, 150);
+
+        // Assert
+        assertEquals(2, counter.getTotalMutations());
+        assertFalse(rectangle.isVisible());
+        assertEquals(150, rectangle.getWidth());
+    }
+
+    @Test
+    @DisplayName("endFrame: reports the changes of the last frame and starts a new one")
+    void endFrame_reportsLastFrame() {
+        // Arrange
+        counter.onEntityAdded(new Entity());
+        counter.onEntityRemoved(new Entity());
+        counter.count(3);
+
+        // Act
+        counter.endFrame();
+        counter.endFrame();
+
+        // Assert
+        assertEquals(0, counter.getLastFrameMutations());
+        assertEquals(5, counter.getTotalMutations());
+        assertTrue(counter.getAverageMutations() > 0);
+    }
+}
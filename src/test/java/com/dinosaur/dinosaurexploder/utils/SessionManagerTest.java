@@ -0,0 +1,186 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.AdmissionResult;
+import com.dinosaur.dinosaurexploder.model.GameContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionManagerTest {
+    private static final long SECONDS = 1_000_000_000L;
+    private static final long LARGE_HEAP = 64L * SessionManager.SESSION_HEAP_ESTIMATE;
+
+    private long now;
+    private long usedHeap;
+    private List<String> started;
+    private List<String> evicted;
+    private GameContext context;
+
+    @BeforeEach
+    void setup() {
+        now = 0;
+        usedHeap = 0;
+        started = new ArrayList<>();
+        evicted = new ArrayList<>();
+        context = new GameContext();
+    }
+
+    private SessionManager createManager(int maxSessions, int maxQueued, long maxHeap) {
+        return new SessionManager(maxSessions, maxQueued, 60, 120, maxHeap, () -> usedHeap, () -> now, Runnable::run);
+    }
+
+    private GameSession createSession(SessionManager manager, String id) {
+        return manager.createSession(id, context, session -> started.add(session.getId()), () -> evicted.add(id));
+    }
+
+    @Test
+    @DisplayName("admit: sessions above the limit are queued, then refused once the queue is full")
+    void admit_aboveLimit_queuesThenRejects() {
+        // Arrange
+        SessionManager manager = createManager(2, 1, LARGE_HEAP);
+
+        // Act
+        AdmissionResult first = manager.admit(createSession(manager, "a"));
+        AdmissionResult second = manager.admit(createSession(manager, "b"));
+        AdmissionResult third = manager.admit(createSession(manager, "c"));
+        AdmissionResult fourth = manager.admit(createSession(manager, "d"));
+
+        // Assert
+        assertEquals(AdmissionResult.ADMITTED, first);
+        assertEquals(AdmissionResult.ADMITTED, second);
+        assertEquals(AdmissionResult.QUEUED, third);
+        assertEquals(AdmissionResult.REJECTED, fourth);
+        assertEquals(List.of("a", "b"), started);
+    }
+
+    @Test
+    @DisplayName("release: a closed session releases its resources and starts the first waiting one")
+    void release_startsQueuedSession() {
+        // Arrange
+        SessionManager manager = createManager(1, 2, LARGE_HEAP);
+        GameSession first = createSession(manager, "a");
+        GameSession waiting = createSession(manager, "b");
+        manager.admit(first);
+        manager.admit(waiting);
+        List<String> released = new ArrayList<>();
+        first.addReleaseAction(() -> released.add("audio"));
+
+        // Act
+        manager.release(first);
+
+        // Assert
+        assertEquals(List.of("audio"), released);
+        assertEquals(List.of("a", "b"), started);
+        assertEquals(1, manager.getLiveCount());
+        assertEquals(0, manager.getQueuedCount());
+    }
+
+    @Test
+    @DisplayName("admit: a session is queued when the heap would not hold it")
+    void admit_heapFull_queues() {
+        // Arrange
+        SessionManager manager = createManager(10, 1, 4 * SessionManager.SESSION_HEAP_ESTIMATE);
+        usedHeap = 3 * SessionManager.SESSION_HEAP_ESTIMATE;
+
+        // Act
+        AdmissionResult result = manager.admit(createSession(manager, "a"));
+
+        // Assert
+        assertEquals(AdmissionResult.QUEUED, result);
+        assertTrue(started.isEmpty());
+    }
+
+    @Test
+    @DisplayName("admitWaiting: sessions queued on the heap start once it is freed, without any session leaving")
+    void admitWaiting_heapFreed_startsQueuedSessions() {
+        // Arrange
+        SessionManager manager = createManager(10, 4, 4 * SessionManager.SESSION_HEAP_ESTIMATE);
+        usedHeap = 3 * SessionManager.SESSION_HEAP_ESTIMATE;
+        manager.admit(createSession(manager, "a"));
+        manager.admit(createSession(manager, "b"));
+        manager.admitWaiting();
+        List<String> startedWhileFull = new ArrayList<>(started);
+
+        // Act
+        usedHeap = 0;
+        manager.admitWaiting();
+
+        // Assert
+        assertTrue(startedWhileFull.isEmpty());
+        assertEquals(List.of("a", "b"), started);
+        assertEquals(2, manager.getLiveCount());
+        assertEquals(0, manager.getQueuedCount());
+    }
+
+    @Test
+    @DisplayName("heapUsedAfterCollection: garbage allocated since the last collection is not counted")
+    void heapUsedAfterCollection_ignoresGarbage() {
+        // Arrange
+        System.gc();
+        long before = SessionManager.heapUsedAfterCollection();
+
+        // Act: a few times the session estimate of short lived garbage, without a collection in between
+        long checksum = 0;
+        for (int i = 0; i < 64; i++) {
+            byte[] garbage = new byte[1024 * 1024];
+            checksum += garbage.length;
+        }
+        long after = SessionManager.heapUsedAfterCollection();
+
+        // Assert
+        assertEquals(64L * 1024 * 1024, checksum);
+        assertTrue(before > 0, "The heap in use after a collection should be known");
+        assertTrue(after <= Runtime.getRuntime().maxMemory());
+        assertTrue(after - before < SessionManager.SESSION_HEAP_ESTIMATE,
+                "Garbage should not count as used heap, grew by " + (after - before));
+    }
+
+    @Test
+    @DisplayName("evictIdleSessions: idle and long paused sessions are closed, active ones stay")
+    void evictIdleSessions_closesExpiredSessions() {
+        // Arrange
+        SessionManager manager = createManager(10, 0, LARGE_HEAP);
+        GameSession idle = createSession(manager, "idle");
+        GameSession active = createSession(manager, "active");
+        manager.admit(idle);
+        manager.admit(active);
+
+        // Act
+        now += 50 * SECONDS;
+        active.markActive();
+        now += 20 * SECONDS;
+        int closed = manager.evictIdleSessions();
+
+        // Assert
+        assertEquals(1, closed);
+        assertEquals(List.of("idle"), evicted);
+        assertEquals(1, manager.getLiveCount());
+    }
+
+    @Test
+    @DisplayName("getPausedTime: counts from the first time the session is seen paused")
+    void getPausedTime_countsWhilePaused() {
+        // Arrange
+        SessionManager manager = createManager(10, 0, LARGE_HEAP);
+        GameSession session = createSession(manager, "a");
+        context.setPaused(true);
+        session.getPausedTime();
+
+        // Act
+        now += 30 * SECONDS;
+
+        // Assert
+        assertEquals(30, session.getPausedTime(), 1e-9);
+
+        // Act
+        context.setPaused(false);
+
+        // Assert
+        assertEquals(0, session.getPausedTime());
+    }
+}
@@ -0,0 +1,159 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.almasb.fxgl.time.Timer;
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionTickSchedulerTest {
+    private static final long MILLIS = 1_000_000L;
+    private static final long FRAME = 16 * MILLIS;
+
+    private long now;
+    private SessionTickScheduler scheduler;
+
+    @BeforeEach
+    void setup() {
+        now = 0;
+        scheduler = new SessionTickScheduler(() -> now);
+    }
+
+    // Runs ticks that cost the given time, one frame apart
+    private void tick(SessionTicker ticker, long cost, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            ticker.beginTick();
+            now += cost;
+            ticker.endTick();
+            now += FRAME - cost;
+        }
+    }
+
+    @Test
+    @DisplayName("getSessionBudget: the update part of the frame is split between the sessions")
+    void getSessionBudget_splitsFrame() {
+        // Arrange
+        double single = SessionTickScheduler.FRAME_BUDGET * SessionTickScheduler.UPDATE_SHARE;
+
+        // Act
+        SessionTicker first = scheduler.register("a", new QualityGovernor());
+        scheduler.register("b", new QualityGovernor());
+
+        // Assert
+        assertEquals(single / 2, scheduler.getSessionBudget(), 1e-9);
+
+        // Act
+        first.close();
+
+        // Assert
+        assertEquals(single, scheduler.getSessionBudget(), 1e-9);
+        assertEquals(1, scheduler.getSessionCount());
+    }
+
+    @Test
+    @DisplayName("endTick: a session over its budget is degraded while a light one is left alone")
+    void endTick_heavySession_isDegraded() {
+        // Arrange
+        QualityGovernor heavyGovernor = new QualityGovernor();
+        SessionTicker heavy = scheduler.register("heavy", heavyGovernor);
+        SessionTicker light = scheduler.register("light", new QualityGovernor());
+
+        // Act
+        tick(heavy, 8 * MILLIS, SessionTicker.DEGRADE_TICKS * 5);
+        tick(light, MILLIS, SessionTicker.DEGRADE_TICKS * 5);
+
+        // Assert
+        assertEquals(SessionTicker.MAX_LEVEL, heavy.getLevel());
+        assertEquals(QualityLevel.LOW, heavyGovernor.getTier());
+        assertEquals(3, heavy.getRenderStride());
+        assertEquals(0, light.getLevel());
+        assertEquals(1, light.getRenderStride());
+    }
+
+    // Runs frames the way the game does: the scene timer begins the tick, then the world update
+    // and the game logic run, then the game ends the tick
+    private void frame(SessionTicker ticker, Timer sceneTimer, long worldCost, long logicCost, int frames) {
+        for (int i = 0; i < frames; i++) {
+            sceneTimer.update(FRAME / 1e9);
+            now += worldCost;
+            now += logicCost;
+            ticker.endTick();
+            now += Math.max(0, FRAME - worldCost - logicCost);
+        }
+    }
+
+    @Test
+    @DisplayName("beginTicksOn: a heavy world update degrades the session even when the game logic is cheap")
+    void beginTicksOn_heavyWorld_degradesGovernor() {
+        // Arrange
+        QualityGovernor governor = new QualityGovernor();
+        SessionTicker ticker = scheduler.register("a", governor);
+        Timer sceneTimer = new Timer();
+        ticker.beginTicksOn(sceneTimer);
+
+        // Act
+        frame(ticker, sceneTimer, 12 * MILLIS, MILLIS / 2, SessionTicker.DEGRADE_TICKS * 3);
+
+        // Assert
+        assertTrue(ticker.getAverageCost() > ticker.getBudget());
+        assertEquals(QualityLevel.LOW, governor.getCeiling());
+        assertEquals(QualityLevel.LOW, governor.getTier());
+        assertEquals(SessionTicker.DEGRADE_TICKS * 3, ticker.getTickCount());
+    }
+
+    @Test
+    @DisplayName("beginTicksOn: a light frame leaves the governor at its tier")
+    void beginTicksOn_lightFrame_keepsTier() {
+        // Arrange
+        QualityGovernor governor = new QualityGovernor();
+        SessionTicker ticker = scheduler.register("a", governor);
+        Timer sceneTimer = new Timer();
+        ticker.beginTicksOn(sceneTimer);
+
+        // Act
+        frame(ticker, sceneTimer, 2 * MILLIS, MILLIS / 2, SessionTicker.DEGRADE_TICKS * 3);
+
+        // Assert
+        assertEquals(0, ticker.getLevel());
+        assertEquals(QualityLevel.HIGH, governor.getTier());
+    }
+
+    @Test
+    @DisplayName("endTick: a degraded session recovers one level at a time once it is cheap again")
+    void endTick_cheapAgain_recovers() {
+        // Arrange
+        QualityGovernor governor = new QualityGovernor();
+        SessionTicker ticker = scheduler.register("a", governor);
+        tick(ticker, 15 * MILLIS, SessionTicker.DEGRADE_TICKS + 20);
+        assertEquals(1, ticker.getLevel());
+        assertEquals(QualityLevel.MEDIUM, governor.getCeiling());
+
+        // Act
+        tick(ticker, MILLIS, SessionTicker.RECOVER_TICKS + 30);
+
+        // Assert
+        assertEquals(0, ticker.getLevel());
+        assertEquals(QualityLevel.HIGH, governor.getCeiling());
+    }
+
+    @Test
+    @DisplayName("beginTick: the time between ticks is reported as the tick latency")
+    void beginTick_measuresLatency() {
+        // Arrange
+        SessionTicker ticker = scheduler.register("a", new QualityGovernor());
+
+        // Act
+        tick(ticker, MILLIS, 100);
+        ticker.beginTick();
+        now += 100 * MILLIS;
+        ticker.beginTick();
+
+        // Assert
+        assertEquals(0.016, ticker.getAverageLatency(), 0.01);
+        assertEquals(0.1, ticker.getMaxLatency(), 1e-9);
+        assertEquals(100, ticker.getTickCount());
+        assertEquals(ticker.getAverageLatency(), scheduler.getWorstAverageLatency(), 1e-12);
+    }
+}
@@ -1,15 +1,54 @@
 package com.dinosaur.dinosaurexploder.utils;
 
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
 import com.dinosaur.dinosaurexploder.model.Settings;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
 
 public class SettingsProviderTest {
 
+    // Saves only reach the disk when the journal closes
+    private static final long NO_AUTO_FLUSH = 60_000;
+
+    @TempDir
+    Path directory;
+
+    private PlayerDataJournal open() throws IOException {
+        return PlayerDataJournal.open(directory, NO_AUTO_FLUSH, PlayerDataJournal.DEFAULT_COMPACT_EVERY);
+    }
+
+    @Test
+    public void testLoadSettings() throws IOException {
+        try (PlayerDataJournal journal = open()) {
+            Settings settings = SettingsProvider.loadSettings(journal);
+            Assertions.assertNotNull(settings, "Settings should always be available. At least the default settings");
+        }
+    }
+
+    @Test
+    public void testQualityIsSavedAndLoaded() throws IOException {
+        try (PlayerDataJournal journal = open()) {
+            Settings settings = SettingsProvider.loadSettings(journal);
+            settings.setQuality(QualityLevel.LOW);
+            SettingsProvider.saveSettings(settings, journal);
+            Assertions.assertEquals(QualityLevel.LOW, SettingsProvider.loadSettings(journal).getQuality());
+        }
+
+        // The saved quality survives reopening the journal
+        try (PlayerDataJournal journal = open()) {
+            Assertions.assertEquals(QualityLevel.LOW, SettingsProvider.loadSettings(journal).getQuality());
+        }
+    }
+
     @Test
-    public void testLoadSettings(){
-        Settings settings = SettingsProvider.loadSettings();
-        Assertions.assertNotNull(settings, "Settings should always be available. At least the default settings");
+    public void testUnknownQualityFallsBackToHigh(){
+        Assertions.assertEquals(QualityLevel.HIGH, QualityLevel.fromName(null));
+        Assertions.assertEquals(QualityLevel.HIGH, QualityLevel.fromName("ultra"));
+        Assertions.assertEquals(QualityLevel.MEDIUM, QualityLevel.fromName("medium"));
     }
 
 }
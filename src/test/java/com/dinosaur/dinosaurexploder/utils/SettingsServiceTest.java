@@ -0,0 +1,91 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.QualityLevel;
+import com.dinosaur.dinosaurexploder.model.Settings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SettingsServiceTest {
+    private static final long DEBOUNCE_MILLIS = 100;
+
+    private List<Settings> saved;
+    private CountDownLatch firstSave;
+
+    @BeforeEach
+    void setup() {
+        saved = new CopyOnWriteArrayList<>();
+        firstSave = new CountDownLatch(1);
+    }
+
+    private SettingsService createService(long debounceMillis) {
+        Settings initial = new Settings();
+        initial.setVolume(1.0);
+        return new SettingsService(() -> initial, settings -> {
+            saved.add(settings);
+            firstSave.countDown();
+        }, debounceMillis);
+    }
+
+    @Test
+    @DisplayName("setVolume: a burst of changes like a slider drag is saved once with the last value")
+    void setVolume_burst_savesOnce() throws InterruptedException {
+        // Arrange
+        SettingsService service = createService(DEBOUNCE_MILLIS);
+
+        // Act
+        for (int step = 0; step <= 50; step++) {
+            service.setVolume(step / 100.0);
+        }
+
+        // Assert
+        assertTrue(firstSave.await(2, TimeUnit.SECONDS));
+        Thread.sleep(DEBOUNCE_MILLIS * 2);
+        assertEquals(1, saved.size());
+        assertEquals(0.5, saved.get(0).getVolume());
+        assertEquals(0.5, service.getSettings().getVolume());
+    }
+
+    @Test
+    @DisplayName("addListener: listeners are told about every real change, not about unchanged values")
+    void addListener_notifiedOnChange() {
+        // Arrange
+        SettingsService service = createService(DEBOUNCE_MILLIS);
+        List<QualityLevel> qualities = new ArrayList<>();
+        service.addListener(settings -> qualities.add(settings.getQuality()));
+
+        // Act
+        service.setQuality(QualityLevel.LOW);
+        service.setQuality(QualityLevel.LOW);
+        service.setQuality(QualityLevel.MEDIUM);
+
+        // Assert
+        assertEquals(List.of(QualityLevel.LOW, QualityLevel.MEDIUM), qualities);
+    }
+
+    @Test
+    @DisplayName("flush: writes a pending change right away")
+    void flush_savesPendingChange() {
+        // Arrange
+        SettingsService service = createService(60_000);
+        service.setMuted(true);
+        service.setLanguage("German");
+
+        // Act
+        service.flush();
+        service.flush();
+
+        // Assert
+        assertEquals(1, saved.size());
+        assertTrue(saved.get(0).isMuted());
+        assertEquals("German", saved.get(0).getLanguage());
+    }
+}
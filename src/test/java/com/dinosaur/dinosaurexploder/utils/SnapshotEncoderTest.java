@@ -0,0 +1,106 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.model.WorldSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotEncoderTest {
+
+    SnapshotEncoder encoder;
+    WorldSnapshot snapshot;
+
+    @BeforeEach
+    void setup() {
+        encoder = new SnapshotEncoder();
+        snapshot = new WorldSnapshot(2);
+        snapshot.add(1, EntityType.PLAYER, 230.4, 550.6);
+        snapshot.add(2, EntityType.GREEN_DINO, 100, 20);
+        snapshot.add(3, EntityType.COIN, 300, 40);
+        snapshot.setHud(10, 3, 1);
+    }
+
+    @Test
+    @DisplayName("encodeDelta: the first message is a full snapshot with quantized positions")
+    void encodeDelta_first_isFull() throws IOException {
+        // Act
+        DataInputStream in = read(encoder.encodeDelta(snapshot));
+
+        // Assert
+        assertEquals(SnapshotEncoder.KIND_FULL, in.readUnsignedByte());
+        in.readInt();
+        assertEquals(7, in.readUnsignedByte());
+        assertEquals(10, in.readInt());
+        assertEquals(3, in.readByte());
+        assertEquals(1, in.readUnsignedShort());
+        int playerTypeId = -1;
+        int typeCount = in.readUnsignedByte();
+        assertEquals(EntityType.values().length, typeCount);
+        for (int i = 0; i < typeCount; i++) {
+            int typeId = in.readUnsignedByte();
+            byte[] name = new byte[in.readUnsignedByte()];
+            in.readFully(name);
+            if (new String(name, StandardCharsets.US_ASCII).equals("PLAYER")) {
+                playerTypeId = typeId;
+            }
+        }
+        assertEquals(3, in.readUnsignedShort());
+        assertEquals(1, in.readInt());
+        assertEquals(7, in.readUnsignedByte());
+        assertEquals(playerTypeId, in.readUnsignedByte());
+        assertEquals(230, in.readShort());
+        assertEquals(551, in.readShort());
+    }
+
+    @Test
+    @DisplayName("encodeDelta: only changed fields, removed ids and changed HUD values are sent")
+    void encodeDelta_sendsOnlyChanges() throws IOException {
+        // Arrange
+        encoder.encodeDelta(snapshot);
+        WorldSnapshot next = new WorldSnapshot(4);
+        next.add(1, EntityType.PLAYER, 230, 540);
+        next.add(2, EntityType.GREEN_DINO, 100, 20);
+        next.setHud(12, 3, 1);
+
+        // Act
+        DataInputStream in = read(encoder.encodeDelta(next));
+
+        // Assert
+        assertEquals(SnapshotEncoder.KIND_DELTA, in.readUnsignedByte());
+        in.readInt();
+        assertEquals(SnapshotEncoder.HUD_SCORE, in.readUnsignedByte());
+        assertEquals(12, in.readInt());
+        assertEquals(1, in.readUnsignedShort());
+        assertEquals(1, in.readInt());
+        assertEquals(SnapshotEncoder.FIELD_Y, in.readUnsignedByte());
+        assertEquals(540, in.readShort());
+        assertEquals(1, in.readUnsignedShort());
+        assertEquals(3, in.readInt());
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    @DisplayName("encodeDelta: an unchanged world costs only the fixed header")
+    void encodeDelta_unchanged_isTiny() {
+        // Arrange
+        encoder.encodeDelta(snapshot);
+
+        // Act
+        byte[] delta = encoder.encodeDelta(snapshot);
+
+        // Assert
+        assertEquals(1 + 4 + 1 + 2 + 2, delta.length);
+    }
+
+    private static DataInputStream read(byte[] message) {
+        return new DataInputStream(new ByteArrayInputStream(message));
+    }
+}
@@ -0,0 +1,45 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpectatorServerTest {
+
+    @Test
+    @DisplayName("acceptKey: matches the handshake example of the WebSocket specification")
+    void acceptKey_matchesSpecification() {
+        // Act
+        String accept = SpectatorServer.acceptKey("dGhlIHNhbXBsZSBub25jZQ==");
+
+        // Assert
+        assertEquals("s3pPLMBiTxaQ9kYGzzhZRbK+xOo=", accept);
+    }
+
+    @Test
+    @DisplayName("writeFrame: small and medium payloads use the short and 16 bit lengths")
+    void writeFrame_encodesLengths() throws IOException {
+        // Arrange
+        ByteArrayOutputStream small = new ByteArrayOutputStream();
+        ByteArrayOutputStream medium = new ByteArrayOutputStream();
+
+        // Act
+        SpectatorServer.writeFrame(small, new byte[10]);
+        SpectatorServer.writeFrame(medium, new byte[300]);
+
+        // Assert
+        byte[] smallFrame = small.toByteArray();
+        assertEquals((byte) 0x82, smallFrame[0]);
+        assertEquals(10, smallFrame[1]);
+        assertEquals(12, smallFrame.length);
+
+        byte[] mediumFrame = medium.toByteArray();
+        assertEquals(126, mediumFrame[1]);
+        assertEquals(300, ((mediumFrame[2] & 0xFF) << 8) | (mediumFrame[3] & 0xFF));
+        assertEquals(304, mediumFrame.length);
+    }
+}